@@ -1,47 +1,71 @@
 package com.example.companycoreserver.Filter;
 
+import com.example.companycoreserver.security.AuthenticatedUser;
+import com.example.companycoreserver.service.TokenVersionService;
 import com.example.companycoreserver.util.JwtUtil;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.List;
 
 @Component
 public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final TokenVersionService tokenVersionService;
 
-    public JwtFilter(JwtUtil jwtUtil) {
+    public JwtFilter(JwtUtil jwtUtil, TokenVersionService tokenVersionService) {
         this.jwtUtil = jwtUtil;
+        this.tokenVersionService = tokenVersionService;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-//
-//        String authHeader = request.getHeader("Authorization");
-//
-//        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-//            String token = authHeader.substring(7);
-//
-//            if (jwtUtil.validateToken(token)) {
-//                String employeeCode = jwtUtil.getEmployeeCodeFromToken(token);
-//
-//                UsernamePasswordAuthenticationToken authentication =
-//                        new UsernamePasswordAuthenticationToken(employeeCode, null, new ArrayList<>());
-//
-//                SecurityContextHolder.getContext().setAuthentication(authentication);
-//            }
-//        }
+
+        String authHeader = request.getHeader("Authorization");
+
+        // 토큰은 요청당 한 번만 검증하고, 결과(사용자 정보)를 SecurityContext 에 저장
+        // → 컨트롤러에서는 @CurrentUser 로 꺼내 씀
+        if (authHeader != null && authHeader.startsWith("Bearer ")
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            String token = authHeader.substring(7);
+
+            try {
+                AuthenticatedUser user = jwtUtil.getAuthenticatedUser(token);
+
+                // 로그아웃/재로그인으로 폐기된 토큰은 버전이 달라서 인증하지 않음
+                if (user.userId() != null && tokenVersionService.isCurrent(user.userId(), user.tokenVersion())) {
+                    List<GrantedAuthority> authorities = new ArrayList<>();
+                    if (user.role() != null) {
+                        authorities.add(new SimpleGrantedAuthority("ROLE_" + user.role().name()));
+                    }
+
+                    UsernamePasswordAuthenticationToken authentication =
+                            new UsernamePasswordAuthenticationToken(user, null, authorities);
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
+            } catch (JwtException | IllegalArgumentException e) {
+                // 유효하지 않은 토큰은 인증 정보 없이 진행 (각 API 에서 인증 필요 여부 판단)
+                System.err.println("JWT 인증 실패: " + e.getMessage());
+            }
+        }
 
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+}
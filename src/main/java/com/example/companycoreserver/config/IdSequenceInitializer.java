@@ -0,0 +1,56 @@
+package com.example.companycoreserver.config;
+
+import com.example.companycoreserver.entity.IdSequences;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * id_sequences 테이블 준비 (EntityManagerFactory 보다 먼저 실행)
+ * - 테이블이 없으면 생성
+ * - 각 시퀀스의 next_val 을 대상 테이블의 MAX(id)+1 이상으로 맞춤
+ *   → IDENTITY 로 쌓인 기존 데이터와 ID 가 겹치지 않음
+ * - 여러 서버가 동시에 시작해도 GREATEST 로 값이 줄어들지 않음 (다른 서버가 이미 받아간 구간 보호)
+ */
+@Component(IdSequenceInitializer.BEAN_NAME)
+public class IdSequenceInitializer {
+
+    public static final String BEAN_NAME = "idSequenceInitializer";
+
+    // (시퀀스 이름, 테이블, ID 컬럼)
+    private record Target(String sequence, String table, String idColumn) {
+    }
+
+    private static final List<Target> TARGETS = List.of(
+            new Target(IdSequences.MESSAGES, "messages", "message_id"),
+            new Target(IdSequences.ATTENDANCES, "attendances", "attendance_id"),
+            new Target(IdSequences.TASKS, "tasks", "task_id"),
+            new Target(IdSequences.TASK_ASSIGNMENTS, "task_assignment", "assignment_id")
+    );
+
+    public IdSequenceInitializer(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + IdSequences.TABLE + " (" +
+                IdSequences.NAME_COLUMN + " VARCHAR(255) NOT NULL PRIMARY KEY, " +
+                IdSequences.VALUE_COLUMN + " BIGINT)");
+
+        for (Target target : TARGETS) {
+            long nextValue = 1;
+            try {
+                Long maxId = jdbcTemplate.queryForObject(
+                        "SELECT COALESCE(MAX(" + target.idColumn() + "), 0) FROM " + target.table(), Long.class);
+                nextValue = (maxId != null ? maxId : 0) + 1;
+            } catch (DataAccessException e) {
+                // 첫 실행이라 테이블이 아직 없음 → 1부터 시작
+            }
+
+            jdbcTemplate.update("INSERT INTO " + IdSequences.TABLE + " (" + IdSequences.NAME_COLUMN + ", "
+                            + IdSequences.VALUE_COLUMN + ") VALUES (?, ?) " +
+                            "ON DUPLICATE KEY UPDATE " + IdSequences.VALUE_COLUMN + " = GREATEST("
+                            + IdSequences.VALUE_COLUMN + ", VALUES(" + IdSequences.VALUE_COLUMN + "))",
+                    target.sequence(), nextValue);
+        }
+        System.out.println("ID 시퀀스 초기화 완료: " + TARGETS.size() + "개");
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.companycoreserver.config;
 
 import com.example.companycoreserver.Filter.JwtFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -21,9 +22,10 @@ public class SecurityConfig {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
     }
 
+    // bcrypt cost factor - 값을 올리면 기존 해시는 다음 로그인 때 새 값으로 재해시됨
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${auth.bcrypt.strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
 
@@ -37,6 +39,8 @@ public class SecurityConfig {
 //                        .requestMatchers("/api/users/create").permitAll()
 //                        .requestMatchers("/api/users/**").authenticated()  // 사용자 관련 - 인증 필요
 //                        .requestMatchers("/api/users/first-login").authenticated()  // 첫 로그인 업데이트
+                                .requestMatchers("/api/auth/password-hashing/metrics",
+                                        "/api/auth/login-throttle/metrics").hasRole("ADMIN") // 🆕 운영 지표는 관리자만
                                 .requestMatchers("/api/**").permitAll() // API 경로 모두 허용
                                 .requestMatchers("/error").permitAll()   // 에러 페이지 허용
                                 .anyRequest().authenticated()
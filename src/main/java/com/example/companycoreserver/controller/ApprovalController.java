@@ -1,11 +1,15 @@
 package com.example.companycoreserver.controller;
 
+import com.example.companycoreserver.dto.ApprovalListView;
 import com.example.companycoreserver.dto.ApprovalResponse;
 import com.example.companycoreserver.entity.Approval;
 import com.example.companycoreserver.entity.Department;
 import com.example.companycoreserver.mapper.ApprovalMapper;
+import com.example.companycoreserver.security.AuthenticatedUser;
+import com.example.companycoreserver.security.CurrentUser;
 import com.example.companycoreserver.service.ApprovalService;
-import com.example.companycoreserver.util.JwtUtil;
+import com.example.companycoreserver.storage.AttachmentResource;
+import com.example.companycoreserver.util.AttachmentDownloadUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -27,17 +31,14 @@ public class ApprovalController {
     @Autowired
     private ApprovalMapper approvalMapper;
 
-    @Autowired
-    private JwtUtil jwtUtil;
-
     // ✅ 내가 요청한 결재 목록 - DTO 변환
     @GetMapping("/my-requests/{userId}")
     public ResponseEntity<List<ApprovalResponse>> getMyRequests(@PathVariable Long userId) {
-        List<Approval> approvals = approvalService.getMyRequests(userId);
+        List<ApprovalListView> approvals = approvalService.getMyRequests(userId);
 
-        // Entity → DTO 변환
+        // 목록 프로젝션 → DTO 변환
         List<ApprovalResponse> responses = new ArrayList<>();
-        for (Approval approval : approvals) {
+        for (ApprovalListView approval : approvals) {
             responses.add(approvalMapper.toResponse(approval));
         }
 
@@ -47,40 +48,25 @@ public class ApprovalController {
     // 🆕 내가 요청한 결재 목록 (간단한 버전 - 성능 최적화)
     @GetMapping("/my-requests/{userId}/simple")
     public ResponseEntity<List<Map<String, Object>>> getMyRequestsSimple(@PathVariable Long userId) {
-        List<Approval> approvals = approvalService.getMyRequests(userId);
+        List<ApprovalListView> approvals = approvalService.getMyRequests(userId);
 
         // 간단한 Map 형태로 변환하여 성능 최적화
         List<Map<String, Object>> responses = new ArrayList<>();
-        for (Approval approval : approvals) {
+        for (ApprovalListView approval : approvals) {
             Map<String, Object> simpleResponse = new HashMap<>();
-            simpleResponse.put("id", approval.getId());
-            simpleResponse.put("title", approval.getTitle());
-            simpleResponse.put("content", approval.getContent());
-            simpleResponse.put("status", approval.getStatus());
-            simpleResponse.put("requestDate", approval.getRequestDate());
+            simpleResponse.put("id", approval.id());
+            simpleResponse.put("title", approval.title());
+            simpleResponse.put("content", approval.content());
+            simpleResponse.put("status", approval.status());
+            simpleResponse.put("requestDate", approval.requestDate());
             // 첨부파일 정보는 목록에서 제외 (상세보기에서만 확인)
-            // simpleResponse.put("attachmentFilename", approval.getAttachmentFilename());
-            // simpleResponse.put("attachmentSize", approval.getAttachmentSize());
-            
-                         // 사용자 정보 (간단한 형태)
-             if (approval.getRequester() != null) {
-                 Map<String, Object> requesterInfo = new HashMap<>();
-                 requesterInfo.put("username", approval.getRequester().getUsername());
-                 
-                 // 부서 정보 디버깅
-                 String departmentName = "";
-                 if (approval.getRequester().getDepartment() != null) {
-                     departmentName = approval.getRequester().getDepartment().getDepartmentName();
-                     System.out.println("🔍 부서 정보 확인 - 사용자: " + approval.getRequester().getUsername() + 
-                                      ", 부서: " + departmentName);
-                 } else {
-                     System.out.println("⚠️ 부서 정보 없음 - 사용자: " + approval.getRequester().getUsername());
-                 }
-                 
-                 requesterInfo.put("department", departmentName);
-                 simpleResponse.put("requester", requesterInfo);
-             }
-            
+
+            // 사용자 정보 (간단한 형태)
+            Map<String, Object> requesterInfo = new HashMap<>();
+            requesterInfo.put("username", approval.requesterName());
+            requesterInfo.put("department", approval.requesterDepartment() != null ? approval.requesterDepartment() : "");
+            simpleResponse.put("requester", requesterInfo);
+
             responses.add(simpleResponse);
         }
 
@@ -108,11 +94,11 @@ public class ApprovalController {
     // ✅ 내가 결재해야 할 목록 - DTO 변환
     @GetMapping("/my-approvals/{userId}")
     public ResponseEntity<List<ApprovalResponse>> getMyApprovals(@PathVariable Long userId) {
-        List<Approval> approvals = approvalService.getMyApprovals(userId);
+        List<ApprovalListView> approvals = approvalService.getMyApprovals(userId);
 
-        // Entity → DTO 변환
+        // 목록 프로젝션 → DTO 변환
         List<ApprovalResponse> responses = new ArrayList<>();
-        for (Approval approval : approvals) {
+        for (ApprovalListView approval : approvals) {
             responses.add(approvalMapper.toResponse(approval));
         }
 
@@ -188,11 +174,11 @@ public class ApprovalController {
         // ✅ 내가 결재해야 할 대기중인 목록 - DTO 변환
     @GetMapping("/pending/{userId}")
     public ResponseEntity<List<ApprovalResponse>> getPendingApprovals(@PathVariable Long userId) {
-        List<Approval> approvals = approvalService.getPendingApprovals(userId);
+        List<ApprovalListView> approvals = approvalService.getPendingApprovals(userId);
 
-        // Entity → DTO 변환
+        // 목록 프로젝션 → DTO 변환
         List<ApprovalResponse> responses = new ArrayList<>();
-        for (Approval approval : approvals) {
+        for (ApprovalListView approval : approvals) {
             responses.add(approvalMapper.toResponse(approval));
         }
 
@@ -367,28 +353,19 @@ public class ApprovalController {
 
     // ✅ 내가 요청한 결재 삭제 (요청자만 가능)
     @DeleteMapping("/my-request/{approvalId}")
-    public ResponseEntity<?> deleteMyRequest(@PathVariable Long approvalId, HttpServletRequest request) {
+    public ResponseEntity<?> deleteMyRequest(@PathVariable Long approvalId,
+                                             @CurrentUser AuthenticatedUser currentUser) {
         try {
-            // JWT 토큰에서 사용자 ID 추출
-            String token = extractTokenFromRequest(request);
-            if (token == null) {
+            // JwtFilter 에서 검증된 사용자
+            if (currentUser == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body(Map.of(
                                 "success", false,
-                                "message", "인증 토큰이 필요합니다."
+                                "message", "인증 토큰이 없거나 유효하지 않습니다."
                         ));
             }
 
-            Long requesterId = jwtUtil.getUserIdFromToken(token);
-            if (requesterId == null) {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                        .body(Map.of(
-                                "success", false,
-                                "message", "유효하지 않은 토큰입니다."
-                        ));
-            }
-
-            approvalService.deleteMyRequest(approvalId, requesterId);
+            approvalService.deleteMyRequest(approvalId, currentUser.userId());
 
             return ResponseEntity.ok()
                     .body(Map.of(
@@ -414,15 +391,6 @@ public class ApprovalController {
         }
     }
 
-    // JWT 토큰 추출 헬퍼 메서드
-    private String extractTokenFromRequest(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
-        if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7);
-        }
-        return null;
-    }
-
 
     // ✅ 결재 상세 조회 - DTO 변환
     @GetMapping("/{approvalId}")
@@ -516,40 +484,16 @@ public class ApprovalController {
         return ResponseEntity.ok(responses);
     }
     @GetMapping("/{approvalId}/download")
-    public ResponseEntity<?> downloadAttachment(@PathVariable Long approvalId) {
+    public ResponseEntity<?> downloadAttachment(@PathVariable Long approvalId, HttpServletRequest request) {
         try {
             System.out.println("=== 첨부파일 다운로드 요청 - 결재 ID: " + approvalId + " ===");
 
-            Approval approval = approvalService.getApprovalById(approvalId);
+            AttachmentResource attachment = approvalService.downloadAttachment(approvalId);
 
-            // 첨부파일이 없는 경우
-            if (approval.getAttachmentFilename() == null || approval.getAttachmentContent() == null) {
-                return ResponseEntity.notFound().build();
-            }
+            System.out.println("첨부파일 다운로드 성공 - 파일명: " + attachment.getFilename() +
+                    ", 크기: " + attachment.getSize() + " bytes");
 
-            // 파일 데이터 디코딩 (Base64로 저장된 경우)
-            byte[] fileData;
-            try {
-                fileData = java.util.Base64.getDecoder().decode(approval.getAttachmentContent());
-            } catch (IllegalArgumentException e) {
-                // Base64가 아닌 경우 바이트 배열로 직접 처리
-                fileData = approval.getAttachmentContent().getBytes();
-            }
-
-            // Content-Type 설정
-            String contentType = approval.getAttachmentContentType();
-            if (contentType == null || contentType.isEmpty()) {
-                contentType = "application/octet-stream"; // 기본값
-            }
-
-            System.out.println("첨부파일 다운로드 성공 - 파일명: " + approval.getAttachmentFilename() +
-                    ", 크기: " + fileData.length + " bytes");
-
-            return ResponseEntity.ok()
-                    .header("Content-Disposition", "attachment; filename=\"" + approval.getAttachmentFilename() + "\"")
-                    .header("Content-Type", contentType)
-                    .header("Content-Length", String.valueOf(fileData.length))
-                    .body(fileData);
+            return AttachmentDownloadUtil.toResponse(attachment, request);
 
         } catch (RuntimeException e) {
             System.err.println("첨부파일 다운로드 실패 - 결재를 찾을 수 없음: " + e.getMessage());
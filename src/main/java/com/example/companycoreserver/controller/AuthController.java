@@ -2,16 +2,24 @@ package com.example.companycoreserver.controller;
 
 import com.example.companycoreserver.entity.Enum.Role;
 import com.example.companycoreserver.entity.User;
+import com.example.companycoreserver.security.ClientIpResolver;
+import com.example.companycoreserver.security.LoginRateLimiter;
 import com.example.companycoreserver.service.AuthService;
+import com.example.companycoreserver.service.PasswordHashService;
 import com.example.companycoreserver.dto.LoginRequest;
 import com.example.companycoreserver.dto.LoginResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -20,68 +28,108 @@ public class AuthController {
     @Autowired
     private AuthService authService;
 
+    @Autowired
+    private PasswordHashService passwordHashService;
+
+    @Autowired
+    private LoginRateLimiter loginRateLimiter;
+
+    @Autowired
+    private ClientIpResolver clientIpResolver;
+
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody LoginRequest loginRequest) {
+    public CompletableFuture<ResponseEntity<?>> login(@RequestBody LoginRequest loginRequest,
+                                                     HttpServletRequest httpRequest) {
         System.out.println("=== 로그인 API 호출 ===");
         System.out.println("요청 직원코드: " + loginRequest.getEmployeeCode());
 
+        // 시도 횟수 제한 - bcrypt 검증 전에 거절
+        String clientIp = clientIpResolver.resolve(httpRequest);
+        LoginRateLimiter.Decision decision = loginRateLimiter.tryAcquire(loginRequest.getEmployeeCode(), clientIp);
+        if (!decision.allowed()) {
+            System.err.println("❌ 로그인 시도 제한 - 직원코드: " + loginRequest.getEmployeeCode()
+                    + ", IP: " + clientIp);
+            return CompletableFuture.completedFuture(tooManyAttempts(decision, new LoginResponse()));
+        }
+
+        // bcrypt 검증이 끝날 때까지 요청 스레드를 붙잡지 않도록 비동기로 응답
+        CompletableFuture<AuthService.LoginResult> login;
         try {
-            // 1. 먼저 사용자 존재 여부 확인
-            if (!authService.userExists(loginRequest.getEmployeeCode())) {
-                System.err.println("❌ 존재하지 않는 직원코드: " + loginRequest.getEmployeeCode());
-                LoginResponse response = new LoginResponse();
-                return ResponseEntity.status(401).body(response);
-            }
+            login = authService.loginAsync(loginRequest.getEmployeeCode(), loginRequest.getPassword());
+        } catch (Exception e) {
+            System.err.println("로그인 API 오류: " + e.getMessage());
+            e.printStackTrace();
+            return CompletableFuture.completedFuture(ResponseEntity.status(500).body(new LoginResponse()));
+        }
 
-            // 2. AuthService로 로그인 처리 (토큰 생성까지)
-            String token = authService.login(loginRequest.getEmployeeCode(), loginRequest.getPassword());
-
-            if (token != null) {
-                // 3. AuthService의 getUserByEmployeeCode로 사용자 정보 조회
-                User user = authService.getUserByEmployeeCode(loginRequest.getEmployeeCode());
-
-                if (user != null) {
-                    // 4. 🎯 모든 필드를 응답에 설정
-                    LoginResponse response = new LoginResponse();
-                    response.setToken(token);
-                    response.setEmployeeCode(user.getEmployeeCode());
-                    response.setUsername(user.getUsername());
-                    response.setRole(user.getRole() != null ? user.getRole() : Role.EMPLOYEE);
-                    response.setUserId(user.getUserId());
-                    response.setDepartmentId(user.getDepartmentId());
-
-                    // 🔥 누락된 필드들 추가
-                    response.setEmail(user.getEmail() != null ? user.getEmail() : "");
-                    response.setPhone(user.getPhone() != null ? user.getPhone() : "");
-                    response.setJoinDate(user.getJoinDate());
-                    response.setPositionId(user.getPositionId());
-                    response.setIsFirstLogin(user.getIsFirstLogin() != null ? user.getIsFirstLogin() : 1);
-                    response.setIsActive(user.getIsActive() != null ? user.getIsActive() : 0);
-                    response.setCreatedAt(user.getCreatedAt());
-
-                    System.out.println("로그인 완료 - 사용자: " + user.getUsername());
-                    System.out.println("역할: " + user.getRole());
-                    System.out.println("첫 로그인: " + user.getIsFirstLogin());
-
-                    return ResponseEntity.ok(response);
-                } else {
-                    System.err.println("사용자 정보 조회 실패");
-                }
-            } else {
-                System.err.println("토큰 생성 실패 - 패스워드 불일치");
+        return login.<ResponseEntity<?>>thenApply(result -> {
+            if (result == null) {
+                loginRateLimiter.onFailure(clientIp);
+                System.err.println("❌ 로그인 실패 - 존재하지 않는 직원코드이거나 패스워드 불일치");
+                return ResponseEntity.status(401).body(new LoginResponse());
             }
 
-            // 실패 응답
+            User user = result.user();
+            loginRateLimiter.onSuccess(loginRequest.getEmployeeCode());
+
+            // 🎯 모든 필드를 응답에 설정
             LoginResponse response = new LoginResponse();
-            return ResponseEntity.status(401).body(response);
+            response.setToken(result.token());
+            response.setRefreshToken(result.refreshToken());
+            response.setTokenExpiresIn(result.tokenExpiresIn());
+            response.setEmployeeCode(user.getEmployeeCode());
+            response.setUsername(user.getUsername());
+            response.setRole(user.getRole() != null ? user.getRole() : Role.EMPLOYEE);
+            response.setUserId(user.getUserId());
+            response.setDepartmentId(user.getDepartmentId());
 
-        } catch (Exception e) {
-            System.err.println("로그인 API 오류: " + e.getMessage());
-            e.printStackTrace();
+            // 🔥 누락된 필드들 추가
+            response.setEmail(user.getEmail() != null ? user.getEmail() : "");
+            response.setPhone(user.getPhone() != null ? user.getPhone() : "");
+            response.setJoinDate(user.getJoinDate());
+            response.setPositionId(user.getPositionId());
+            response.setIsFirstLogin(user.getIsFirstLogin() != null ? user.getIsFirstLogin() : 1);
+            response.setIsActive(user.getIsActive() != null ? user.getIsActive() : 0);
+            response.setCreatedAt(user.getCreatedAt());
 
-            LoginResponse response = new LoginResponse();
-            return ResponseEntity.status(500).body(response);
-        }
+            System.out.println("로그인 완료 - 사용자: " + user.getUsername());
+            System.out.println("역할: " + user.getRole());
+            System.out.println("첫 로그인: " + user.getIsFirstLogin());
+
+            return ResponseEntity.ok(response);
+        }).exceptionally(e -> {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+
+            // bcrypt 대기열 초과 - 잠시 후 재시도하도록 503 응답
+            if (cause instanceof RejectedExecutionException) {
+                return ResponseEntity.status(503)
+                        .header("Retry-After", "1")
+                        .body(new LoginResponse());
+            }
+
+            System.err.println("로그인 API 오류: " + cause.getMessage());
+            cause.printStackTrace();
+            return ResponseEntity.status(500).body(new LoginResponse());
+        });
+    }
+
+    // 🆕 로그인 시도 제한 지표 (계정별/IP별 거절 수, 버킷 수) - 관리자 전용 (SecurityConfig)
+    @GetMapping("/login-throttle/metrics")
+    public ResponseEntity<Map<String, Object>> getLoginThrottleMetrics() {
+        return ResponseEntity.ok(loginRateLimiter.getMetrics());
+    }
+
+    // 시도 제한 초과 응답 (429 + Retry-After)
+    private ResponseEntity<?> tooManyAttempts(LoginRateLimiter.Decision decision, Object body) {
+        return ResponseEntity.status(429)
+                .header("Retry-After", String.valueOf(decision.retryAfterSeconds()))
+                .body(body);
+    }
+
+    // 🆕 bcrypt 실행기 지표 (대기열 길이, 거절 수, 평균 대기/해시 시간) - 관리자 전용 (SecurityConfig)
+    @GetMapping("/password-hashing/metrics")
+    public ResponseEntity<Map<String, Object>> getPasswordHashingMetrics() {
+        return ResponseEntity.ok(passwordHashService.getMetrics());
     }
 
 
@@ -98,13 +146,22 @@ public class AuthController {
 
 
     @PostMapping("/test-password")
-    public ResponseEntity<?> testPassword(@RequestBody Map<String, String> request) {
+    public ResponseEntity<?> testPassword(@RequestBody Map<String, String> request,
+                                          HttpServletRequest httpRequest) {
         try {
             String employeeCode = request.get("employeeCode");
             String inputPassword = request.get("password");
 
+            // 로그인과 같은 시도 횟수 제한 적용 (bcrypt 검증 전)
+            String clientIp = clientIpResolver.resolve(httpRequest);
+            LoginRateLimiter.Decision decision = loginRateLimiter.tryAcquire(employeeCode, clientIp);
+            if (!decision.allowed()) {
+                return tooManyAttempts(decision, "❌ 시도 횟수 초과 - " + decision.retryAfterSeconds() + "초 후 다시 시도하세요");
+            }
+
             User user = authService.getUserByEmployeeCode(employeeCode);
             if (user == null) {
+                loginRateLimiter.onFailure(clientIp);
                 return ResponseEntity.ok("❌ 사용자 없음");
             }
 
@@ -118,6 +175,9 @@ public class AuthController {
             BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
             boolean matches = encoder.matches(inputPassword, dbPassword);
             System.out.println("BCrypt 매칭 결과: " + matches);
+            if (!matches) {
+                loginRateLimiter.onFailure(clientIp);
+            }
 
             return ResponseEntity.ok(String.format(
                     "테스트 결과:\n" +
@@ -156,6 +216,38 @@ public class AuthController {
         }
     }
     
+    /**
+     * 🆕 액세스 토큰 재발급 (리프레시 토큰은 1회용 - 새 리프레시 토큰으로 교체됨)
+     * @param request { "refreshToken": "..." }
+     * @return 새 액세스 토큰 / 리프레시 토큰
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<Map<String, Object>> refresh(@RequestBody Map<String, String> request) {
+        Map<String, Object> response = new HashMap<>();
+
+        try {
+            AuthService.LoginResult result = authService.refresh(request.get("refreshToken"));
+            if (result == null) {
+                response.put("success", false);
+                response.put("message", "리프레시 토큰이 유효하지 않습니다. 다시 로그인해주세요.");
+                return ResponseEntity.status(401).body(response);
+            }
+
+            response.put("success", true);
+            response.put("token", result.token());
+            response.put("refreshToken", result.refreshToken());
+            response.put("tokenExpiresIn", result.tokenExpiresIn());
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            System.err.println("토큰 재발급 중 오류: " + e.getMessage());
+            e.printStackTrace();
+            response.put("success", false);
+            response.put("message", "토큰 재발급 중 오류가 발생했습니다.");
+            return ResponseEntity.status(500).body(response);
+        }
+    }
+
     /**
      * 토큰 유효성 검증
      * @param request 토큰 검증 요청
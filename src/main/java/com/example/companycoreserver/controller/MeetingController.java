@@ -1,11 +1,19 @@
 package com.example.companycoreserver.controller;
 
+import com.example.companycoreserver.dto.MeetingListView;
 import com.example.companycoreserver.dto.MeetingRequest;
 import com.example.companycoreserver.entity.Meeting;
 import com.example.companycoreserver.repository.MeetingRepository;
+import com.example.companycoreserver.service.AttachmentService;
+import com.example.companycoreserver.storage.AttachmentResource;
+import com.example.companycoreserver.storage.StoredAttachment;
+import com.example.companycoreserver.util.AttachmentDownloadUtil;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.*;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 import org.springframework.web.bind.annotation.*;
 
 import java.nio.charset.StandardCharsets;
@@ -23,9 +31,12 @@ public class MeetingController {
     @Autowired
     private MeetingRepository meetingRepository;
 
+    @Autowired
+    private AttachmentService attachmentService;
+
     // 🔄 통합 회의 조회 (쿼리 파라미터로 다양한 조건 지원)
     @GetMapping
-    public ResponseEntity<List<Meeting>> getMeetings(
+    public ResponseEntity<List<MeetingListView>> getMeetings(
             @RequestParam(required = false) String location,
             @RequestParam(required = false) String title,
             @RequestParam(required = false) String author,
@@ -36,7 +47,7 @@ public class MeetingController {
             @RequestParam(required = false) String period, // "current", "upcoming", "past", "thisweek"
             @RequestParam(required = false, defaultValue = "false") boolean simple // 간단한 버전 여부
     ) {
-        List<Meeting> meetings;
+        List<MeetingListView> meetings;
         LocalDateTime now = LocalDateTime.now();
 
         // 기간별 조회
@@ -86,21 +97,21 @@ public class MeetingController {
     // 🆕 간단한 회의 목록 조회 (첨부파일 제외)
     @GetMapping("/simple")
     public ResponseEntity<List<Map<String, Object>>> getMeetingsSimple() {
-        List<Meeting> meetings = meetingRepository.findAllByOrderByStartTimeDesc();
+        List<MeetingListView> meetings = meetingRepository.findAllByOrderByStartTimeDesc();
         List<Map<String, Object>> simpleMeetings = new ArrayList<>();
         
-        for (Meeting meeting : meetings) {
+        for (MeetingListView meeting : meetings) {
             Map<String, Object> simpleMeeting = new HashMap<>();
-            simpleMeeting.put("meetingId", meeting.getMeetingId());
-            simpleMeeting.put("title", meeting.getTitle());
-            simpleMeeting.put("description", meeting.getDescription());
-            simpleMeeting.put("startTime", meeting.getStartTime());
-            simpleMeeting.put("endTime", meeting.getEndTime());
-            simpleMeeting.put("location", meeting.getLocation());
-            simpleMeeting.put("department", meeting.getDepartment());
-            simpleMeeting.put("author", meeting.getAuthor());
-            simpleMeeting.put("createdAt", meeting.getCreatedAt());
-            simpleMeeting.put("updatedAt", meeting.getUpdatedAt());
+            simpleMeeting.put("meetingId", meeting.meetingId());
+            simpleMeeting.put("title", meeting.title());
+            simpleMeeting.put("description", meeting.description());
+            simpleMeeting.put("startTime", meeting.startTime());
+            simpleMeeting.put("endTime", meeting.endTime());
+            simpleMeeting.put("location", meeting.location());
+            simpleMeeting.put("department", meeting.department());
+            simpleMeeting.put("author", meeting.author());
+            simpleMeeting.put("createdAt", meeting.createdAt());
+            simpleMeeting.put("updatedAt", meeting.updatedAt());
             // 첨부파일 정보는 제외 (상세보기에서만 확인)
             
             simpleMeetings.add(simpleMeeting);
@@ -109,8 +120,9 @@ public class MeetingController {
         return ResponseEntity.ok(simpleMeetings);
     }
 
-    // 회의 생성
+    // 회의 생성 (첨부파일 참조와 회의 저장을 한 트랜잭션으로 처리)
     @PostMapping
+    @Transactional
     public ResponseEntity<Map<String, Object>> createMeeting(@RequestBody MeetingRequest request) {
         try {
             System.out.println("회의 생성 요청: " + request.getTitle());
@@ -144,28 +156,26 @@ public class MeetingController {
             // 🆕 첨부파일 처리
             if (request.hasAttachment()) {
                 try {
-                    // Base64 디코딩으로 실제 파일 크기 확인
-                    byte[] fileData = java.util.Base64.getDecoder().decode(request.getAttachmentContent());
-
-                    // 파일 크기 제한 체크 (예: 10MB)
+                    // 파일 크기 제한 체크 (예: 10MB) - Base64 길이로 디코딩 크기 추정
                     long maxFileSize = 10 * 1024 * 1024; // 10MB
-                    if (fileData.length > maxFileSize) {
+                    long estimatedSize = (long) request.getAttachmentContent().trim().length() / 4 * 3;
+                    if (estimatedSize > maxFileSize) {
                         Map<String, Object> errorResult = new HashMap<>();
                         errorResult.put("success", false);
                         errorResult.put("message", "파일 크기가 너무 큽니다. (최대 10MB)");
                         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResult);
                     }
 
-                    // 첨부파일 정보 설정
-                    meeting.setAttachmentFilename(request.getAttachmentFilename());
-                    meeting.setAttachmentContentType(request.getAttachmentContentType());
-                    meeting.setAttachmentContent(request.getAttachmentContent()); // Base64 문자열 저장
-                    meeting.setAttachmentSize((long) fileData.length); // 실제 파일 크기로 설정
+                    // 파일 내용은 저장소에 저장하고 엔티티에는 저장소 키만 보관
+                    StoredAttachment stored = attachmentService.storeBase64(request.getAttachmentContent());
+                    meeting.updateStoredAttachment(request.getAttachmentFilename(),
+                            request.getAttachmentContentType(), stored.getStorageKey(), stored.getSize());
 
                     System.out.println("첨부파일 처리 완료: " + request.getAttachmentFilename() +
-                            " (" + fileData.length + " bytes)");
+                            " (" + stored.getSize() + " bytes)");
                 } catch (Exception e) {
                     System.err.println("첨부파일 처리 실패: " + e.getMessage());
+                    TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
                     Map<String, Object> errorResult = new HashMap<>();
                     errorResult.put("success", false);
                     errorResult.put("message", "첨부파일 처리에 실패했습니다: " + e.getMessage());
@@ -189,6 +199,8 @@ public class MeetingController {
         } catch (Exception e) {
             System.err.println("회의 생성 실패: " + e.getMessage());
             e.printStackTrace();
+            // 오류 응답을 반환하므로 직접 롤백 표시 (저장된 첨부파일 참조도 함께 취소)
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
 
             Map<String, Object> errorResult = new HashMap<>();
             errorResult.put("success", false);
@@ -210,6 +222,7 @@ public class MeetingController {
 
     // 회의 수정
     @PutMapping("/{id}")
+    @Transactional
     public ResponseEntity<Meeting> updateMeeting(@PathVariable Long id, @RequestBody Meeting meetingDetails) {
         Optional<Meeting> optionalMeeting = meetingRepository.findById(id);
 
@@ -240,16 +253,28 @@ public class MeetingController {
                 meeting.setDepartment(meetingDetails.getDepartment());
             }
 
-            // 첨부파일 정보 업데이트 (null 값도 허용하여 삭제 처리)
-            meeting.setAttachmentFilename(meetingDetails.getAttachmentFilename());
-            meeting.setAttachmentContentType(meetingDetails.getAttachmentContentType());
-            meeting.setAttachmentSize(meetingDetails.getAttachmentSize());
-            meeting.setAttachmentContent(meetingDetails.getAttachmentContent());
+            // 첨부파일 정보 업데이트 (파일명이 null이면 삭제 처리)
+            String releasedKey = null;
+            if (meetingDetails.getAttachmentFilename() == null) {
+                releasedKey = meeting.getAttachmentStorageKey();
+                meeting.removeAttachment();
+            } else if (meetingDetails.getAttachmentContent() != null &&
+                    !meetingDetails.getAttachmentContent().trim().isEmpty()) {
+                releasedKey = meeting.getAttachmentStorageKey();
+                StoredAttachment stored = attachmentService.storeBase64(meetingDetails.getAttachmentContent());
+                meeting.updateStoredAttachment(meetingDetails.getAttachmentFilename(),
+                        meetingDetails.getAttachmentContentType(), stored.getStorageKey(), stored.getSize());
+            } else {
+                // 내용 없이 메타데이터만 온 경우 기존 파일 유지
+                meeting.setAttachmentFilename(meetingDetails.getAttachmentFilename());
+                meeting.setAttachmentContentType(meetingDetails.getAttachmentContentType());
+            }
 
             // 수정 시간은 @PreUpdate에서 자동 처리되지만 명시적으로 설정
             meeting.setUpdatedAt(LocalDateTime.now());
 
             Meeting updatedMeeting = meetingRepository.save(meeting);
+            attachmentService.release(releasedKey);
             return ResponseEntity.ok(updatedMeeting);
         }
 
@@ -258,9 +283,12 @@ public class MeetingController {
 
     // 회의 삭제
     @DeleteMapping("/{id}")
+    @Transactional
     public ResponseEntity<Void> deleteMeeting(@PathVariable Long id) {
-        if (meetingRepository.existsById(id)) {
+        Optional<Meeting> meeting = meetingRepository.findById(id);
+        if (meeting.isPresent()) {
             meetingRepository.deleteById(id);
+            attachmentService.release(meeting.get().getAttachmentStorageKey());
             return ResponseEntity.noContent().build(); // 204 No Content
         }
         return ResponseEntity.notFound().build();
@@ -268,64 +296,64 @@ public class MeetingController {
 
     // 🆕 현재 진행중인 회의 조회
     @GetMapping("/current")
-    public ResponseEntity<List<Meeting>> getCurrentMeetings() {
-        List<Meeting> meetings = meetingRepository.findCurrentMeetings(LocalDateTime.now());
+    public ResponseEntity<List<MeetingListView>> getCurrentMeetings() {
+        List<MeetingListView> meetings = meetingRepository.findCurrentMeetings(LocalDateTime.now());
         return ResponseEntity.ok(meetings);
     }
 
     // 🆕 예정된 회의 조회
     @GetMapping("/upcoming")
-    public ResponseEntity<List<Meeting>> getUpcomingMeetings() {
-        List<Meeting> meetings = meetingRepository.findByStartTimeAfterOrderByStartTimeAsc(LocalDateTime.now());
+    public ResponseEntity<List<MeetingListView>> getUpcomingMeetings() {
+        List<MeetingListView> meetings = meetingRepository.findByStartTimeAfterOrderByStartTimeAsc(LocalDateTime.now());
         return ResponseEntity.ok(meetings);
     }
 
     // 🆕 완료된 회의 조회
     @GetMapping("/past")
-    public ResponseEntity<List<Meeting>> getPastMeetings() {
-        List<Meeting> meetings = meetingRepository.findByEndTimeBeforeOrderByStartTimeDesc(LocalDateTime.now());
+    public ResponseEntity<List<MeetingListView>> getPastMeetings() {
+        List<MeetingListView> meetings = meetingRepository.findByEndTimeBeforeOrderByStartTimeDesc(LocalDateTime.now());
         return ResponseEntity.ok(meetings);
     }
 
     // 🆕 이번 주 회의 조회
     @GetMapping("/thisweek")
-    public ResponseEntity<List<Meeting>> getThisWeekMeetings() {
+    public ResponseEntity<List<MeetingListView>> getThisWeekMeetings() {
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime weekStart = now.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
                 .withHour(0).withMinute(0).withSecond(0);
         LocalDateTime weekEnd = weekStart.plusDays(7);
 
-        List<Meeting> meetings = meetingRepository.findMeetingsThisWeek(weekStart, weekEnd);
+        List<MeetingListView> meetings = meetingRepository.findMeetingsThisWeek(weekStart, weekEnd);
         return ResponseEntity.ok(meetings);
     }
 
     // 🔄 개선된 날짜별 회의 조회 (기존 유지 + 새 메서드 활용)
     @GetMapping("/date")
-    public ResponseEntity<List<Meeting>> getMeetingsByDate(
+    public ResponseEntity<List<MeetingListView>> getMeetingsByDate(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
 
-        List<Meeting> meetings = meetingRepository.findMeetingsByDate(date.atStartOfDay());
+        List<MeetingListView> meetings = meetingRepository.findMeetingsByDate(date.atStartOfDay());
         return ResponseEntity.ok(meetings);
     }
 
     // 회의실별 회의 조회 (기존 유지)
     @GetMapping("/location/{location}")
-    public ResponseEntity<List<Meeting>> getMeetingsByLocation(@PathVariable String location) {
-        List<Meeting> meetings = meetingRepository.findByLocationContaining(location);
+    public ResponseEntity<List<MeetingListView>> getMeetingsByLocation(@PathVariable String location) {
+        List<MeetingListView> meetings = meetingRepository.findByLocationContaining(location);
         return ResponseEntity.ok(meetings);
     }
 
     // 🆕 제목으로 회의 검색
     @GetMapping("/search")
-    public ResponseEntity<List<Meeting>> searchMeetingsByTitle(@RequestParam String title) {
-        List<Meeting> meetings = meetingRepository.findByTitleContaining(title);
+    public ResponseEntity<List<MeetingListView>> searchMeetingsByTitle(@RequestParam String title) {
+        List<MeetingListView> meetings = meetingRepository.findByTitleContaining(title);
         return ResponseEntity.ok(meetings);
     }
 
 
 // 🆕 회의록 첨부파일 다운로드
 @GetMapping("/{id}/attachment")
-public ResponseEntity<?> downloadMeetingAttachment(@PathVariable Long id) {
+public ResponseEntity<?> downloadMeetingAttachment(@PathVariable Long id, HttpServletRequest request) {
     try {
         System.out.println("첨부파일 다운로드 API 호출: 회의 ID=" + id);
 
@@ -340,25 +368,20 @@ public ResponseEntity<?> downloadMeetingAttachment(@PathVariable Long id) {
 
         Meeting meeting = meetingOpt.get();
 
-        if (meeting.getAttachmentContent() == null ||
-                meeting.getAttachmentContent().trim().isEmpty()) {
+        if (!meeting.hasAttachment()) {
             Map<String, Object> errorResult = new HashMap<>();
             errorResult.put("success", false);
             errorResult.put("message", "첨부파일이 없습니다.");
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResult);
         }
 
-        // Base64 디코딩
-        byte[] fileData = Base64.getDecoder().decode(meeting.getAttachmentContent());
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.parseMediaType(meeting.getAttachmentContentType()));
-        headers.setContentDispositionFormData("attachment", meeting.getAttachmentFilename());
-        headers.setContentLength(fileData.length);
+        AttachmentResource attachment = attachmentService.open(
+                meeting.getAttachmentFilename(),
+                meeting.getAttachmentContentType(),
+                meeting.getAttachmentStorageKey(),
+                meeting.getAttachmentStorageKey() == null ? meeting.getAttachmentContent() : null);
 
-        return ResponseEntity.ok()
-                .headers(headers)
-                .body(fileData);
+        return AttachmentDownloadUtil.toResponse(attachment, request);
 
     } catch (Exception e) {
         System.err.println("첨부파일 다운로드 실패: " + e.getMessage());
@@ -384,6 +407,7 @@ public ResponseEntity<?> downloadMeetingAttachment(@PathVariable Long id) {
 
     // 🆕 회의록 첨부파일 업로드
     @PutMapping("/{id}/attachment")
+    @Transactional
     public ResponseEntity<Meeting> uploadMeetingAttachment(@PathVariable Long id, @RequestBody Meeting attachmentData) {
         Optional<Meeting> optionalMeeting = meetingRepository.findById(id);
 
@@ -391,18 +415,23 @@ public ResponseEntity<?> downloadMeetingAttachment(@PathVariable Long id) {
             Meeting meeting = optionalMeeting.get();
 
             // 첨부파일 정보 업데이트
+            String releasedKey = null;
             if (attachmentData.getAttachmentFilename() != null) {
                 meeting.setAttachmentFilename(attachmentData.getAttachmentFilename());
             }
             if (attachmentData.getAttachmentContentType() != null) {
                 meeting.setAttachmentContentType(attachmentData.getAttachmentContentType());
             }
-            if (attachmentData.getAttachmentSize() != null) {
+            if (attachmentData.getAttachmentContent() != null &&
+                    !attachmentData.getAttachmentContent().trim().isEmpty()) {
+                // 파일 내용은 저장소에 저장 (크기는 실제 저장된 크기 사용, 같은 내용이면 기존 파일 공유)
+                releasedKey = meeting.getAttachmentStorageKey();
+                StoredAttachment stored = attachmentService.storeBase64(attachmentData.getAttachmentContent());
+                meeting.updateStoredAttachment(meeting.getAttachmentFilename(),
+                        meeting.getAttachmentContentType(), stored.getStorageKey(), stored.getSize());
+            } else if (attachmentData.getAttachmentSize() != null) {
                 meeting.setAttachmentSize(attachmentData.getAttachmentSize());
             }
-            if (attachmentData.getAttachmentContent() != null) {
-                meeting.setAttachmentContent(attachmentData.getAttachmentContent());
-            }
 
             // Base64 문자열을 바이트 배열로 변환하는 경우를 위한 처리
             // (클라이언트에서 Base64로 전송하는 경우)
@@ -412,6 +441,7 @@ public ResponseEntity<?> downloadMeetingAttachment(@PathVariable Long id) {
             }
 
             Meeting updatedMeeting = meetingRepository.save(meeting);
+            attachmentService.release(releasedKey);
             return ResponseEntity.ok(updatedMeeting);
         }
 
@@ -420,14 +450,17 @@ public ResponseEntity<?> downloadMeetingAttachment(@PathVariable Long id) {
 
     // 🆕 회의록 첨부파일 삭제
     @DeleteMapping("/{id}/attachment")
+    @Transactional
     public ResponseEntity<Meeting> deleteMeetingAttachment(@PathVariable Long id) {
         Optional<Meeting> optionalMeeting = meetingRepository.findById(id);
 
         if (optionalMeeting.isPresent()) {
             Meeting meeting = optionalMeeting.get();
+            String releasedKey = meeting.getAttachmentStorageKey();
             meeting.removeAttachment();
 
             Meeting updatedMeeting = meetingRepository.save(meeting);
+            attachmentService.release(releasedKey);
             return ResponseEntity.ok(updatedMeeting);
         }
 
@@ -436,9 +469,9 @@ public ResponseEntity<?> downloadMeetingAttachment(@PathVariable Long id) {
 
     // 🆕 부서별 회의 목록 조회
     @GetMapping("/department/{department}")
-    public ResponseEntity<List<Meeting>> getMeetingsByDepartment(@PathVariable String department) {
+    public ResponseEntity<List<MeetingListView>> getMeetingsByDepartment(@PathVariable String department) {
         try {
-            List<Meeting> meetings = meetingRepository.findByDepartmentOrderByStartTimeDesc(department);
+            List<MeetingListView> meetings = meetingRepository.findByDepartmentOrderByStartTimeDesc(department);
             return ResponseEntity.ok(meetings);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -447,10 +480,10 @@ public ResponseEntity<?> downloadMeetingAttachment(@PathVariable Long id) {
 
     // 🆕 부서별 현재 진행중인 회의 조회
     @GetMapping("/department/{department}/current")
-    public ResponseEntity<List<Meeting>> getCurrentMeetingsByDepartment(@PathVariable String department) {
+    public ResponseEntity<List<MeetingListView>> getCurrentMeetingsByDepartment(@PathVariable String department) {
         try {
             LocalDateTime now = LocalDateTime.now();
-            List<Meeting> meetings = meetingRepository.findCurrentMeetingsByDepartment(department, now);
+            List<MeetingListView> meetings = meetingRepository.findCurrentMeetingsByDepartment(department, now);
             return ResponseEntity.ok(meetings);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -459,10 +492,10 @@ public ResponseEntity<?> downloadMeetingAttachment(@PathVariable Long id) {
 
     // 🆕 부서별 예정된 회의 조회
     @GetMapping("/department/{department}/upcoming")
-    public ResponseEntity<List<Meeting>> getUpcomingMeetingsByDepartment(@PathVariable String department) {
+    public ResponseEntity<List<MeetingListView>> getUpcomingMeetingsByDepartment(@PathVariable String department) {
         try {
             LocalDateTime now = LocalDateTime.now();
-            List<Meeting> meetings = meetingRepository.findUpcomingMeetingsByDepartment(department, now);
+            List<MeetingListView> meetings = meetingRepository.findUpcomingMeetingsByDepartment(department, now);
             return ResponseEntity.ok(meetings);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -471,10 +504,10 @@ public ResponseEntity<?> downloadMeetingAttachment(@PathVariable Long id) {
 
     // 🆕 부서별 완료된 회의 조회
     @GetMapping("/department/{department}/past")
-    public ResponseEntity<List<Meeting>> getPastMeetingsByDepartment(@PathVariable String department) {
+    public ResponseEntity<List<MeetingListView>> getPastMeetingsByDepartment(@PathVariable String department) {
         try {
             LocalDateTime now = LocalDateTime.now();
-            List<Meeting> meetings = meetingRepository.findPastMeetingsByDepartment(department, now);
+            List<MeetingListView> meetings = meetingRepository.findPastMeetingsByDepartment(department, now);
             return ResponseEntity.ok(meetings);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
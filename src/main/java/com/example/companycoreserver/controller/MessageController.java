@@ -1,16 +1,22 @@
 package com.example.companycoreserver.controller;
 
+import com.example.companycoreserver.dto.CursorPageResponse;
 import com.example.companycoreserver.dto.MessageRequest;
 import com.example.companycoreserver.dto.MessageResponse;
 import com.example.companycoreserver.dto.MessageSummaryResponse;
 import com.example.companycoreserver.service.MessageService;
+import com.example.companycoreserver.storage.AttachmentResource;
+import com.example.companycoreserver.util.AttachmentDownloadUtil;
 import lombok.RequiredArgsConstructor;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -52,23 +58,40 @@ public class MessageController {
 
 
     // ✅ 2. 메시지 조회 (통합)
+    // 🆕 before/limit 이 없으면 기존처럼 전체 목록 + total(전체 건수)
+    //    하나라도 주면 커서 기반 페이지 (limit 기본 50, 최대 100) + nextCursor/hasNext, total 없음
+    //    다음 페이지는 응답의 nextCursor 를 before 로 전달 (예: ?before=<cursor>&limit=50)
     @GetMapping
     public ResponseEntity<Map<String, Object>> getMessages(
             @RequestParam(defaultValue = "received") String type,
             @RequestParam(required = false) String messageType,
             @RequestParam(required = false) String keyword,
             @RequestParam(defaultValue = "false") boolean unreadOnly,
+            @RequestParam(required = false) String before,
+            @RequestParam(required = false) Integer limit,
             @RequestHeader("User-Id") Long userId) {
 
         Map<String, Object> response = new HashMap<>();
 
         try {
-            List<MessageSummaryResponse> messages = messageService.getMessages(
-                    userId, type, messageType, keyword, unreadOnly);
+            if (before == null && limit == null) {
+                List<MessageSummaryResponse> messages = messageService.getAllMessages(
+                        userId, type, messageType, keyword, unreadOnly);
+
+                response.put("success", true);
+                response.put("data", messages);
+                response.put("total", messages.size());
+                return ResponseEntity.ok(response);
+            }
+
+            CursorPageResponse<MessageSummaryResponse> page = messageService.getMessagesPage(
+                    userId, type, messageType, keyword, unreadOnly, before,
+                    limit != null ? limit : MessageService.DEFAULT_PAGE_SIZE);
 
             response.put("success", true);
-            response.put("data", messages);
-            response.put("total", messages.size());
+            response.put("data", page.getItems());
+            response.put("nextCursor", page.getNextCursor());
+            response.put("hasNext", page.isHasNext());
 
             return ResponseEntity.ok(response);
 
@@ -143,6 +166,7 @@ public class MessageController {
             int updatedCount = messageService.bulkUpdateMessages(messageIds, userId, action);
 
             response.put("success", true);
+            response.put("requestedCount", messageIds == null ? 0 : messageIds.size());
             response.put("updatedCount", updatedCount);
             response.put("message", updatedCount + "개의 메시지를 " +
                     (action.equals("read") ? "읽음으로 처리" : "삭제") + "했습니다.");
@@ -156,6 +180,27 @@ public class MessageController {
         }
     }
 
+    // ✅ 5-1. 받은 메시지 전체 읽음 처리
+    @PutMapping("/read-all")
+    public ResponseEntity<Map<String, Object>> markAllAsRead(@RequestHeader("User-Id") Long userId) {
+        Map<String, Object> response = new HashMap<>();
+
+        try {
+            int updatedCount = messageService.markAllAsRead(userId);
+
+            response.put("success", true);
+            response.put("updatedCount", updatedCount);
+            response.put("message", updatedCount + "개의 메시지를 읽음으로 처리했습니다.");
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            response.put("success", false);
+            response.put("message", "전체 읽음 처리 실패: " + e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+
     // ✅ 6. 메시지 답장
     @PostMapping("/{messageId}/reply")
     public ResponseEntity<Map<String, Object>> replyMessage(
@@ -327,6 +372,56 @@ public class MessageController {
     }
 
 
+    /**
+     * 🆕 첨부파일 업로드 (multipart) - 파일을 메모리에 올리지 않고 저장소로 스트리밍
+     * POST /api/messages/{messageId}/attachment/file
+     */
+    @PostMapping(value = "/{messageId}/attachment/file", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<Map<String, Object>> uploadAttachmentFile(
+            @PathVariable Integer messageId,
+            @RequestHeader("User-Id") Long userId,
+            @RequestParam("file") MultipartFile file) {
+        try {
+            System.out.println("첨부파일 업로드(multipart) API 호출: 메시지 ID=" + messageId);
+
+            if (file.isEmpty()) {
+                Map<String, Object> errorResult = new HashMap<>();
+                errorResult.put("success", false);
+                errorResult.put("message", "파일 데이터가 없습니다.");
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResult);
+            }
+
+            String filename = file.getOriginalFilename();
+            if (filename == null || filename.trim().isEmpty()) {
+                Map<String, Object> errorResult = new HashMap<>();
+                errorResult.put("success", false);
+                errorResult.put("message", "파일명이 필요합니다.");
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResult);
+            }
+
+            MessageResponse response;
+            try (InputStream content = file.getInputStream()) {
+                response = messageService.uploadAttachment(messageId, filename, file.getContentType(), content, userId);
+            }
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("success", true);
+            result.put("message", "첨부파일이 성공적으로 업로드되었습니다.");
+            result.put("data", response);
+
+            return ResponseEntity.ok(result);
+
+        } catch (Exception e) {
+            System.err.println("첨부파일 업로드 실패: " + e.getMessage());
+
+            Map<String, Object> errorResult = new HashMap<>();
+            errorResult.put("success", false);
+            errorResult.put("message", "첨부파일 업로드에 실패했습니다: " + e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResult);
+        }
+    }
+
     /**
      * ✅ 첨부파일 제거
      * DELETE /api/messages/{messageId}/attachment
@@ -365,24 +460,14 @@ public class MessageController {
     @GetMapping("/{messageId}/attachment/download")
     public ResponseEntity<?> downloadAttachment(
             @PathVariable Integer messageId,
-            @RequestHeader("User-Id") Long userId) {
+            @RequestHeader("User-Id") Long userId,
+            HttpServletRequest request) {
         try {
             System.out.println("첨부파일 다운로드 API 호출: 메시지 ID=" + messageId);
 
-            Map<String, Object> attachment = messageService.downloadAttachment(messageId, userId);
-
-            // Base64 디코딩
-            String base64Data = (String) attachment.get("fileData");
-            byte[] fileData = java.util.Base64.getDecoder().decode(base64Data);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.parseMediaType((String) attachment.get("contentType")));
-            headers.setContentDispositionFormData("attachment", (String) attachment.get("filename"));
-            headers.setContentLength(fileData.length);
+            AttachmentResource attachment = messageService.downloadAttachment(messageId, userId);
 
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(fileData);
+            return AttachmentDownloadUtil.toResponse(attachment, request);
 
         } catch (Exception e) {
             System.err.println("첨부파일 다운로드 실패: " + e.getMessage());
@@ -1,8 +1,12 @@
 package com.example.companycoreserver.controller;
 
+import com.example.companycoreserver.dto.NoticeListView;
 import com.example.companycoreserver.dto.NoticeRequest;
 import com.example.companycoreserver.dto.NoticeResponse;
 import com.example.companycoreserver.service.NoticeService;
+import com.example.companycoreserver.storage.AttachmentResource;
+import com.example.companycoreserver.util.AttachmentDownloadUtil;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -12,6 +16,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -72,7 +77,7 @@ public class NoticeController {
         try {
             System.out.println("공지사항 전체 조회 API 호출: page=" + page + ", size=" + size);
 
-            Page<NoticeResponse> noticePage = noticeService.getAllNotices(page, size);
+            Page<NoticeListView> noticePage = noticeService.getAllNotices(page, size);
 
             Map<String, Object> result = new HashMap<>();
             result.put("success", true);
@@ -145,18 +150,18 @@ public class NoticeController {
         try {
             System.out.println("간단한 공지사항 목록 조회 API 호출: page=" + page + ", size=" + size);
 
-            Page<NoticeResponse> noticePage = noticeService.getAllNotices(page, size);
+            Page<NoticeListView> noticePage = noticeService.getAllNotices(page, size);
             List<Map<String, Object>> simpleNotices = new ArrayList<>();
 
-            for (NoticeResponse notice : noticePage.getContent()) {
+            for (NoticeListView notice : noticePage.getContent()) {
                 Map<String, Object> simpleNotice = new HashMap<>();
-                simpleNotice.put("id", notice.getId());
-                simpleNotice.put("title", notice.getTitle());
-                simpleNotice.put("content", notice.getContent());
-                simpleNotice.put("authorDepartment", notice.getAuthorDepartment());
-                simpleNotice.put("authorName", notice.getAuthorName());
-                simpleNotice.put("createdAt", notice.getCreatedAt());
-                simpleNotice.put("updatedAt", notice.getUpdatedAt());
+                simpleNotice.put("id", notice.id());
+                simpleNotice.put("title", notice.title());
+                simpleNotice.put("content", notice.content());
+                simpleNotice.put("authorDepartment", notice.authorDepartment());
+                simpleNotice.put("authorName", notice.authorName());
+                simpleNotice.put("createdAt", notice.createdAt());
+                simpleNotice.put("updatedAt", notice.updatedAt());
 //                simpleNotice.put("isImportant", notice.getIsImportant());
                 // 첨부파일 정보는 제외 (상세보기에서만 확인)
 
@@ -312,9 +317,10 @@ public class NoticeController {
             // 파일명에서 특수문자 제거 및 길이 제한
             filename = sanitizeFilename(filename);
             
-            byte[] fileData = file.getBytes();
-
-            NoticeResponse response = noticeService.uploadAttachment(id, filename, contentType, fileData);
+            NoticeResponse response;
+            try (InputStream content = file.getInputStream()) {
+                response = noticeService.uploadAttachment(id, filename, contentType, content);
+            }
 
             Map<String, Object> result = new HashMap<>();
             result.put("success", true);
@@ -343,6 +349,39 @@ public class NoticeController {
         }
     }
 
+    /**
+     * 🆕 첨부파일 다운로드
+     * GET /api/notices/{id}/attachment/download
+     */
+    @GetMapping("/{id}/attachment/download")
+    public ResponseEntity<?> downloadAttachment(@PathVariable Long id, HttpServletRequest request) {
+        try {
+            System.out.println("첨부파일 다운로드 API 호출: 공지사항 ID=" + id);
+
+            AttachmentResource attachment = noticeService.downloadAttachment(id);
+
+            return AttachmentDownloadUtil.toResponse(attachment, request);
+
+        } catch (IllegalArgumentException e) {
+            System.err.println("첨부파일 다운로드 실패 - 공지사항 없음: " + e.getMessage());
+
+            Map<String, Object> errorResult = new HashMap<>();
+            errorResult.put("success", false);
+            errorResult.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResult);
+
+        } catch (Exception e) {
+            System.err.println("첨부파일 다운로드 실패: " + e.getMessage());
+
+            Map<String, Object> errorResult = new HashMap<>();
+            errorResult.put("success", false);
+            errorResult.put("message", "첨부파일 다운로드에 실패했습니다: " + e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResult);
+        }
+    }
+
     /**
      * 허용된 파일 타입인지 검증
      */
@@ -423,7 +462,7 @@ public class NoticeController {
         try {
             System.out.println("제목 검색 API 호출: title=" + title + ", page=" + page + ", size=" + size);
 
-            Page<NoticeResponse> noticePage = noticeService.searchByTitle(title, page, size);
+            Page<NoticeListView> noticePage = noticeService.searchByTitle(title, page, size);
 
             Map<String, Object> result = new HashMap<>();
             result.put("success", true);
@@ -460,7 +499,7 @@ public class NoticeController {
         try {
             System.out.println("작성자 검색 API 호출: authorName=" + authorName + ", page=" + page + ", size=" + size);
 
-            Page<NoticeResponse> noticePage = noticeService.searchByAuthor(authorName, page, size);
+            Page<NoticeListView> noticePage = noticeService.searchByAuthor(authorName, page, size);
 
             Map<String, Object> result = new HashMap<>();
             result.put("success", true);
@@ -497,7 +536,7 @@ public class NoticeController {
         try {
             System.out.println("키워드 검색 API 호출: keyword=" + keyword + ", page=" + page + ", size=" + size);
 
-            Page<NoticeResponse> noticePage = noticeService.searchByKeyword(keyword, page, size);
+            Page<NoticeListView> noticePage = noticeService.searchByKeyword(keyword, page, size);
 
             Map<String, Object> result = new HashMap<>();
             result.put("success", true);
@@ -535,7 +574,7 @@ public class NoticeController {
         try {
             System.out.println("복합 검색 API 호출: keyword=" + keyword + ", hasAttachment=" + hasAttachment + ", page=" + page + ", size=" + size);
 
-            Page<NoticeResponse> noticePage = noticeService.searchByKeywordAndAttachment(keyword, hasAttachment, page, size);
+            Page<NoticeListView> noticePage = noticeService.searchByKeywordAndAttachment(keyword, hasAttachment, page, size);
 
             Map<String, Object> result = new HashMap<>();
             result.put("success", true);
@@ -570,7 +609,7 @@ public class NoticeController {
         try {
             System.out.println("최근 공지사항 조회 API 호출");
 
-            List<NoticeResponse> notices = noticeService.getRecentNotices();
+            List<NoticeListView> notices = noticeService.getRecentNotices();
 
             Map<String, Object> result = new HashMap<>();
             result.put("success", true);
@@ -603,7 +642,7 @@ public class NoticeController {
         try {
             System.out.println("작성자 ID별 공지사항 조회 API 호출: authorId=" + authorId + ", page=" + page + ", size=" + size);
 
-            Page<NoticeResponse> noticePage = noticeService.getNoticesByAuthorId(authorId, page, size);
+            Page<NoticeListView> noticePage = noticeService.getNoticesByAuthorId(authorId, page, size);
 
             Map<String, Object> result = new HashMap<>();
             result.put("success", true);
@@ -640,7 +679,7 @@ public class NoticeController {
         try {
             System.out.println("부서별 공지사항 조회 API 호출: department=" + department + ", page=" + page + ", size=" + size);
 
-            Page<NoticeResponse> noticePage = noticeService.getNoticesByDepartment(department, page, size);
+            Page<NoticeListView> noticePage = noticeService.getNoticesByDepartment(department, page, size);
 
             Map<String, Object> result = new HashMap<>();
             result.put("success", true);
@@ -678,7 +717,7 @@ public class NoticeController {
         try {
             System.out.println("날짜 범위별 공지사항 조회 API 호출: startDate=" + startDate + ", endDate=" + endDate + ", page=" + page + ", size=" + size);
 
-            Page<NoticeResponse> noticePage = noticeService.getNoticesByDateRange(startDate, endDate, page, size);
+            Page<NoticeListView> noticePage = noticeService.getNoticesByDateRange(startDate, endDate, page, size);
 
             Map<String, Object> result = new HashMap<>();
             result.put("success", true);
@@ -1,9 +1,12 @@
 package com.example.companycoreserver.controller;
 
+import com.example.companycoreserver.dto.TaskAssignRequest;
 import com.example.companycoreserver.dto.TaskRequest;
 import com.example.companycoreserver.dto.TaskResponse;
 import com.example.companycoreserver.entity.Enum.TaskStatus;
 import com.example.companycoreserver.entity.Enum.AssignmentRole;
+import com.example.companycoreserver.security.AuthenticatedUser;
+import com.example.companycoreserver.security.CurrentUser;
 import com.example.companycoreserver.service.TaskService;
 import com.example.companycoreserver.service.TaskService.TaskStatsDto;
 import com.example.companycoreserver.service.TaskService.AssignmentStatsDto;
@@ -24,6 +27,9 @@ import java.util.List;
 @CrossOrigin(origins = "*")
 public class TaskController {
 
+    // 🆕 limit 없이 before 만 주면 사용하는 페이지 크기
+    private static final int DEFAULT_PAGE_SIZE = 50;
+
     private final TaskService taskService;
 
     @Autowired
@@ -129,7 +135,7 @@ public class TaskController {
      * 작업에 사용자 할당
      * POST /api/tasks/{taskId}/assign
      */
-    @PostMapping("/{taskId}/assign")
+    @PostMapping(value = "/{taskId}/assign", params = "userId")
     public ResponseEntity<ApiResponse<TaskResponse>> assignUserToTask(
             @PathVariable Long taskId,
             @RequestParam Long userId,
@@ -144,6 +150,31 @@ public class TaskController {
         }
     }
 
+    /**
+     * 🆕 작업에 여러 사용자 일괄 할당
+     * POST /api/tasks/{taskId}/assign  (body: {"userIds": [1, 2, 3], "role": "OBSERVER"})
+     * 이미 활성 할당된 사용자는 역할이 달라도 건너뜀 (단건 할당과 달리 오류 아님, 결과의 assignees 로 확인)
+     * 할당자는 토큰의 사용자 - 작업 생성자/할당자/활성 할당자만 가능
+     */
+    @PostMapping(value = "/{taskId}/assign", params = "!userId")
+    public ResponseEntity<ApiResponse<TaskResponse>> assignUsersToTask(
+            @PathVariable Long taskId,
+            @RequestBody TaskAssignRequest request,
+            @CurrentUser AuthenticatedUser currentUser) {
+        if (currentUser == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponse.error("인증 토큰이 없거나 유효하지 않습니다."));
+        }
+        try {
+            TaskResponse taskResponse = taskService.assignUsersToTask(
+                    taskId, request.getUserIds(), request.getRole(), currentUser.userId());
+            return ResponseEntity.ok(ApiResponse.success("사용자들이 성공적으로 할당되었습니다.", taskResponse));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("사용자 일괄 할당 실패: " + e.getMessage()));
+        }
+    }
+
     /**
      * 할당 해제
      * DELETE /api/tasks/{taskId}/assign/{userId}
@@ -188,16 +219,23 @@ public class TaskController {
     /**
      * 사용자의 모든 작업 조회
      * GET /api/tasks/user/{userId}
+     * 응답 data: TaskResponse 목록, before/limit 지정 시 CursorPageResponse (isPageRequest 참고)
      */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<ApiResponse<List<TaskResponse>>> getUserTasks(
+    public ResponseEntity<ApiResponse<?>> getUserTasks(
             @PathVariable Long userId,
-            @RequestParam(required = false) TaskStatus status) {
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) String before,
+            @RequestParam(required = false) Integer limit) {
         try {
-            List<TaskResponse> tasks = taskService.getUserTasks(userId, status);
             String message = status != null
                     ? String.format("사용자의 %s 상태 작업 조회 성공", status.name())
                     : "사용자의 모든 작업 조회 성공";
+            if (isPageRequest(before, limit)) {
+                return ResponseEntity.ok(ApiResponse.success(message,
+                        taskService.getUserTasksPage(userId, status, before, pageSize(limit))));
+            }
+            List<TaskResponse> tasks = taskService.getUserTasks(userId, status);
             return ResponseEntity.ok(ApiResponse.success(message, tasks));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -208,12 +246,19 @@ public class TaskController {
     /**
      * 역할별 사용자 작업 조회
      * GET /api/tasks/user/{userId}/role/{role}
+     * 응답 data: TaskResponse 목록, before/limit 지정 시 CursorPageResponse (isPageRequest 참고)
      */
     @GetMapping("/user/{userId}/role/{role}")
-    public ResponseEntity<ApiResponse<List<TaskResponse>>> getUserTasksByRole(
+    public ResponseEntity<ApiResponse<?>> getUserTasksByRole(
             @PathVariable Long userId,
-            @PathVariable AssignmentRole role) {
+            @PathVariable AssignmentRole role,
+            @RequestParam(required = false) String before,
+            @RequestParam(required = false) Integer limit) {
         try {
+            if (isPageRequest(before, limit)) {
+                return ResponseEntity.ok(ApiResponse.success(String.format("%s 역할의 작업 조회 성공", role.name()),
+                        taskService.getUserTasksByRolePage(userId, role, before, pageSize(limit))));
+            }
             List<TaskResponse> tasks = taskService.getUserTasksByRole(userId, role);
             return ResponseEntity.ok(ApiResponse.success(
                     String.format("%s 역할의 작업 조회 성공", role.name()), tasks));
@@ -226,10 +271,18 @@ public class TaskController {
     /**
      * 담당자 작업 조회 (ASSIGNEE)
      * GET /api/tasks/user/{userId}/assignee
+     * 응답 data: TaskResponse 목록, before/limit 지정 시 CursorPageResponse (isPageRequest 참고)
      */
     @GetMapping("/user/{userId}/assignee")
-    public ResponseEntity<ApiResponse<List<TaskResponse>>> getAssigneeTasks(@PathVariable Long userId) {
+    public ResponseEntity<ApiResponse<?>> getAssigneeTasks(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String before,
+            @RequestParam(required = false) Integer limit) {
         try {
+            if (isPageRequest(before, limit)) {
+                return ResponseEntity.ok(ApiResponse.success("담당 작업 조회 성공",
+                        taskService.getUserTasksByRolePage(userId, AssignmentRole.ASSIGNEE, before, pageSize(limit))));
+            }
             List<TaskResponse> tasks = taskService.getAssigneeTasks(userId);
             return ResponseEntity.ok(ApiResponse.success("담당 작업 조회 성공", tasks));
         } catch (Exception e) {
@@ -241,10 +294,18 @@ public class TaskController {
     /**
      * 리뷰 작업 조회 (REVIEWER)
      * GET /api/tasks/user/{userId}/review
+     * 응답 data: TaskResponse 목록, before/limit 지정 시 CursorPageResponse (isPageRequest 참고)
      */
     @GetMapping("/user/{userId}/review")
-    public ResponseEntity<ApiResponse<List<TaskResponse>>> getReviewTasks(@PathVariable Long userId) {
+    public ResponseEntity<ApiResponse<?>> getReviewTasks(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String before,
+            @RequestParam(required = false) Integer limit) {
         try {
+            if (isPageRequest(before, limit)) {
+                return ResponseEntity.ok(ApiResponse.success("리뷰 작업 조회 성공",
+                        taskService.getUserTasksByRolePage(userId, AssignmentRole.REVIEWER, before, pageSize(limit))));
+            }
             List<TaskResponse> tasks = taskService.getReviewTasks(userId);
             return ResponseEntity.ok(ApiResponse.success("리뷰 작업 조회 성공", tasks));
         } catch (Exception e) {
@@ -256,10 +317,18 @@ public class TaskController {
     /**
      * 관찰 작업 조회 (OBSERVER)
      * GET /api/tasks/user/{userId}/observe
+     * 응답 data: TaskResponse 목록, before/limit 지정 시 CursorPageResponse (isPageRequest 참고)
      */
     @GetMapping("/user/{userId}/observe")
-    public ResponseEntity<ApiResponse<List<TaskResponse>>> getObservedTasks(@PathVariable Long userId) {
+    public ResponseEntity<ApiResponse<?>> getObservedTasks(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String before,
+            @RequestParam(required = false) Integer limit) {
         try {
+            if (isPageRequest(before, limit)) {
+                return ResponseEntity.ok(ApiResponse.success("관찰 작업 조회 성공",
+                        taskService.getUserTasksByRolePage(userId, AssignmentRole.OBSERVER, before, pageSize(limit))));
+            }
             List<TaskResponse> tasks = taskService.getObservedTasks(userId);
             return ResponseEntity.ok(ApiResponse.success("관찰 작업 조회 성공", tasks));
         } catch (Exception e) {
@@ -275,16 +344,23 @@ public class TaskController {
     /**
      * 작업 검색
      * GET /api/tasks/search
+     * 응답 data: TaskResponse 목록, before/limit 지정 시 CursorPageResponse (isPageRequest 참고)
      */
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<List<TaskResponse>>> searchTasks(
+    public ResponseEntity<ApiResponse<?>> searchTasks(
             @RequestParam String keyword,
-            @RequestParam(required = false) Long userId) {
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) String before,
+            @RequestParam(required = false) Integer limit) {
         try {
-            List<TaskResponse> tasks = taskService.searchTasks(keyword, userId);
             String message = userId != null
                     ? "사용자별 작업 검색 성공"
                     : "전체 작업 검색 성공";
+            if (isPageRequest(before, limit)) {
+                return ResponseEntity.ok(ApiResponse.success(message,
+                        taskService.searchTasksPage(keyword, userId, before, pageSize(limit))));
+            }
+            List<TaskResponse> tasks = taskService.searchTasks(keyword, userId);
             return ResponseEntity.ok(ApiResponse.success(message, tasks));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -295,10 +371,18 @@ public class TaskController {
     /**
      * 부서별 작업 조회
      * GET /api/tasks/department/{department}
+     * 응답 data: TaskResponse 목록, before/limit 지정 시 CursorPageResponse (isPageRequest 참고)
      */
     @GetMapping("/department/{department}")
-    public ResponseEntity<ApiResponse<List<TaskResponse>>> getTasksByDepartment(@PathVariable String department) {
+    public ResponseEntity<ApiResponse<?>> getTasksByDepartment(
+            @PathVariable String department,
+            @RequestParam(required = false) String before,
+            @RequestParam(required = false) Integer limit) {
         try {
+            if (isPageRequest(before, limit)) {
+                return ResponseEntity.ok(ApiResponse.success("부서별 작업 조회 성공",
+                        taskService.getTasksByDepartmentPage(department, before, pageSize(limit))));
+            }
             List<TaskResponse> tasks = taskService.getTasksByDepartment(department);
             return ResponseEntity.ok(ApiResponse.success("부서별 작업 조회 성공", tasks));
         } catch (Exception e) {
@@ -361,13 +445,20 @@ public class TaskController {
     /**
      * 날짜 범위별 작업 조회
      * GET /api/tasks/user/{userId}/date-range
+     * 응답 data: TaskResponse 목록, before/limit 지정 시 CursorPageResponse (isPageRequest 참고)
      */
     @GetMapping("/user/{userId}/date-range")
-    public ResponseEntity<ApiResponse<List<TaskResponse>>> getUserTasksByDateRange(
+    public ResponseEntity<ApiResponse<?>> getUserTasksByDateRange(
             @PathVariable Long userId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String before,
+            @RequestParam(required = false) Integer limit) {
         try {
+            if (isPageRequest(before, limit)) {
+                return ResponseEntity.ok(ApiResponse.success("날짜 범위별 작업 조회 성공",
+                        taskService.getUserTasksByDateRangePage(userId, startDate, endDate, before, pageSize(limit))));
+            }
             List<TaskResponse> tasks = taskService.getUserTasksByDateRange(userId, startDate, endDate);
             return ResponseEntity.ok(ApiResponse.success("날짜 범위별 작업 조회 성공", tasks));
         } catch (Exception e) {
@@ -379,12 +470,19 @@ public class TaskController {
     /**
      * 특정 마감일 작업 조회
      * GET /api/tasks/user/{userId}/end-date
+     * 응답 data: TaskResponse 목록, before/limit 지정 시 CursorPageResponse (isPageRequest 참고)
      */
     @GetMapping("/user/{userId}/end-date")
-    public ResponseEntity<ApiResponse<List<TaskResponse>>> getUserTasksByEndDate(
+    public ResponseEntity<ApiResponse<?>> getUserTasksByEndDate(
             @PathVariable Long userId,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String before,
+            @RequestParam(required = false) Integer limit) {
         try {
+            if (isPageRequest(before, limit)) {
+                return ResponseEntity.ok(ApiResponse.success("특정 마감일 작업 조회 성공",
+                        taskService.getUserTasksByEndDatePage(userId, endDate, before, pageSize(limit))));
+            }
             List<TaskResponse> tasks = taskService.getUserTasksByEndDate(userId, endDate);
             return ResponseEntity.ok(ApiResponse.success("특정 마감일 작업 조회 성공", tasks));
         } catch (Exception e) {
@@ -442,6 +540,26 @@ public class TaskController {
         }
     }
 
+    // ========================================
+    // 📄 커서 페이지 파라미터
+    // 목록 API 는 before 또는 limit 이 있으면 커서 페이지(CursorPageResponse)로 응답
+    // (예: ?limit=50 → 응답의 nextCursor 를 ?before=<cursor>&limit=50 으로 전달)
+    // ========================================
+
+    /**
+     * 🆕 목록 API 응답 형태 선택 (ApiResponse 의 data 가 둘 중 하나)
+     * - before, limit 둘 다 없음 → TaskResponse 목록 (기존 응답, 전체)
+     * - 하나라도 있음 → CursorPageResponse (TaskResponse items, nextCursor, hasNext, size)
+     *   다음 페이지는 nextCursor 를 before 로 넘겨서 조회, limit 이 없으면 DEFAULT_PAGE_SIZE
+     */
+    private static boolean isPageRequest(String before, Integer limit) {
+        return before != null || limit != null;
+    }
+
+    private static int pageSize(Integer limit) {
+        return limit != null ? limit : DEFAULT_PAGE_SIZE;
+    }
+
     // ========================================
     // 🛠️ 공통 응답 클래스
     // ========================================
@@ -1,16 +1,31 @@
 // controller/UserController.java
 package com.example.companycoreserver.controller;
 
+import com.example.companycoreserver.dto.UserCard;
+import com.example.companycoreserver.dto.UserImportReport;
+import com.example.companycoreserver.dto.UserInfo;
+import com.example.companycoreserver.dto.UserSimpleInfo;
 import com.example.companycoreserver.entity.User;
 import com.example.companycoreserver.entity.Enum.Role;
 import com.example.companycoreserver.entity.Enum.UserStatus;
+import com.example.companycoreserver.security.AuthenticatedUser;
+import com.example.companycoreserver.security.CurrentUser;
+import com.example.companycoreserver.service.OrgDirectory;
+import com.example.companycoreserver.service.UserAutocompleteIndex;
+import com.example.companycoreserver.service.UserBulkImportService;
 import com.example.companycoreserver.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RestController
@@ -20,6 +35,15 @@ public class UserController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private UserAutocompleteIndex userAutocompleteIndex;
+
+    @Autowired
+    private UserBulkImportService userBulkImportService;
+
+    @Autowired
+    private OrgDirectory orgDirectory;
+
     // JWT 토큰 검증 (비활성화 상태)
     private boolean isValidToken(String token) {
         return true; // JWT 비활성화 상태이므로 항상 true
@@ -68,6 +92,70 @@ public class UserController {
         }
     }
 
+    // 🆕 사용자 일괄 등록 (CSV 또는 JSON 배열, 스트리밍 처리)
+    // - 관리자 또는 인사팀만 가능
+    // - 행별 오류와 처리량을 결과로 반환 (실패 행이 있어도 나머지는 등록됨)
+    // - 입력이 중간에 깨지면 400 + 그때까지의 결과(data)와 중단 행 번호 반환
+    @PostMapping(value = "/bulk-import", consumes = {"text/csv", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Map<String, Object>> bulkImportUsers(
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE) String contentType,
+            @CurrentUser AuthenticatedUser currentUser,
+            InputStream body) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            if (currentUser == null) {
+                response.put("success", false);
+                response.put("message", "인증이 필요합니다.");
+                return ResponseEntity.status(401).body(response);
+            }
+            if (!canManageUsers(currentUser)) {
+                response.put("success", false);
+                response.put("message", "관리자 또는 인사팀만 사용자를 일괄 등록할 수 있습니다.");
+                return ResponseEntity.status(403).body(response);
+            }
+
+            UserImportReport report = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.APPLICATION_JSON)
+                    ? userBulkImportService.importJson(body)
+                    : userBulkImportService.importCsv(body);
+
+            response.put("data", report);
+            if (report.aborted()) {
+                // 입력이 중간에 깨짐 - 앞 행들은 이미 등록되었으므로 결과와 함께 중단 위치를 알려줌
+                response.put("success", false);
+                response.put("message", "입력 형식 오류로 " + report.abortedAtRow() + "행에서 중단 ("
+                        + report.abortReason() + ") - " + report.imported() + "명 등록, " + report.failed()
+                        + "건 실패, " + report.abortedAtRow() + "행부터 다시 등록하세요.");
+                return ResponseEntity.badRequest().body(response);
+            }
+            response.put("success", report.failed() == 0);
+            response.put("message", report.imported() + "명 등록, " + report.failed() + "건 실패");
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException | IOException e) {
+            response.put("success", false);
+            response.put("message", "입력 형식 오류: " + e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        } catch (Exception e) {
+            System.err.println("Error in bulkImportUsers: " + e.getMessage());
+            e.printStackTrace();
+            response.put("success", false);
+            response.put("message", "일괄 등록 중 오류가 발생했습니다: " + e.getMessage());
+            return ResponseEntity.status(500).body(response);
+        }
+    }
+
+    // 관리자 또는 인사팀 (부서 claim 이 없는 이전 토큰은 조직 디렉터리에서 확인)
+    private boolean canManageUsers(AuthenticatedUser currentUser) {
+        if (currentUser.role() == Role.ADMIN) {
+            return true;
+        }
+        if (currentUser.hasDepartmentClaims()) {
+            return currentUser.isHrDepartment();
+        }
+        UserCard card = orgDirectory.getUser(currentUser.userId());
+        return card != null && AuthenticatedUser.HR_DEPARTMENT_NAME.equals(card.departmentName());
+    }
+
     // 🔍 모든 사용자 조회
     @GetMapping
     public ResponseEntity<List<User>> getAllUsers(
@@ -86,6 +174,51 @@ public class UserController {
         }
     }
 
+    // 🆕 사용자 디렉터리 검색 (페이지 단위)
+    // - keyword(이름/사번/이메일), departmentId, positionId, departmentName, positionName, role, isActive,
+    //   startDate/endDate(입사일), addressKeyword, page, size(최대 100), sortBy, sortDirection
+    // - 전체 목록/역할별/부서별/복합 조건 조회를 모두 이 API 하나로 페이지 단위 조회 가능
+    @GetMapping("/directory")
+    public ResponseEntity<?> searchUsers(
+            @RequestHeader("Authorization") String token,
+            @ModelAttribute UserInfo.SearchCondition condition) {
+        try {
+            if (!isValidToken(token)) {
+                return ResponseEntity.status(401).build();
+            }
+
+            UserInfo.PagedResponse response = userService.searchUsers(condition);
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            System.err.println("Error in searchUsers: " + e.getMessage());
+            return ResponseEntity.status(500).build();
+        }
+    }
+
+    // 🆕 이름 자동완성 (메시지 수신자 선택 등 - 키 입력마다 호출)
+    // - 이름 접두사, 초성("ㅎㄱㄷ"), 성 제외 이름, 사번 접두사 검색 / 활성 사용자만
+    // - 요청자와 같은 부서 사용자를 우선 정렬
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<UserSimpleInfo>> autocompleteUsers(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit,
+            @CurrentUser AuthenticatedUser currentUser) {
+        try {
+            Integer departmentId = currentUser != null ? currentUser.departmentId() : null;
+            List<UserSimpleInfo> users = userAutocompleteIndex.search(q, departmentId, limit).stream()
+                    .map(UserCard::toSimpleInfo)
+                    .toList();
+            return ResponseEntity.ok(users);
+
+        } catch (Exception e) {
+            System.err.println("Error in autocompleteUsers: " + e.getMessage());
+            return ResponseEntity.status(500).build();
+        }
+    }
+
     // 🔍 ID로 사용자 조회
     @GetMapping("/{userId}")
     public ResponseEntity<User> getUserById(
@@ -2,10 +2,10 @@ package com.example.companycoreserver.controller;
 
 import com.example.companycoreserver.dto.*;
 import com.example.companycoreserver.entity.User;
+import com.example.companycoreserver.security.AuthenticatedUser;
+import com.example.companycoreserver.security.CurrentUser;
 import com.example.companycoreserver.service.UserService;
 import com.example.companycoreserver.service.UserUpdateService;
-import com.example.companycoreserver.util.JwtUtil;
-import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -21,8 +21,6 @@ public class UserUpdateController {
     @Autowired
     private UserUpdateService userUpdateService;
 
-    @Autowired
-    private JwtUtil jwtUtil;
     // UserService 의존성 주입 추가
     private final UserService userService;
 
@@ -40,33 +38,19 @@ public class UserUpdateController {
     @PutMapping("/update")
     public ResponseEntity<UserUpdateResponse> updateUser(
             @RequestBody UserUpdateRequest request,
-            HttpServletRequest httpRequest) {
+            @CurrentUser AuthenticatedUser currentUser) {
 
         try {
-            // JWT에서 사용자 ID 추출
-            String token = extractTokenFromRequest(httpRequest);
-            if (token == null) {
-                return ResponseEntity.badRequest()
-                        .body(new UserUpdateResponse(false, "인증 토큰이 없습니다."));
-            }
-
-            Long jwtUserId = jwtUtil.getUserIdFromToken(token);
-            if (jwtUserId == null) {
+            // JWT에서 사용자 ID 추출 (JwtFilter 에서 검증된 사용자)
+            if (currentUser == null) {
                 return ResponseEntity.badRequest()
-                        .body(new UserUpdateResponse(false, "유효하지 않은 토큰입니다."));
+                        .body(new UserUpdateResponse(false, "인증 토큰이 없거나 유효하지 않습니다."));
             }
+            Long jwtUserId = currentUser.userId();
 
             // 인사팀 권한 확인 - 다른 사용자 정보 수정 시 인사팀 부서인지 확인
             if (request.getUserId() != null && !request.getUserId().equals(jwtUserId)) {
-                // 현재 로그인한 사용자의 부서 정보 조회
-                Optional<User> currentUser = userService.getUserById(jwtUserId);
-                if (!currentUser.isPresent()) {
-                    return ResponseEntity.badRequest()
-                            .body(new UserUpdateResponse(false, "사용자 정보를 찾을 수 없습니다."));
-                }
-                
-                User user = currentUser.get();
-                if (user.getDepartment() == null || !"인사팀".equals(user.getDepartment().getDepartmentName())) {
+                if (!isHrMember(currentUser)) {
                     return ResponseEntity.badRequest()
                             .body(new UserUpdateResponse(false, "인사팀만 다른 사용자 정보를 수정할 수 있습니다."));
                 }
@@ -92,21 +76,14 @@ public class UserUpdateController {
     }
 
     @GetMapping("/info")
-    public ResponseEntity<UserUpdateResponse> getUserInfo(HttpServletRequest httpRequest) {
+    public ResponseEntity<UserUpdateResponse> getUserInfo(@CurrentUser AuthenticatedUser currentUser) {
         try {
-            String token = extractTokenFromRequest(httpRequest);
-            if (token == null) {
-                return ResponseEntity.badRequest()
-                        .body(new UserUpdateResponse(false, "인증 토큰이 없습니다."));
-            }
-
-            Long userId = jwtUtil.getUserIdFromToken(token);
-            if (userId == null) {
+            if (currentUser == null) {
                 return ResponseEntity.badRequest()
-                        .body(new UserUpdateResponse(false, "유효하지 않은 토큰입니다."));
+                        .body(new UserUpdateResponse(false, "인증 토큰이 없거나 유효하지 않습니다."));
             }
 
-            UserUpdateResponse response = userUpdateService.getUserInfo(userId);
+            UserUpdateResponse response = userUpdateService.getUserInfo(currentUser.userId());
             return ResponseEntity.ok(response);
 
         } catch (Exception e) {
@@ -117,22 +94,15 @@ public class UserUpdateController {
 
     // 첫 로그인 상태 업데이트 엔드포인트 추가
     @PutMapping("/first-login")
-    public ResponseEntity<UserUpdateResponse> updateFirstLoginStatus(HttpServletRequest httpRequest) {
+    public ResponseEntity<UserUpdateResponse> updateFirstLoginStatus(@CurrentUser AuthenticatedUser currentUser) {
         try {
-            String token = extractTokenFromRequest(httpRequest);
-            if (token == null) {
+            if (currentUser == null) {
                 return ResponseEntity.badRequest()
-                        .body(new UserUpdateResponse(false, "인증 토큰이 없습니다."));
-            }
-
-            Long userId = jwtUtil.getUserIdFromToken(token);
-            if (userId == null) {
-                return ResponseEntity.badRequest()
-                        .body(new UserUpdateResponse(false, "유효하지 않은 토큰입니다."));
+                        .body(new UserUpdateResponse(false, "인증 토큰이 없거나 유효하지 않습니다."));
             }
 
             // 첫 로그인 상태 업데이트
-            UserUpdateResponse response = userUpdateService.updateFirstLoginStatus(userId);
+            UserUpdateResponse response = userUpdateService.updateFirstLoginStatus(currentUser.userId());
 
             return ResponseEntity.ok(response);
 
@@ -142,12 +112,17 @@ public class UserUpdateController {
         }
     }
 
-    private String extractTokenFromRequest(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
-        if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7);
+    // 🆕 인사팀 소속 여부 - 토큰 claim 으로 판단 (부서 claim 이 없는 이전 토큰만 DB 조회)
+    // 부서가 바뀌면 토큰 버전이 올라가 이전 부서 claim 이 담긴 토큰은 JwtFilter 에서 거부됨 (UserUpdateService)
+    private boolean isHrMember(AuthenticatedUser currentUser) {
+        if (currentUser.hasDepartmentClaims()) {
+            return currentUser.isHrDepartment();
         }
-        return null;
+
+        Optional<User> user = userService.getUserById(currentUser.userId());
+        return user.isPresent()
+                && user.get().getDepartment() != null
+                && AuthenticatedUser.HR_DEPARTMENT_NAME.equals(user.get().getDepartment().getDepartmentName());
     }
 
 
@@ -217,36 +192,19 @@ public class UserUpdateController {
 
     @PatchMapping("/update-department-position/{userId}")
     public ResponseEntity<?> updateUserDepartmentAndPosition(
-            @RequestHeader("Authorization") String token,
+            @CurrentUser AuthenticatedUser currentUser,
             @PathVariable Long userId,
             @RequestBody DeptPosiUpdateRequest request) {
         try {
-            if (!isValidToken(token)) {
-                return ResponseEntity.status(401).build();
-            }
-
-            // JWT에서 사용자 ID 추출
-            String jwtToken = null;
-            if (token != null && token.startsWith("Bearer ")) {
-                jwtToken = token.substring(7);
-            }
-            
-            Long requestUserId = jwtUtil.getUserIdFromToken(jwtToken);
-            if (requestUserId == null) {
-                return ResponseEntity.badRequest()
-                        .body(new UserUpdateResponse(false, "유효하지 않은 토큰입니다."));
+            if (currentUser == null) {
+                return ResponseEntity.status(401)
+                        .body(new UserUpdateResponse(false, "인증 토큰이 없거나 유효하지 않습니다."));
             }
+            Long requestUserId = currentUser.userId();
 
             // 인사팀 권한 확인 - 다른 사용자 부서/직급 변경 시 인사팀 부서인지 확인
             if (!requestUserId.equals(userId)) {
-                Optional<User> currentUser = userService.getUserById(requestUserId);
-                if (!currentUser.isPresent()) {
-                    return ResponseEntity.badRequest()
-                            .body(new UserUpdateResponse(false, "사용자 정보를 찾을 수 없습니다."));
-                }
-                
-                User user = currentUser.get();
-                if (user.getDepartment() == null || !"인사팀".equals(user.getDepartment().getDepartmentName())) {
+                if (!isHrMember(currentUser)) {
                     return ResponseEntity.status(403)
                             .body(new UserUpdateResponse(false, "인사팀만 다른 사용자의 부서/직급을 변경할 수 있습니다."));
                 }
@@ -271,34 +229,20 @@ public class UserUpdateController {
 
     @DeleteMapping("/delete/{userId}")
     public ResponseEntity<UserUpdateResponse> deleteUser(
-            @RequestHeader("Authorization") String token,
-            @PathVariable Long userId,
-            HttpServletRequest httpRequest) {
+            @CurrentUser AuthenticatedUser currentUser,
+            @PathVariable Long userId) {
 
         try {
-            // 토큰 검증
-            String jwtToken = extractTokenFromRequest(httpRequest);
-            if (jwtToken == null) {
+            // 토큰 검증 (JwtFilter 에서 검증된 사용자)
+            if (currentUser == null) {
                 return ResponseEntity.badRequest()
-                        .body(new UserUpdateResponse(false, "인증 토큰이 없습니다."));
-            }
-
-            Long requestUserId = jwtUtil.getUserIdFromToken(jwtToken);
-            if (requestUserId == null) {
-                return ResponseEntity.badRequest()
-                        .body(new UserUpdateResponse(false, "유효하지 않은 토큰입니다."));
+                        .body(new UserUpdateResponse(false, "인증 토큰이 없거나 유효하지 않습니다."));
             }
+            Long requestUserId = currentUser.userId();
 
             // 인사팀 권한 확인 - 다른 사용자 삭제 시 인사팀 부서인지 확인
             if (!requestUserId.equals(userId)) {
-                Optional<User> currentUser = userService.getUserById(requestUserId);
-                if (!currentUser.isPresent()) {
-                    return ResponseEntity.badRequest()
-                            .body(new UserUpdateResponse(false, "사용자 정보를 찾을 수 없습니다."));
-                }
-                
-                User user = currentUser.get();
-                if (user.getDepartment() == null || !"인사팀".equals(user.getDepartment().getDepartmentName())) {
+                if (!isHrMember(currentUser)) {
                     return ResponseEntity.status(403)
                             .body(new UserUpdateResponse(false, "인사팀만 다른 사용자를 삭제할 수 있습니다."));
                 }
@@ -0,0 +1,35 @@
+package com.example.companycoreserver.dto;
+
+import com.example.companycoreserver.entity.Enum.ApprovalStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결재 목록 조회용 프로젝션 (첨부파일 내용 컬럼은 조회하지 않음)
+ * 요청자/결재자 정보는 JOIN 으로 한 번에 조회 → ApprovalMapper 에서 ApprovalResponse 로 변환
+ */
+public record ApprovalListView(
+        Long id,
+        String title,
+        String content,
+        LocalDateTime requestDate,
+        ApprovalStatus status,
+        String rejectionReason,
+        LocalDateTime processedDate,
+        String attachmentFilename,
+        String attachmentContentType,
+        Long attachmentSize,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long requesterId,
+        String requesterEmployeeCode,
+        String requesterName,
+        String requesterPosition,
+        String requesterDepartment,
+        Long approverId,
+        String approverEmployeeCode,
+        String approverName,
+        String approverPosition,
+        String approverDepartment
+) {
+}
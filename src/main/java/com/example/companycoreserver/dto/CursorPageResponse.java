@@ -0,0 +1,38 @@
+package com.example.companycoreserver.dto;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답 DTO
+ * - nextCursor 를 다음 요청의 before 파라미터로 전달하면 다음 페이지 조회
+ */
+public class CursorPageResponse<T> {
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasNext;
+    private Integer size;
+
+    // 기본 생성자
+    public CursorPageResponse() {}
+
+    // 전체 생성자
+    public CursorPageResponse(List<T> items, String nextCursor, boolean hasNext) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+        this.size = items.size();
+    }
+
+    // Getters & Setters
+    public List<T> getItems() { return items; }
+    public void setItems(List<T> items) { this.items = items; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+
+    public boolean isHasNext() { return hasNext; }
+    public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
+
+    public Integer getSize() { return size; }
+    public void setSize(Integer size) { this.size = size; }
+}
@@ -12,6 +12,8 @@ public class LoginResponse {
     private String email;
     private String phone;
     private String token;
+    private String refreshToken;
+    private Long tokenExpiresIn; // 액세스 토큰 유효 시간 (초)
     private String employeeCode;
     private LocalDate joinDate;
     private Integer positionId;
@@ -81,6 +83,14 @@ public class LoginResponse {
         return token;
     }
 
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public Long getTokenExpiresIn() {
+        return tokenExpiresIn;
+    }
+
     public String getEmployeeCode() {
         return employeeCode;
     }
@@ -134,6 +144,14 @@ public class LoginResponse {
         this.token = token;
     }
 
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    public void setTokenExpiresIn(Long tokenExpiresIn) {
+        this.tokenExpiresIn = tokenExpiresIn;
+    }
+
     public void setEmployeeCode(String employeeCode) {
         this.employeeCode = employeeCode;
     }
@@ -0,0 +1,24 @@
+package com.example.companycoreserver.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회의 목록 조회용 프로젝션 (첨부파일 내용 컬럼은 조회하지 않음)
+ * JSON 필드는 Meeting 엔티티 응답과 동일 (attachmentContent / attachmentStorageKey 제외)
+ */
+public record MeetingListView(
+        Long meetingId,
+        String title,
+        String description,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        String location,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        String attachmentFilename,
+        String attachmentContentType,
+        Long attachmentSize,
+        String author,
+        String department
+) {
+}
@@ -0,0 +1,23 @@
+package com.example.companycoreserver.dto;
+
+/**
+ * 메시지 대시보드 집계 결과 (집계 쿼리 1회로 조회)
+ * - 대상 행이 없으면 SUM 결과가 null 이므로 0 으로 보정
+ */
+public record MessageDashboardStats(
+        Long receivedCount,
+        Long unreadCount,
+        Long todayReceivedCount,
+        Long messageTypeCount,
+        Long emailTypeCount,
+        Long sentCount
+) {
+    public MessageDashboardStats {
+        receivedCount = receivedCount != null ? receivedCount : 0L;
+        unreadCount = unreadCount != null ? unreadCount : 0L;
+        todayReceivedCount = todayReceivedCount != null ? todayReceivedCount : 0L;
+        messageTypeCount = messageTypeCount != null ? messageTypeCount : 0L;
+        emailTypeCount = emailTypeCount != null ? emailTypeCount : 0L;
+        sentCount = sentCount != null ? sentCount : 0L;
+    }
+}
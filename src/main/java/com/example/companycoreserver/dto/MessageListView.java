@@ -0,0 +1,22 @@
+package com.example.companycoreserver.dto;
+
+import com.example.companycoreserver.entity.Enum.MessageType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 메시지 목록 조회용 프로젝션 (첨부파일 내용 컬럼은 조회하지 않음)
+ */
+public record MessageListView(
+        Integer messageId,
+        Long senderId,
+        Long receiverId,
+        MessageType messageType,
+        String title,
+        String content,
+        Boolean isRead,
+        LocalDateTime sentAt,
+        String attachmentFilename,
+        Boolean hasAttachment
+) {
+}
@@ -0,0 +1,23 @@
+package com.example.companycoreserver.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공지사항 목록 조회용 프로젝션 (첨부파일 내용 컬럼은 조회하지 않음)
+ * JSON 필드는 NoticeResponse 와 동일 (attachmentContent 제외)
+ */
+public record NoticeListView(
+        Long id,
+        String title,
+        String content,
+        Long authorId,
+        String authorName,
+        String authorDepartment,
+        Boolean hasAttachment,
+        String attachmentFilename,
+        String attachmentContentType,
+        Long attachmentSize,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
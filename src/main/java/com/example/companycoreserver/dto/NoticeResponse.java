@@ -36,7 +36,10 @@ public class NoticeResponse {
             this.attachmentFilename = notice.getAttachmentFilename();
             this.attachmentContentType = notice.getAttachmentContentType();
             this.attachmentSize = notice.getAttachmentSize();
-            this.attachmentContent = notice.getAttachmentContent();
+            if (notice.getAttachmentStorageKey() == null) {
+                // 저장소 도입 이전 데이터만 Base64 내용 포함 (지연 로딩 컬럼)
+                this.attachmentContent = notice.getAttachmentContent();
+            }
         }
 
         this.createdAt = notice.getCreatedAt();
@@ -0,0 +1,30 @@
+package com.example.companycoreserver.dto;
+
+import com.example.companycoreserver.entity.Enum.AssignmentRole;
+
+import java.util.List;
+
+/**
+ * 작업 일괄 할당 요청 DTO
+ * - userIds 전원을 같은 역할(role, 기본 ASSIGNEE)로 할당
+ */
+public class TaskAssignRequest {
+    private List<Long> userIds;
+    private AssignmentRole role;
+
+    // 기본 생성자
+    public TaskAssignRequest() {
+    }
+
+    public TaskAssignRequest(List<Long> userIds, AssignmentRole role) {
+        this.userIds = userIds;
+        this.role = role;
+    }
+
+    // Getters & Setters
+    public List<Long> getUserIds() { return userIds; }
+    public void setUserIds(List<Long> userIds) { this.userIds = userIds; }
+
+    public AssignmentRole getRole() { return role; }
+    public void setRole(AssignmentRole role) { this.role = role; }
+}
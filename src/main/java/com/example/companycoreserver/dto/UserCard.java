@@ -0,0 +1,19 @@
+package com.example.companycoreserver.dto;
+
+/**
+ * 조직 디렉터리 사용자 카드 (불변) - 목록/응답 변환 시 이름·사번·부서·직급 표시용
+ */
+public record UserCard(
+        Long userId,
+        String username,
+        String employeeCode,
+        Integer departmentId,
+        String departmentName,
+        Integer positionId,
+        String positionName,
+        boolean active
+) {
+    public UserSimpleInfo toSimpleInfo() {
+        return new UserSimpleInfo(userId, username, employeeCode, positionName, departmentName);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.companycoreserver.dto;
+
+import java.util.List;
+
+/**
+ * 사용자 일괄 등록 결과
+ * @param totalRows       처리한 데이터 행 수 (헤더 제외)
+ * @param imported        등록 성공 수
+ * @param failed          실패 수
+ * @param elapsedMillis   전체 소요 시간
+ * @param rowsPerSecond   처리량 (행/초)
+ * @param errors          행별 오류 (최대 개수까지만)
+ * @param errorsTruncated 오류가 많아 일부만 담겼는지
+ * @param abortedAtRow    입력 읽기 오류로 중단된 데이터 행 번호 (끝까지 읽었으면 null)
+ *                        - 이 행 이전까지는 처리(등록/실패 보고) 완료, 이 행부터 다시 등록하면 됨
+ * @param abortReason     중단 사유 (JSON 은 입력 위치 포함, 끝까지 읽었으면 null)
+ */
+public record UserImportReport(
+        int totalRows,
+        int imported,
+        int failed,
+        long elapsedMillis,
+        double rowsPerSecond,
+        List<RowError> errors,
+        boolean errorsTruncated,
+        Integer abortedAtRow,
+        String abortReason
+) {
+    public boolean aborted() {
+        return abortedAtRow != null;
+    }
+
+    /**
+     * @param row          데이터 행 번호 (1부터, CSV 는 헤더 다음 줄이 1)
+     * @param employeeCode 해당 행의 사번 (없으면 null)
+     * @param message      실패 사유
+     */
+    public record RowError(int row, String employeeCode, String message) {
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.companycoreserver.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.springframework.format.annotation.DateTimeFormat;
 import java.time.LocalDateTime;
 import java.time.LocalDate;
 
@@ -473,13 +474,18 @@ public class UserInfo {
         private Long departmentId;
         private String role;
         private Boolean isActive; // Integer -> Boolean
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
         private LocalDate startDate; // String -> LocalDate
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
         private LocalDate endDate; // String -> LocalDate
         private Integer page = 0;
         private Integer size = 10;
         private String sortBy = "createdAt";
         private String sortDirection = "DESC";
         private String addressKeyword; // ✅ 주소 검색용 추가 (선택사항)
+        private Long positionId; // 🆕 직급 ID 조건
+        private String departmentName; // 🆕 부서명 조건 (기존 /filter, /department/{department} 호환)
+        private String positionName; // 🆕 직급명 조건 (기존 /filter, /position/{position} 호환)
 
 
         // 기본 생성자
@@ -536,6 +542,15 @@ public class UserInfo {
 
         public String getAddressKeyword() { return addressKeyword; }
         public void setAddressKeyword(String addressKeyword) { this.addressKeyword = addressKeyword; }
+
+        public Long getPositionId() { return positionId; }
+        public void setPositionId(Long positionId) { this.positionId = positionId; }
+
+        public String getDepartmentName() { return departmentName; }
+        public void setDepartmentName(String departmentName) { this.departmentName = departmentName; }
+
+        public String getPositionName() { return positionName; }
+        public void setPositionName(String positionName) { this.positionName = positionName; }
     }
 
     /**
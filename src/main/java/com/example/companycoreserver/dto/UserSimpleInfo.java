@@ -0,0 +1,42 @@
+package com.example.companycoreserver.dto;
+
+/**
+ * 목록 변환용 경량 사용자 정보 (JPQL 생성자 프로젝션)
+ * - User 엔티티 전체 대신 이름/사번/직급명/부서명만 조회
+ */
+public class UserSimpleInfo {
+    private Long userId;
+    private String username;
+    private String employeeCode;
+    private String positionName;
+    private String departmentName;
+
+    // 기본 생성자
+    public UserSimpleInfo() {}
+
+    // 전체 생성자 (JPQL new 구문에서 사용)
+    public UserSimpleInfo(Long userId, String username, String employeeCode,
+                          String positionName, String departmentName) {
+        this.userId = userId;
+        this.username = username;
+        this.employeeCode = employeeCode;
+        this.positionName = positionName;
+        this.departmentName = departmentName;
+    }
+
+    // Getters & Setters
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public String getUsername() { return username; }
+    public void setUsername(String username) { this.username = username; }
+
+    public String getEmployeeCode() { return employeeCode; }
+    public void setEmployeeCode(String employeeCode) { this.employeeCode = employeeCode; }
+
+    public String getPositionName() { return positionName; }
+    public void setPositionName(String positionName) { this.positionName = positionName; }
+
+    public String getDepartmentName() { return departmentName; }
+    public void setDepartmentName(String departmentName) { this.departmentName = departmentName; }
+}
@@ -1,6 +1,7 @@
 package com.example.companycoreserver.entity;
 
 import com.example.companycoreserver.entity.Enum.ApprovalStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -55,9 +56,16 @@ public class Approval {
     @Column
     private Long attachmentSize;
 
+    // 지연 로딩 (바이트코드 보강 필요) - 목록/상태 변경 시 첨부파일 내용을 읽지 않음
     @Lob
+    @Basic(fetch = FetchType.LAZY)
     @Column(columnDefinition = "LONGTEXT")
-    private String attachmentContent; // Base64 인코딩된 첨부파일 내용
+    @JsonIgnore
+    private String attachmentContent; // Base64 인코딩된 첨부파일 내용 (저장소 도입 전 데이터)
+
+    // 🆕 첨부파일 저장소 키 (파일 내용은 AttachmentStore 에 저장)
+    @Column(length = 64)
+    private String attachmentStorageKey;
 
     @CreationTimestamp
     private LocalDateTime createdAt;
@@ -129,6 +137,17 @@ public class Approval {
         this.updatedAt = LocalDateTime.now();
     }
 
+    // 🆕 저장소에 저장된 첨부파일로 교체 (기존 Base64 내용은 제거)
+    public void updateStoredAttachment(String filename, String contentType, String storageKey, Long size) {
+        this.hasAttachments = true;
+        this.attachmentFilename = filename;
+        this.attachmentContentType = contentType;
+        this.attachmentStorageKey = storageKey;
+        this.attachmentSize = size;
+        this.attachmentContent = null;
+        this.updatedAt = LocalDateTime.now();
+    }
+
     // ✅ 첨부파일 제거
     public void removeAttachment() {
         this.hasAttachments = false;
@@ -136,6 +155,7 @@ public class Approval {
         this.attachmentContentType = null;
         this.attachmentSize = null;
         this.attachmentContent = null;
+        this.attachmentStorageKey = null;
         this.updatedAt = LocalDateTime.now();
     }
 
@@ -244,6 +264,14 @@ public class Approval {
         this.attachmentContent = attachmentContent;
     }
 
+    public String getAttachmentStorageKey() {
+        return attachmentStorageKey;
+    }
+
+    public void setAttachmentStorageKey(String attachmentStorageKey) {
+        this.attachmentStorageKey = attachmentStorageKey;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
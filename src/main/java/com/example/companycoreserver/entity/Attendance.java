@@ -15,7 +15,10 @@ public class Attendance {
 
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "attendance_id_gen")
+    @TableGenerator(name = "attendance_id_gen", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.NAME_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = IdSequences.ATTENDANCES, allocationSize = IdSequences.ALLOCATION_SIZE)
     @Column(name = "attendance_id")
     private Integer attendanceId;
 
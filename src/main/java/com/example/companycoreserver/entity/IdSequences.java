@@ -0,0 +1,25 @@
+package com.example.companycoreserver.entity;
+
+/**
+ * 테이블 기반 ID 할당 설정 (@TableGenerator 공통 값)
+ * - IDENTITY 는 INSERT 를 실행해야 ID 를 알 수 있어서 Hibernate 가 JDBC batch INSERT 를 하지 않음
+ * - id_sequences 테이블에서 ALLOCATION_SIZE 만큼 ID 를 한 번에 받아 메모리에서 나눠 씀 (pooled-lo)
+ *   → 50건 저장 시 ID 할당 1회 + batch INSERT 1회
+ * - 시작 시 IdSequenceInitializer 가 각 행을 MAX(id)+1 이상으로 맞춤
+ */
+public final class IdSequences {
+
+    public static final String TABLE = "id_sequences";
+    public static final String NAME_COLUMN = "seq_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    // 시퀀스 이름 (id_sequences.seq_name)
+    public static final String MESSAGES = "messages";
+    public static final String ATTENDANCES = "attendances";
+    public static final String TASKS = "tasks";
+    public static final String TASK_ASSIGNMENTS = "task_assignment";
+
+    private IdSequences() {
+    }
+}
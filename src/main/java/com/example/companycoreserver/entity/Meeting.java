@@ -45,10 +45,16 @@ public class Meeting {
     @Column(name = "attachment_size")
     private Long attachmentSize;
 
+    // 지연 로딩 (바이트코드 보강 필요) - 목록/상태 변경 시 첨부파일 내용을 읽지 않음
     @Lob
+    @Basic(fetch = FetchType.LAZY)
     @Column(columnDefinition = "LONGTEXT")
     @JsonIgnore
-    private String attachmentContent; // Base64 인코딩된 첨부파일 내용
+    private String attachmentContent; // Base64 인코딩된 첨부파일 내용 (저장소 도입 전 데이터)
+
+    // 🆕 첨부파일 저장소 키 (파일 내용은 AttachmentStore 에 저장)
+    @Column(name = "attachment_storage_key", length = 64)
+    private String attachmentStorageKey;
 
     @Column(length = 255)
     private String author;                   // 작성자
@@ -69,11 +75,27 @@ public class Meeting {
         this.updatedAt = LocalDateTime.now();
     }
 
+    // 🆕 저장소에 저장된 첨부파일로 교체 (기존 Base64 내용은 제거)
+    public void updateStoredAttachment(String filename, String contentType, String storageKey, Long size) {
+        this.attachmentFilename = filename;
+        this.attachmentContentType = contentType;
+        this.attachmentStorageKey = storageKey;
+        this.attachmentSize = size;
+        this.attachmentContent = null;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public boolean hasAttachment() {
+        return attachmentStorageKey != null
+                || (attachmentContent != null && !attachmentContent.trim().isEmpty());
+    }
+
     public void removeAttachment() {
         this.attachmentFilename = null;
         this.attachmentContentType = null;
         this.attachmentSize = null;
         this.attachmentContent = null;
+        this.attachmentStorageKey = null;
         this.updatedAt = LocalDateTime.now();
     }
 
@@ -174,6 +196,14 @@ public class Meeting {
         this.attachmentContent = attachmentContent;
     }
 
+    public String getAttachmentStorageKey() {
+        return attachmentStorageKey;
+    }
+
+    public void setAttachmentStorageKey(String attachmentStorageKey) {
+        this.attachmentStorageKey = attachmentStorageKey;
+    }
+
     public String getAuthor() {
         return author;
     }
@@ -1,6 +1,7 @@
 package com.example.companycoreserver.entity;
 
 import com.example.companycoreserver.entity.Enum.MessageType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 
@@ -12,7 +13,10 @@ import java.time.LocalDateTime;
 public class Message {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "message_id_gen")
+    @TableGenerator(name = "message_id_gen", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.NAME_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = IdSequences.MESSAGES, allocationSize = IdSequences.ALLOCATION_SIZE)
     @Column(name = "message_id")
     private Integer messageId;
 
@@ -45,12 +49,19 @@ public class Message {
     @Column(name = "attachment_size")
     private Long attachmentSize;
 
+    // 지연 로딩 (바이트코드 보강 필요) - 목록/상태 변경 시 첨부파일 내용을 읽지 않음
+    @Basic(fetch = FetchType.LAZY)
     @Column(name = "attachment_content", columnDefinition = "TEXT")
+    @JsonIgnore
     private String attachmentContent;
 
     @Column(name = "attachment_filename", length = 255)
     private String attachmentFilename;
 
+    // 🆕 첨부파일 저장소 키 (파일 내용은 AttachmentStore 에 저장)
+    @Column(name = "attachment_storage_key", length = 64)
+    private String attachmentStorageKey;
+
     // 🔗 관계 매핑
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "sender_id", insertable = false, updatable = false)
@@ -187,6 +198,14 @@ public class Message {
         this.attachmentFilename = attachmentFilename;
     }
 
+    public String getAttachmentStorageKey() {
+        return attachmentStorageKey;
+    }
+
+    public void setAttachmentStorageKey(String attachmentStorageKey) {
+        this.attachmentStorageKey = attachmentStorageKey;
+    }
+
 
     public User getSender() {
         return sender;
@@ -205,8 +224,10 @@ public class Message {
     }
 
     // 🆕 첨부파일 존재 여부 확인 헬퍼 메소드
+    // 지연 로딩 컬럼(attachmentContent)을 읽지 않도록 파일명/저장소 키로 판단
     public boolean hasAttachment() {
-        return attachmentContent != null && !attachmentContent.trim().isEmpty();
+        return attachmentStorageKey != null
+                || (attachmentFilename != null && !attachmentFilename.trim().isEmpty());
     }
 
     // 🆕 첨부파일 정보 초기화 헬퍼 메소드
@@ -214,6 +235,7 @@ public class Message {
         this.attachmentContentType = null;
         this.attachmentSize = null;
         this.attachmentContent = null;
+        this.attachmentStorageKey = null;
     }
 
     @PrePersist
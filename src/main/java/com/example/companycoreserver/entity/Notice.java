@@ -1,5 +1,6 @@
 package com.example.companycoreserver.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
@@ -38,10 +39,17 @@ public class Notice {
     @Column
     private Long attachmentSize;
 
+    // 지연 로딩 (바이트코드 보강 필요) - 목록/상태 변경 시 첨부파일 내용을 읽지 않음
     @Lob
+    @Basic(fetch = FetchType.LAZY)
     @Column(columnDefinition = "LONGTEXT")
+    @JsonIgnore
     private String attachmentContent;
 
+    // 🆕 첨부파일 저장소 키 (파일 내용은 AttachmentStore 에 저장)
+    @Column(length = 64)
+    private String attachmentStorageKey;
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -75,11 +83,23 @@ public class Notice {
         this.updatedAt = LocalDateTime.now();
     }
 
+    // 🆕 저장소에 저장된 첨부파일로 교체 (기존 Base64 내용은 제거)
+    public void updateStoredAttachment(String filename, String contentType, String storageKey, Long size) {
+        this.hasAttachment = true;
+        this.attachmentFilename = filename;
+        this.attachmentContentType = contentType;
+        this.attachmentStorageKey = storageKey;
+        this.attachmentSize = size;
+        this.attachmentContent = null;
+        this.updatedAt = LocalDateTime.now();
+    }
+
     public void removeAttachment() {
         this.hasAttachment = false;
         this.attachmentFilename = null;
         this.attachmentContentType = null;
         this.attachmentContent = null;
+        this.attachmentStorageKey = null;
         this.attachmentSize = null;
         this.updatedAt = LocalDateTime.now();
     }
@@ -179,6 +199,14 @@ public class Notice {
         this.attachmentContent = attachmentContent;
     }
 
+    public String getAttachmentStorageKey() {
+        return attachmentStorageKey;
+    }
+
+    public void setAttachmentStorageKey(String attachmentStorageKey) {
+        this.attachmentStorageKey = attachmentStorageKey;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
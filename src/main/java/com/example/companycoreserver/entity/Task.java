@@ -13,12 +13,18 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_created_at_task_id", columnList = "created_at, task_id"),
+        @Index(name = "idx_tasks_end_date_task_id", columnList = "end_date, task_id")
+})
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Task {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "task_id_gen")
+    @TableGenerator(name = "task_id_gen", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.NAME_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = IdSequences.TASKS, allocationSize = IdSequences.ALLOCATION_SIZE)
     @Column(name = "task_id")
     private Long taskId;
 
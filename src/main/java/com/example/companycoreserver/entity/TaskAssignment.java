@@ -12,7 +12,10 @@ import java.time.LocalDateTime;
 public class TaskAssignment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "task_assignment_id_gen")
+    @TableGenerator(name = "task_assignment_id_gen", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.NAME_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = IdSequences.TASK_ASSIGNMENTS, allocationSize = IdSequences.ALLOCATION_SIZE)
     @Column(name = "assignment_id")
     private Long assignmentId;
 
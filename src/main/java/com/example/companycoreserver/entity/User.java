@@ -50,6 +50,11 @@ public class User {
     @Column(name = "is_active")
     private Integer isActive;
 
+    // 토큰 버전 - 로그인/로그아웃/토큰 재사용 감지 시 증가, 이전 버전 토큰은 모두 무효
+    @Column(name = "token_version")
+    @JsonIgnore
+    private Integer tokenVersion;
+
     @Column(name = "created_at", columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP")
     @JsonFormat(shape = JsonFormat.Shape.ARRAY) // 배열 형식으로 파싱
     private LocalDateTime createdAt;
@@ -201,6 +206,14 @@ public class User {
         this.isFirstLogin = isFirstLogin;
     }
 
+    public Integer getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public void setTokenVersion(Integer tokenVersion) {
+        this.tokenVersion = tokenVersion;
+    }
+
     public Integer getIsActive() {
         return isActive;
     }
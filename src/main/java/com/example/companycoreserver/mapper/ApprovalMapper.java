@@ -1,5 +1,6 @@
 package com.example.companycoreserver.mapper;
 
+import com.example.companycoreserver.dto.ApprovalListView;
 import com.example.companycoreserver.dto.ApprovalResponse;
 import com.example.companycoreserver.entity.Approval;
 import com.example.companycoreserver.entity.User;
@@ -25,10 +26,7 @@ public class ApprovalMapper {
         response.setAttachmentContentType(approval.getAttachmentContentType());
         response.setAttachmentSize(approval.getAttachmentSize());
 
-        // 첨부파일 내용 설정 (Base64 인코딩된 문자열)
-        if (approval.getAttachmentContent() != null && !approval.getAttachmentContent().trim().isEmpty()) {
-            response.setAttachmentContent(approval.getAttachmentContent());
-        }
+        // 첨부파일 내용은 응답에 포함하지 않음 (지연 로딩 컬럼, 다운로드 API 사용)
 
         // 🆕 생성/수정 시간 추가
         response.setCreatedAt(approval.getCreatedAt());
@@ -37,6 +35,35 @@ public class ApprovalMapper {
         return response;
     }
 
+    // 🆕 목록 프로젝션 → DTO (첨부파일 내용 없음, 사용자 정보는 이미 JOIN 으로 조회됨)
+    public ApprovalResponse toResponse(ApprovalListView view) {
+        ApprovalResponse response = new ApprovalResponse();
+        response.setId(view.id());
+        response.setTitle(view.title());
+        response.setContent(view.content());
+        response.setRequester(new ApprovalResponse.RequesterInfo(
+                view.requesterId(), view.requesterEmployeeCode(), view.requesterName(),
+                view.requesterPosition(), view.requesterDepartment()));
+        if (view.approverId() != null) {
+            response.setApprover(new ApprovalResponse.ApproverInfo(
+                    view.approverId(), view.approverEmployeeCode(), view.approverName(),
+                    view.approverPosition(), view.approverDepartment()));
+        }
+        response.setRequestDate(view.requestDate());
+        response.setStatus(view.status());
+        response.setRejectionReason(view.rejectionReason());
+        response.setProcessedDate(view.processedDate());
+
+        response.setAttachmentFilename(view.attachmentFilename());
+        response.setAttachmentContentType(view.attachmentContentType());
+        response.setAttachmentSize(view.attachmentSize());
+
+        response.setCreatedAt(view.createdAt());
+        response.setUpdatedAt(view.updatedAt());
+
+        return response;
+    }
+
     private ApprovalResponse.RequesterInfo toRequesterInfo(User user) {
         // 🛡️ null 체크 추가 (안전성 향상)
         if (user == null) {
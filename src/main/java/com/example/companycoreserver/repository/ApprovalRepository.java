@@ -1,5 +1,6 @@
 package com.example.companycoreserver.repository;
 
+import com.example.companycoreserver.dto.ApprovalListView;
 import com.example.companycoreserver.entity.Approval;
 import com.example.companycoreserver.entity.Department;
 import com.example.companycoreserver.entity.Enum.ApprovalStatus;
@@ -16,17 +17,26 @@ import org.springframework.data.domain.Pageable;
 @Repository
 public interface ApprovalRepository extends JpaRepository<Approval, Long> {
 
+    // 🆕 목록 조회용 SELECT 절 - 첨부파일 내용(LONGTEXT) 제외, 요청자/결재자 정보는 JOIN 으로 함께 조회
+    String LIST_VIEW_SELECT = "SELECT new com.example.companycoreserver.dto.ApprovalListView(" +
+            "a.id, a.title, a.content, a.requestDate, a.status, a.rejectionReason, a.processedDate, " +
+            "a.attachmentFilename, a.attachmentContentType, a.attachmentSize, a.createdAt, a.updatedAt, " +
+            "r.userId, r.employeeCode, r.username, rp.positionName, rd.departmentName, " +
+            "ap.userId, ap.employeeCode, ap.username, app.positionName, apd.departmentName) " +
+            "FROM Approval a JOIN a.requester r LEFT JOIN r.position rp LEFT JOIN r.department rd " +
+            "LEFT JOIN a.approver ap LEFT JOIN ap.position app LEFT JOIN ap.department apd ";
+
     // ✅ 내가 요청한 결재 목록
-    @Query("SELECT a FROM Approval a WHERE a.requester.userId = :userId ORDER BY a.requestDate DESC")
-    List<Approval> findByRequesterId(@Param("userId") Long userId);
+    @Query(LIST_VIEW_SELECT + "WHERE r.userId = :userId ORDER BY a.requestDate DESC")
+    List<ApprovalListView> findByRequesterId(@Param("userId") Long userId);
 
     // ✅ 내가 결재해야 할 목록
-    @Query("SELECT a FROM Approval a WHERE a.approver.userId = :userId ORDER BY a.requestDate DESC")
-    List<Approval> findByApproverId(@Param("userId") Long userId);
+    @Query(LIST_VIEW_SELECT + "WHERE ap.userId = :userId ORDER BY a.requestDate DESC")
+    List<ApprovalListView> findByApproverId(@Param("userId") Long userId);
 
     // ✅ 내가 결재해야 할 대기중인 목록
-    @Query("SELECT a FROM Approval a WHERE a.approver.userId = :userId AND a.status = 'PENDING' ORDER BY a.requestDate DESC")
-    List<Approval> findPendingApprovalsByApproverId(@Param("userId") Long userId);
+    @Query(LIST_VIEW_SELECT + "WHERE ap.userId = :userId AND a.status = 'PENDING' ORDER BY a.requestDate DESC")
+    List<ApprovalListView> findPendingApprovalsByApproverId(@Param("userId") Long userId);
 
     // 🆕 승인자가 지정되지 않은 대기 중인 결재
     List<Approval> findByStatusAndApproverIsNull(ApprovalStatus status);
@@ -64,16 +74,19 @@ public interface ApprovalRepository extends JpaRepository<Approval, Long> {
     List<Approval> findRecentApprovals(@Param("fromDate") LocalDateTime fromDate);
 
     // 🆕 내가 요청한 결재 목록 (페이지네이션 포함)
-    @Query("SELECT a FROM Approval a WHERE a.requester.userId = :userId")
-    Page<Approval> findByRequesterId(@Param("userId") Long userId, Pageable pageable);
+    @Query(value = LIST_VIEW_SELECT + "WHERE r.userId = :userId",
+            countQuery = "SELECT COUNT(a) FROM Approval a WHERE a.requester.userId = :userId")
+    Page<ApprovalListView> findByRequesterId(@Param("userId") Long userId, Pageable pageable);
 
     // 🆕 내가 결재해야 할 목록 (페이지네이션 포함)
-    @Query("SELECT a FROM Approval a WHERE a.approver.userId = :userId")
-    Page<Approval> findByApproverId(@Param("userId") Long userId, Pageable pageable);
+    @Query(value = LIST_VIEW_SELECT + "WHERE ap.userId = :userId",
+            countQuery = "SELECT COUNT(a) FROM Approval a WHERE a.approver.userId = :userId")
+    Page<ApprovalListView> findByApproverId(@Param("userId") Long userId, Pageable pageable);
 
     // 🆕 내가 결재해야 할 대기중인 목록 (페이지네이션 포함)
-    @Query("SELECT a FROM Approval a WHERE a.approver.userId = :userId AND a.status = 'PENDING'")
-    Page<Approval> findPendingApprovalsByApproverId(@Param("userId") Long userId, Pageable pageable);
+    @Query(value = LIST_VIEW_SELECT + "WHERE ap.userId = :userId AND a.status = 'PENDING'",
+            countQuery = "SELECT COUNT(a) FROM Approval a WHERE a.approver.userId = :userId AND a.status = 'PENDING'")
+    Page<ApprovalListView> findPendingApprovalsByApproverId(@Param("userId") Long userId, Pageable pageable);
     
     // 🆕 부서 정보를 포함하여 결재 조회 (권한 검증용)
     @Query("SELECT a FROM Approval a JOIN FETCH a.requester r JOIN FETCH r.department WHERE a.id = :approvalId")
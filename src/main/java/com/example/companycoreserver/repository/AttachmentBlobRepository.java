@@ -0,0 +1,49 @@
+package com.example.companycoreserver.repository;
+
+import com.example.companycoreserver.entity.AttachmentBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface AttachmentBlobRepository extends JpaRepository<AttachmentBlob, String> {
+
+    // ✅ 참조 추가 (없으면 생성) - 동시 업로드에도 한 행만 생기도록 upsert 사용
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO attachment_blobs (storage_key, size, ref_count, created_at) " +
+            "VALUES (:storageKey, :size, 1, NOW()) " +
+            "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1",
+            nativeQuery = true)
+    int acquire(@Param("storageKey") String storageKey, @Param("size") long size);
+
+    // ✅ 참조 해제
+    @Modifying
+    @Transactional
+    @Query("UPDATE AttachmentBlob b SET b.refCount = b.refCount - 1 " +
+            "WHERE b.storageKey = :storageKey AND b.refCount > 0")
+    int release(@Param("storageKey") String storageKey);
+
+    // 🆕 파일 정리 전 행 잠금 (행이 없으면 참조 0 인 행을 만들어 잠금 → 같은 키의 acquire 가 정리 완료까지 대기)
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO attachment_blobs (storage_key, size, ref_count, created_at) " +
+            "VALUES (:storageKey, 0, 0, NOW()) " +
+            "ON DUPLICATE KEY UPDATE ref_count = ref_count",
+            nativeQuery = true)
+    int lockForCleanup(@Param("storageKey") String storageKey);
+
+    // 🆕 현재 참조 수 (행 잠금, 행이 없으면 null)
+    @Query(value = "SELECT ref_count FROM attachment_blobs WHERE storage_key = :storageKey FOR UPDATE",
+            nativeQuery = true)
+    Integer findRefCountForUpdate(@Param("storageKey") String storageKey);
+
+    // ✅ 참조가 없는 경우에만 삭제 (삭제된 행 수 반환)
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM AttachmentBlob b WHERE b.storageKey = :storageKey AND b.refCount = 0")
+    int deleteIfUnreferenced(@Param("storageKey") String storageKey);
+}
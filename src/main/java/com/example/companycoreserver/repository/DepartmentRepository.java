@@ -38,6 +38,10 @@ public interface DepartmentRepository extends JpaRepository<Department, Long> {
     @Query("SELECT COUNT(u) FROM User u WHERE u.department.departmentId = :departmentId")
     Long countUsersByDepartment(@Param("departmentId") Long departmentId);
 
+    // 🆕 조직 디렉터리용 부서 목록 (departmentId, departmentName)
+    @Query("SELECT d.departmentId, d.departmentName FROM Department d")
+    List<Object[]> findAllDepartmentNames();
+
     // 부서명 중복 체크
     boolean existsByDepartmentName(String departmentName);
 
@@ -1,5 +1,6 @@
 package com.example.companycoreserver.repository;
 
+import com.example.companycoreserver.dto.MeetingListView;
 import com.example.companycoreserver.entity.Meeting;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -12,46 +13,63 @@ import java.util.List;
 @Repository
 public interface MeetingRepository extends JpaRepository<Meeting, Long> {
 
+    // 🆕 목록 조회용 SELECT 절 - 첨부파일 내용(LONGTEXT) 컬럼은 조회하지 않음
+    String LIST_VIEW_SELECT = "SELECT new com.example.companycoreserver.dto.MeetingListView(" +
+            "m.meetingId, m.title, m.description, m.startTime, m.endTime, m.location, " +
+            "m.createdAt, m.updatedAt, m.attachmentFilename, m.attachmentContentType, m.attachmentSize, " +
+            "m.author, m.department) FROM Meeting m ";
+
     // 기존 메서드들
-    List<Meeting> findByStartTimeBetween(LocalDateTime startDate, LocalDateTime endDate);
-    List<Meeting> findByLocationContaining(String location);
-    List<Meeting> findByTitleContaining(String title);
-    List<Meeting> findAllByOrderByStartTimeDesc();
+    @Query(LIST_VIEW_SELECT + "WHERE m.startTime BETWEEN :startDate AND :endDate")
+    List<MeetingListView> findByStartTimeBetween(@Param("startDate") LocalDateTime startDate,
+                                                 @Param("endDate") LocalDateTime endDate);
+
+    @Query(LIST_VIEW_SELECT + "WHERE m.location LIKE CONCAT('%', :location, '%')")
+    List<MeetingListView> findByLocationContaining(@Param("location") String location);
+
+    @Query(LIST_VIEW_SELECT + "WHERE m.title LIKE CONCAT('%', :title, '%')")
+    List<MeetingListView> findByTitleContaining(@Param("title") String title);
+
+    @Query(LIST_VIEW_SELECT + "ORDER BY m.startTime DESC")
+    List<MeetingListView> findAllByOrderByStartTimeDesc();
 
 
     // 1. 현재 진행중인 회의 조회
-    @Query("SELECT m FROM Meeting m WHERE m.startTime <= :now AND m.endTime >= :now")
-    List<Meeting> findCurrentMeetings(@Param("now") LocalDateTime now);
+    @Query(LIST_VIEW_SELECT + "WHERE m.startTime <= :now AND m.endTime >= :now")
+    List<MeetingListView> findCurrentMeetings(@Param("now") LocalDateTime now);
 
     // 2. 예정된 회의 조회 (미래 회의)
-    List<Meeting> findByStartTimeAfterOrderByStartTimeAsc(LocalDateTime now);
+    @Query(LIST_VIEW_SELECT + "WHERE m.startTime > :now ORDER BY m.startTime ASC")
+    List<MeetingListView> findByStartTimeAfterOrderByStartTimeAsc(@Param("now") LocalDateTime now);
 
     // 3. 완료된 회의 조회 (과거 회의)
-    List<Meeting> findByEndTimeBeforeOrderByStartTimeDesc(LocalDateTime now);
+    @Query(LIST_VIEW_SELECT + "WHERE m.endTime < :now ORDER BY m.startTime DESC")
+    List<MeetingListView> findByEndTimeBeforeOrderByStartTimeDesc(@Param("now") LocalDateTime now);
 
 
     // 5. 오늘의 회의 조회
-    @Query("SELECT m FROM Meeting m WHERE DATE(m.startTime) = DATE(:date) ORDER BY m.startTime ASC")
-    List<Meeting> findMeetingsByDate(@Param("date") LocalDateTime date);
+    @Query(LIST_VIEW_SELECT + "WHERE DATE(m.startTime) = DATE(:date) ORDER BY m.startTime ASC")
+    List<MeetingListView> findMeetingsByDate(@Param("date") LocalDateTime date);
 
     // 6. 이번 주 회의 조회
-    @Query("SELECT m FROM Meeting m WHERE m.startTime >= :weekStart AND m.startTime < :weekEnd ORDER BY m.startTime ASC")
-    List<Meeting> findMeetingsThisWeek(@Param("weekStart") LocalDateTime weekStart,
-                                       @Param("weekEnd") LocalDateTime weekEnd);
+    @Query(LIST_VIEW_SELECT + "WHERE m.startTime >= :weekStart AND m.startTime < :weekEnd ORDER BY m.startTime ASC")
+    List<MeetingListView> findMeetingsThisWeek(@Param("weekStart") LocalDateTime weekStart,
+                                               @Param("weekEnd") LocalDateTime weekEnd);
 
     // 7. 부서별 회의 조회
-    List<Meeting> findByDepartmentOrderByStartTimeDesc(String department);
+    @Query(LIST_VIEW_SELECT + "WHERE m.department = :department ORDER BY m.startTime DESC")
+    List<MeetingListView> findByDepartmentOrderByStartTimeDesc(@Param("department") String department);
 
     // 8. 부서별 현재 진행중인 회의 조회
-    @Query("SELECT m FROM Meeting m WHERE m.department = :department AND m.startTime <= :now AND m.endTime >= :now")
-    List<Meeting> findCurrentMeetingsByDepartment(@Param("department") String department, @Param("now") LocalDateTime now);
+    @Query(LIST_VIEW_SELECT + "WHERE m.department = :department AND m.startTime <= :now AND m.endTime >= :now")
+    List<MeetingListView> findCurrentMeetingsByDepartment(@Param("department") String department, @Param("now") LocalDateTime now);
 
     // 9. 부서별 예정된 회의 조회
-    @Query("SELECT m FROM Meeting m WHERE m.department = :department AND m.startTime > :now ORDER BY m.startTime ASC")
-    List<Meeting> findUpcomingMeetingsByDepartment(@Param("department") String department, @Param("now") LocalDateTime now);
+    @Query(LIST_VIEW_SELECT + "WHERE m.department = :department AND m.startTime > :now ORDER BY m.startTime ASC")
+    List<MeetingListView> findUpcomingMeetingsByDepartment(@Param("department") String department, @Param("now") LocalDateTime now);
 
     // 10. 부서별 완료된 회의 조회
-    @Query("SELECT m FROM Meeting m WHERE m.department = :department AND m.endTime < :now ORDER BY m.startTime DESC")
-    List<Meeting> findPastMeetingsByDepartment(@Param("department") String department, @Param("now") LocalDateTime now);
+    @Query(LIST_VIEW_SELECT + "WHERE m.department = :department AND m.endTime < :now ORDER BY m.startTime DESC")
+    List<MeetingListView> findPastMeetingsByDepartment(@Param("department") String department, @Param("now") LocalDateTime now);
 
 }
@@ -1,16 +1,23 @@
 // MessageRepository.java
 package com.example.companycoreserver.repository;
 
+import com.example.companycoreserver.dto.MessageDashboardStats;
+import com.example.companycoreserver.dto.MessageListView;
 import com.example.companycoreserver.entity.Message;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface MessageRepository extends JpaRepository<Message, Long> {
+public interface MessageRepository extends JpaRepository<Message, Long>, JpaSpecificationExecutor<Message>,
+        MessageRepositoryCustom {
 
     // ✅ 메시지 ID로 조회 (추가!!)
     Optional<Message> findByMessageId(Integer messageId);
@@ -31,17 +38,38 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
     List<Message> findByReceiverIdAndMessageTypeOrderBySentAtDesc(Long receiverId, String messageType);
 
     // ✅ 발신자와 수신자 간의 대화 조회
-    @Query("SELECT m FROM Message m WHERE " +
+    @Query("SELECT new com.example.companycoreserver.dto.MessageListView(" +
+            "m.messageId, m.senderId, m.receiverId, m.messageType, m.title, m.content, m.isRead, m.sentAt, " +
+            "m.attachmentFilename, " +
+            "CASE WHEN m.attachmentStorageKey IS NOT NULL OR " +
+            "(m.attachmentFilename IS NOT NULL AND TRIM(m.attachmentFilename) <> '') THEN true ELSE false END) " +
+            "FROM Message m WHERE " +
             "(m.senderId = :userId1 AND m.receiverId = :userId2) OR " +
             "(m.senderId = :userId2 AND m.receiverId = :userId1) " +
             "ORDER BY m.sentAt ASC")
-    List<Message> findConversationBetweenUsers(@Param("userId1") Long userId1,
+    List<MessageListView> findConversationBetweenUsers(@Param("userId1") Long userId1,
                                                @Param("userId2") Long userId2);
 
     // ✅ 읽지 않은 메시지 개수 조회
     @Query("SELECT COUNT(m) FROM Message m WHERE m.receiverId = :receiverId AND m.isRead = false")
     Long countUnreadMessages(@Param("receiverId") Long receiverId);
 
+    // ✅ 대시보드 집계 (받은/보낸 방향별 개수, 읽음 상태, 오늘 받은 개수, 타입별 개수를 한 번에)
+    @Query("SELECT new com.example.companycoreserver.dto.MessageDashboardStats(" +
+            "SUM(CASE WHEN m.receiverId = :userId THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN m.receiverId = :userId AND m.isRead = false THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN m.receiverId = :userId AND m.sentAt >= :startOfDay AND m.sentAt < :startOfNextDay " +
+            "THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN m.receiverId = :userId AND m.messageType = " +
+            "com.example.companycoreserver.entity.Enum.MessageType.MESSAGE THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN m.receiverId = :userId AND m.messageType = " +
+            "com.example.companycoreserver.entity.Enum.MessageType.EMAIL THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN m.senderId = :userId THEN 1 ELSE 0 END)) " +
+            "FROM Message m WHERE m.receiverId = :userId OR m.senderId = :userId")
+    MessageDashboardStats aggregateDashboard(@Param("userId") Long userId,
+                                             @Param("startOfDay") java.time.LocalDateTime startOfDay,
+                                             @Param("startOfNextDay") java.time.LocalDateTime startOfNextDay);
+
     // ✅ 특정 기간 내 메시지 조회
     @Query("SELECT m FROM Message m WHERE m.receiverId = :receiverId " +
             "AND m.sentAt BETWEEN :startDate AND :endDate " +
@@ -56,4 +84,35 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
             "ORDER BY m.sentAt DESC")
     List<Message> searchMessages(@Param("receiverId") Long receiverId,
                                  @Param("keyword") String keyword);
+
+    // ✅ 일괄 읽음 처리 (본인이 받은 메시지 중 안 읽은 것만, 변경된 행 수 반환)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Message m SET m.isRead = true " +
+            "WHERE m.messageId IN :messageIds AND m.receiverId = :receiverId AND m.isRead = false")
+    int markAsReadByIds(@Param("messageIds") Collection<Integer> messageIds,
+                        @Param("receiverId") Long receiverId);
+
+    // ✅ 받은 메시지 전체 읽음 처리
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Message m SET m.isRead = true WHERE m.receiverId = :receiverId AND m.isRead = false")
+    int markAllAsRead(@Param("receiverId") Long receiverId);
+
+    // ✅ 일괄 삭제 전 첨부파일 저장소 키 조회 (참조 해제용)
+    @Query("SELECT m.attachmentStorageKey FROM Message m " +
+            "WHERE m.messageId IN :messageIds AND m.receiverId = :receiverId " +
+            "AND m.attachmentStorageKey IS NOT NULL")
+    List<String> findAttachmentStorageKeys(@Param("messageIds") Collection<Integer> messageIds,
+                                           @Param("receiverId") Long receiverId);
+
+    // 🆕 일괄 처리 대상 메시지의 발신자 ID (발신자 대시보드 캐시 무효화용)
+    @Query("SELECT DISTINCT m.senderId FROM Message m " +
+            "WHERE m.messageId IN :messageIds AND m.receiverId = :receiverId")
+    List<Long> findSenderIds(@Param("messageIds") Collection<Integer> messageIds,
+                             @Param("receiverId") Long receiverId);
+
+    // ✅ 일괄 삭제 (본인이 받은 메시지만, 삭제된 행 수 반환)
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Message m WHERE m.messageId IN :messageIds AND m.receiverId = :receiverId")
+    int deleteByIds(@Param("messageIds") Collection<Integer> messageIds,
+                    @Param("receiverId") Long receiverId);
 }
@@ -0,0 +1,21 @@
+package com.example.companycoreserver.repository;
+
+import com.example.companycoreserver.dto.MessageListView;
+import com.example.companycoreserver.entity.Message;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * 메시지 목록 프로젝션 조회 (Specification 조건 + 목록에 필요한 컬럼만 SELECT)
+ */
+public interface MessageRepositoryCustom {
+
+    /**
+     * @param spec  조회 조건
+     * @param sort  정렬
+     * @param limit 최대 건수 (0 이하면 제한 없음)
+     */
+    List<MessageListView> findListViews(Specification<Message> spec, Sort sort, int limit);
+}
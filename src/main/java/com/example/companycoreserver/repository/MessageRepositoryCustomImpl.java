@@ -0,0 +1,64 @@
+package com.example.companycoreserver.repository;
+
+import com.example.companycoreserver.dto.MessageListView;
+import com.example.companycoreserver.entity.Message;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+public class MessageRepositoryCustomImpl implements MessageRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<MessageListView> findListViews(Specification<Message> spec, Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<MessageListView> query = cb.createQuery(MessageListView.class);
+        Root<Message> root = query.from(Message.class);
+
+        // 첨부파일 여부는 저장소 키/파일명으로 계산 (Message.hasAttachment() 와 같은 기준, LOB 컬럼은 읽지 않음)
+        Expression<Boolean> hasAttachment = cb.<Boolean>selectCase()
+                .when(cb.or(
+                        cb.isNotNull(root.get("attachmentStorageKey")),
+                        cb.and(cb.isNotNull(root.get("attachmentFilename")),
+                                cb.notEqual(cb.trim(root.get("attachmentFilename")), ""))), true)
+                .otherwise(false);
+
+        query.select(cb.construct(MessageListView.class,
+                root.get("messageId"),
+                root.get("senderId"),
+                root.get("receiverId"),
+                root.get("messageType"),
+                root.get("title"),
+                root.get("content"),
+                root.get("isRead"),
+                root.get("sentAt"),
+                root.get("attachmentFilename"),
+                hasAttachment));
+
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort != null && sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+
+        TypedQuery<MessageListView> typedQuery = entityManager.createQuery(query);
+        if (limit > 0) {
+            typedQuery.setMaxResults(limit);
+        }
+        return typedQuery.getResultList();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.companycoreserver.repository;
+
+import com.example.companycoreserver.entity.Enum.MessageType;
+import com.example.companycoreserver.entity.Message;
+import com.example.companycoreserver.util.LikePatternUtil;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * 메시지 조회 조건 조합용 Specification 모음
+ * - 방향/읽음 여부/타입/키워드/커서 조건을 DB(WHERE 절)에서 처리
+ */
+public class MessageSpecifications {
+
+    private MessageSpecifications() {
+    }
+
+    /**
+     * 조회 방향 (received / sent / all, 그 외 값은 결과 없음)
+     */
+    public static Specification<Message> direction(Long userId, String type) {
+        return (root, query, cb) -> {
+            switch (type.toLowerCase()) {
+                case "received":
+                    return cb.equal(root.get("receiverId"), userId);
+                case "sent":
+                    return cb.equal(root.get("senderId"), userId);
+                case "all":
+                    return cb.or(
+                            cb.equal(root.get("receiverId"), userId),
+                            cb.equal(root.get("senderId"), userId));
+                default:
+                    // 알 수 없는 조회 타입은 기존처럼 빈 결과
+                    return cb.disjunction();
+            }
+        };
+    }
+
+    /**
+     * 읽지 않은 메시지만
+     */
+    public static Specification<Message> unread() {
+        return (root, query, cb) -> cb.isFalse(root.get("isRead"));
+    }
+
+    /**
+     * 메시지 타입 일치 (존재하지 않는 타입이면 결과 없음)
+     */
+    public static Specification<Message> hasMessageType(String messageType) {
+        return (root, query, cb) -> {
+            try {
+                return cb.equal(root.get("messageType"), MessageType.valueOf(messageType));
+            } catch (IllegalArgumentException e) {
+                return cb.disjunction();
+            }
+        };
+    }
+
+    /**
+     * 제목 또는 내용에 키워드 포함 (%, _ 는 글자 그대로 검색)
+     */
+    public static Specification<Message> containsKeyword(String keyword) {
+        return (root, query, cb) -> {
+            String pattern = LikePatternUtil.contains(keyword);
+            return cb.or(
+                    cb.like(root.get("title"), pattern, LikePatternUtil.ESCAPE_CHAR),
+                    cb.like(root.get("content"), pattern, LikePatternUtil.ESCAPE_CHAR));
+        };
+    }
+
+    /**
+     * 커서 이전 메시지 ((sentAt, messageId) 내림차순 기준 seek)
+     */
+    public static Specification<Message> sentBefore(LocalDateTime cursorSentAt, Integer cursorId) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("sentAt"), cursorSentAt),
+                cb.and(
+                        cb.equal(root.get("sentAt"), cursorSentAt),
+                        cb.lessThan(root.get("messageId"), cursorId)));
+    }
+}
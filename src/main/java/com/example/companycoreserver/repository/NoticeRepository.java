@@ -1,5 +1,6 @@
 package com.example.companycoreserver.repository;
 
+import com.example.companycoreserver.dto.NoticeListView;
 import com.example.companycoreserver.entity.Notice;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -14,33 +15,57 @@ import java.util.List;
 @Repository
 public interface NoticeRepository extends JpaRepository<Notice, Long> {
 
+    // 🆕 목록 조회용 SELECT 절 - 첨부파일 내용(LONGTEXT) 컬럼은 조회하지 않음
+    String LIST_VIEW_SELECT = "SELECT new com.example.companycoreserver.dto.NoticeListView(" +
+            "n.id, n.title, n.content, n.authorId, n.authorName, n.authorDepartment, " +
+            "COALESCE(n.hasAttachment, false), n.attachmentFilename, n.attachmentContentType, " +
+            "n.attachmentSize, n.createdAt, n.updatedAt) FROM Notice n ";
+
+    // ✅ 전체 목록
+    @Query(value = LIST_VIEW_SELECT,
+            countQuery = "SELECT COUNT(n) FROM Notice n")
+    Page<NoticeListView> findAllListViews(Pageable pageable);
+
     // ✅ 제목으로 검색 (부분 일치)
-    Page<Notice> findByTitleContaining(String title, Pageable pageable);
+    @Query(value = LIST_VIEW_SELECT + "WHERE n.title LIKE CONCAT('%', :title, '%')",
+            countQuery = "SELECT COUNT(n) FROM Notice n WHERE n.title LIKE CONCAT('%', :title, '%')")
+    Page<NoticeListView> findByTitleContaining(@Param("title") String title, Pageable pageable);
 
     // ✅ 작성자로 검색 (부분 일치)
-    Page<Notice> findByAuthorNameContaining(String authorName, Pageable pageable);
+    @Query(value = LIST_VIEW_SELECT + "WHERE n.authorName LIKE CONCAT('%', :authorName, '%')",
+            countQuery = "SELECT COUNT(n) FROM Notice n WHERE n.authorName LIKE CONCAT('%', :authorName, '%')")
+    Page<NoticeListView> findByAuthorNameContaining(@Param("authorName") String authorName, Pageable pageable);
 
     // ✅ 작성자 ID로 검색
-    Page<Notice> findByAuthorId(Long authorId, Pageable pageable);
+    @Query(value = LIST_VIEW_SELECT + "WHERE n.authorId = :authorId",
+            countQuery = "SELECT COUNT(n) FROM Notice n WHERE n.authorId = :authorId")
+    Page<NoticeListView> findByAuthorId(@Param("authorId") Long authorId, Pageable pageable);
 
     // ✅ 부서로 검색 (정확히 일치)
-    Page<Notice> findByAuthorDepartment(String authorDepartment, Pageable pageable);
+    @Query(value = LIST_VIEW_SELECT + "WHERE n.authorDepartment = :authorDepartment",
+            countQuery = "SELECT COUNT(n) FROM Notice n WHERE n.authorDepartment = :authorDepartment")
+    Page<NoticeListView> findByAuthorDepartment(@Param("authorDepartment") String authorDepartment, Pageable pageable);
 
     // ✅ 날짜 범위로 검색
-    @Query("SELECT n FROM Notice n WHERE n.createdAt BETWEEN :startDate AND :endDate ORDER BY n.createdAt DESC")
-    Page<Notice> findByCreatedAtBetween(@Param("startDate") LocalDateTime startDate,
-                                        @Param("endDate") LocalDateTime endDate,
-                                        Pageable pageable);
+    @Query(value = LIST_VIEW_SELECT + "WHERE n.createdAt BETWEEN :startDate AND :endDate ORDER BY n.createdAt DESC",
+            countQuery = "SELECT COUNT(n) FROM Notice n WHERE n.createdAt BETWEEN :startDate AND :endDate")
+    Page<NoticeListView> findByCreatedAtBetween(@Param("startDate") LocalDateTime startDate,
+                                                @Param("endDate") LocalDateTime endDate,
+                                                Pageable pageable);
 
-    // ✅ 최근 공지사항 5개
-    List<Notice> findTop5ByOrderByCreatedAtDesc();
+    // ✅ 최근 공지사항 (Pageable 로 개수 지정)
+    @Query(LIST_VIEW_SELECT + "ORDER BY n.createdAt DESC")
+    List<NoticeListView> findRecentListViews(Pageable pageable);
 
     // ✅ 키워드 검색 (제목 + 내용)
-    @Query("SELECT n FROM Notice n WHERE " +
+    @Query(value = LIST_VIEW_SELECT + "WHERE " +
             "(LOWER(n.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
             "LOWER(n.content) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
-            "ORDER BY n.createdAt DESC")
-    Page<Notice> findByKeyword(@Param("keyword") String keyword, Pageable pageable);
+            "ORDER BY n.createdAt DESC",
+            countQuery = "SELECT COUNT(n) FROM Notice n WHERE " +
+                    "(LOWER(n.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                    "LOWER(n.content) LIKE LOWER(CONCAT('%', :keyword, '%')))")
+    Page<NoticeListView> findByKeyword(@Param("keyword") String keyword, Pageable pageable);
 
     // ✅ 기존 메서드도 유지 (호환성을 위해)
     @Query("SELECT n FROM Notice n WHERE " +
@@ -51,12 +76,16 @@ public interface NoticeRepository extends JpaRepository<Notice, Long> {
 
 
     // 🆕 추가: 복합 검색 (키워드 + 첨부파일 여부)
-    @Query("SELECT n FROM Notice n WHERE " +
+    @Query(value = LIST_VIEW_SELECT + "WHERE " +
             "(LOWER(n.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
             "LOWER(n.content) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
             "AND (:hasAttachment = false OR n.attachmentFilename IS NOT NULL) " +
-            "ORDER BY n.createdAt DESC")
-    Page<Notice> findByKeywordAndAttachment(@Param("keyword") String keyword,
-                                            @Param("hasAttachment") boolean hasAttachment,
-                                            Pageable pageable);
+            "ORDER BY n.createdAt DESC",
+            countQuery = "SELECT COUNT(n) FROM Notice n WHERE " +
+                    "(LOWER(n.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                    "LOWER(n.content) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+                    "AND (:hasAttachment = false OR n.attachmentFilename IS NOT NULL)")
+    Page<NoticeListView> findByKeywordAndAttachment(@Param("keyword") String keyword,
+                                                    @Param("hasAttachment") boolean hasAttachment,
+                                                    Pageable pageable);
 }
@@ -0,0 +1,16 @@
+package com.example.companycoreserver.repository;
+
+import com.example.companycoreserver.entity.Position;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PositionRepository extends JpaRepository<Position, Integer> {
+
+    // 🆕 조직 디렉터리용 직급 목록 (positionId, positionName)
+    @Query("SELECT p.positionId, p.positionName FROM Position p")
+    List<Object[]> findAllPositionNames();
+}
@@ -0,0 +1,33 @@
+package com.example.companycoreserver.repository;
+
+import com.example.companycoreserver.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    // ✅ 사용 처리 - 아직 사용되지 않은 경우에만 (동시에 같은 토큰으로 갱신해도 한 요청만 성공)
+    @Modifying
+    @Transactional
+    @Query("UPDATE RefreshToken r SET r.usedAt = :now WHERE r.tokenHash = :tokenHash AND r.usedAt IS NULL")
+    int markUsed(@Param("tokenHash") String tokenHash, @Param("now") LocalDateTime now);
+
+    // ✅ 사용자의 리프레시 토큰 전부 삭제 (로그아웃 / 재로그인 / 재사용 감지)
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RefreshToken r WHERE r.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    // ✅ 만료된 토큰 정리
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
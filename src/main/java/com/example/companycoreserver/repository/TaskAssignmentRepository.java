@@ -6,11 +6,13 @@ import com.example.companycoreserver.entity.Enum.AssignmentStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -83,6 +85,52 @@ public interface TaskAssignmentRepository extends JpaRepository<TaskAssignment,
      */
     List<TaskAssignment> findByTaskIdAndStatus(Long taskId, AssignmentStatus status);
 
+    /**
+     * 🆕 특정 사용자의 할당 개수 (역할 × 상태별, 대시보드용 GROUP BY 1회)
+     * 결과: [AssignmentRole, AssignmentStatus, Long]
+     */
+    @Query("SELECT ta.role, ta.status, COUNT(ta) FROM TaskAssignment ta " +
+            "WHERE ta.userId = :userId " +
+            "GROUP BY ta.role, ta.status")
+    List<Object[]> countByUserIdGroupByRoleAndStatus(@Param("userId") Long userId);
+
+    /**
+     * 🆕 작업에 할당된 적 있는 사용자 ID (상태 무관, 대시보드 캐시 무효화용)
+     */
+    @Query("SELECT DISTINCT ta.userId FROM TaskAssignment ta WHERE ta.taskId = :taskId")
+    List<Long> findUserIdsByTaskId(@Param("taskId") Long taskId);
+
+    /**
+     * 🆕 주어진 사용자 중 작업에 이미 특정 상태로 할당된 사용자 ID (일괄 할당 시 중복 확인용)
+     */
+    @Query("SELECT ta.userId FROM TaskAssignment ta " +
+            "WHERE ta.taskId = :taskId AND ta.userId IN :userIds AND ta.status = :status")
+    List<Long> findUserIdsByTaskIdAndUserIdInAndStatus(@Param("taskId") Long taskId,
+                                                       @Param("userIds") Collection<Long> userIds,
+                                                       @Param("status") AssignmentStatus status);
+
+    // ✅ 일괄 변경 메서드들 (UPDATE 1회, 변경된 행 수 반환)
+
+    /**
+     * 🆕 작업의 특정 상태 할당을 한 번에 다른 상태로 변경 (작업 완료/취소 시)
+     * completedAt: 완료면 현재 시각, 취소면 null (TaskAssignment.updateStatus 와 같은 규칙)
+     * 실행 후 영속성 컨텍스트를 비움 (이미 읽어둔 할당 엔티티가 ACTIVE 로 남지 않도록)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TaskAssignment ta SET ta.status = :newStatus, ta.updatedAt = :now, " +
+            "ta.completedAt = :completedAt " +
+            "WHERE ta.taskId = :taskId AND ta.status = :currentStatus")
+    int updateStatusByTaskId(@Param("taskId") Long taskId,
+                             @Param("currentStatus") AssignmentStatus currentStatus,
+                             @Param("newStatus") AssignmentStatus newStatus,
+                             @Param("completedAt") LocalDateTime completedAt,
+                             @Param("now") LocalDateTime now);
+
+    /**
+     * 🆕 여러 작업의 특정 상태 할당 정보 일괄 조회 (목록 변환용, IN 쿼리 1회)
+     */
+    List<TaskAssignment> findByTaskIdInAndStatus(Collection<Long> taskIds, AssignmentStatus status);
+
     /**
      * 특정 사용자의 활성 할당 작업들 조회
      */
@@ -215,18 +263,26 @@ public interface TaskAssignmentRepository extends JpaRepository<TaskAssignment,
 
     // ✅ 삭제 관련 메서드들
 
+    // 🆕 파생 삭제(조회 후 1건씩 삭제) 대신 DELETE 1회로 처리, 삭제된 행 수 반환
+
     /**
      * 특정 작업의 모든 할당 정보 삭제
      */
-    void deleteByTaskId(Long taskId);
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM TaskAssignment ta WHERE ta.taskId = :taskId")
+    int deleteByTaskId(@Param("taskId") Long taskId);
 
     /**
      * 특정 작업에서 특정 사용자의 할당 정보 삭제
      */
-    void deleteByTaskIdAndUserId(Long taskId, Long userId);
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM TaskAssignment ta WHERE ta.taskId = :taskId AND ta.userId = :userId")
+    int deleteByTaskIdAndUserId(@Param("taskId") Long taskId, @Param("userId") Long userId);
 
     /**
      * 비활성 할당 정보들 삭제
      */
-    void deleteByStatus(AssignmentStatus status);
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM TaskAssignment ta WHERE ta.status = :status")
+    int deleteByStatus(@Param("status") AssignmentStatus status);
 }
@@ -8,6 +8,8 @@ import com.example.companycoreserver.entity.Enum.TaskType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -18,7 +20,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
 
     // ✅ 기본 조회 메서드들 (TaskAssignment 조인 방식으로 변경)
 
@@ -202,6 +204,17 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
             "AND ta.status = 'ACTIVE'")
     long countUserTasks(@Param("userId") Long userId);
 
+    /**
+     * 🆕 특정 사용자의 작업 상태별 개수 (활성 할당 기준, 대시보드용 GROUP BY 1회)
+     * 결과: [TaskStatus, Long]
+     */
+    @Query("SELECT t.status, COUNT(DISTINCT t.taskId) FROM Task t " +
+            "JOIN t.assignments ta " +
+            "WHERE ta.userId = :userId " +
+            "AND ta.status = 'ACTIVE' " +
+            "GROUP BY t.status")
+    List<Object[]> countUserTasksGroupByStatus(@Param("userId") Long userId);
+
     /**
      * 특정 날짜 이후 생성된 작업 개수
      */
@@ -211,25 +224,26 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
 
     /**
      * 키워드로 작업 검색 (제목, 설명에서 검색)
+     * 🆕 pattern 은 소문자로 바꾸고 LikePatternUtil.contains 로 이스케이프한 값
      */
     @Query("SELECT t FROM Task t WHERE " +
-            "(LOWER(t.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(t.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+            "(LOWER(t.title) LIKE :pattern ESCAPE '!' OR " +
+            "LOWER(t.description) LIKE :pattern ESCAPE '!') " +
             "ORDER BY t.createdAt DESC")
-    List<Task> searchTasksByKeyword(@Param("keyword") String keyword);
+    List<Task> searchTasksByKeyword(@Param("pattern") String pattern);
 
     /**
-     * 특정 사용자의 키워드 검색
+     * 특정 사용자의 키워드 검색 (pattern 은 searchTasksByKeyword 와 동일)
      */
     @Query("SELECT DISTINCT t FROM Task t " +
             "JOIN t.assignments ta " +
             "WHERE ta.userId = :userId " +
             "AND ta.status = 'ACTIVE' " +
-            "AND (LOWER(t.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(t.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+            "AND (LOWER(t.title) LIKE :pattern ESCAPE '!' OR " +
+            "LOWER(t.description) LIKE :pattern ESCAPE '!') " +
             "ORDER BY t.createdAt DESC")
     List<Task> searchUserTasksByKeyword(@Param("userId") Long userId,
-                                        @Param("keyword") String keyword);
+                                        @Param("pattern") String pattern);
 
     // ✅ 관계 조인을 활용한 조회
 
@@ -306,6 +320,15 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      */
     boolean existsByCreatedAtBetween(LocalDateTime startDateTime, LocalDateTime endDateTime);
 
+    // ✅ 삭제 메서드
+
+    /**
+     * 🆕 작업 1건 삭제 (DELETE 1회 - 할당 목록을 읽어서 cascade 삭제하지 않음, 할당은 먼저 삭제할 것)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Task t WHERE t.taskId = :taskId")
+    int deleteTaskById(@Param("taskId") Long taskId);
+
     // ✅ 새로운 역할별 조회 메서드들
 
     /**
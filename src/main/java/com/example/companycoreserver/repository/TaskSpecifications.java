@@ -0,0 +1,123 @@
+package com.example.companycoreserver.repository;
+
+import com.example.companycoreserver.entity.Department;
+import com.example.companycoreserver.entity.Enum.AssignmentRole;
+import com.example.companycoreserver.entity.Enum.AssignmentStatus;
+import com.example.companycoreserver.entity.Enum.TaskStatus;
+import com.example.companycoreserver.entity.Task;
+import com.example.companycoreserver.entity.TaskAssignment;
+import com.example.companycoreserver.entity.User;
+import com.example.companycoreserver.util.LikePatternUtil;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 작업 목록 조회 조건 조합용 Specification 모음 (커서 페이지네이션용)
+ * - 할당 조건은 JOIN + DISTINCT 대신 EXISTS 서브쿼리 → 작업 1건당 1행, 정렬 키로 바로 LIMIT 가능
+ */
+public class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    /**
+     * 사용자에게 활성 상태로 할당된 작업 (role 이 null 이면 역할 무관)
+     */
+    public static Specification<Task> assignedTo(Long userId, AssignmentRole role) {
+        return (root, query, cb) -> {
+            Subquery<Long> subquery = query.subquery(Long.class);
+            Root<TaskAssignment> ta = subquery.from(TaskAssignment.class);
+
+            Predicate predicate = cb.and(
+                    cb.equal(ta.get("taskId"), root.get("taskId")),
+                    cb.equal(ta.get("userId"), userId),
+                    cb.equal(ta.get("status"), AssignmentStatus.ACTIVE));
+            if (role != null) {
+                predicate = cb.and(predicate, cb.equal(ta.get("role"), role));
+            }
+            return cb.exists(subquery.select(ta.get("assignmentId")).where(predicate));
+        };
+    }
+
+    /**
+     * 해당 부서(부서명 또는 부서코드) 사용자에게 활성 상태로 할당된 작업
+     */
+    public static Specification<Task> assignedToDepartment(String department) {
+        return (root, query, cb) -> {
+            Subquery<Long> subquery = query.subquery(Long.class);
+            Root<TaskAssignment> ta = subquery.from(TaskAssignment.class);
+            Join<TaskAssignment, User> user = ta.join("user");
+            Join<User, Department> dept = user.join("department");
+
+            return cb.exists(subquery.select(ta.get("assignmentId")).where(
+                    cb.equal(ta.get("taskId"), root.get("taskId")),
+                    cb.equal(ta.get("status"), AssignmentStatus.ACTIVE),
+                    cb.or(
+                            cb.equal(dept.get("departmentName"), department),
+                            cb.equal(dept.get("departmentCode"), department))));
+        };
+    }
+
+    /**
+     * 작업 상태 일치
+     */
+    public static Specification<Task> hasStatus(TaskStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    /**
+     * 제목 또는 설명에 키워드 포함 (대소문자 무시, %/_ 는 글자 그대로 검색)
+     */
+    public static Specification<Task> containsKeyword(String keyword) {
+        return (root, query, cb) -> {
+            String pattern = LikePatternUtil.contains(keyword.toLowerCase());
+            return cb.or(
+                    cb.like(cb.lower(root.get("title")), pattern, LikePatternUtil.ESCAPE_CHAR),
+                    cb.like(cb.lower(root.get("description")), pattern, LikePatternUtil.ESCAPE_CHAR));
+        };
+    }
+
+    /**
+     * 시작일/마감일이 기간 안에 있는 작업
+     */
+    public static Specification<Task> withinDateRange(LocalDate startDate, LocalDate endDate) {
+        return (root, query, cb) -> cb.and(
+                cb.greaterThanOrEqualTo(root.get("startDate"), startDate),
+                cb.lessThanOrEqualTo(root.get("endDate"), endDate));
+    }
+
+    /**
+     * 특정 마감일 작업
+     */
+    public static Specification<Task> endsOn(LocalDate endDate) {
+        return (root, query, cb) -> cb.equal(root.get("endDate"), endDate);
+    }
+
+    /**
+     * 커서 이전 작업 ((createdAt, taskId) 내림차순 기준 seek)
+     */
+    public static Specification<Task> createdBefore(LocalDateTime cursorCreatedAt, Long cursorId) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("createdAt"), cursorCreatedAt),
+                cb.and(
+                        cb.equal(root.get("createdAt"), cursorCreatedAt),
+                        cb.lessThan(root.get("taskId"), cursorId)));
+    }
+
+    /**
+     * 커서 이후 작업 ((endDate, taskId) 오름차순 기준 seek)
+     */
+    public static Specification<Task> endingAfter(LocalDate cursorEndDate, Long cursorId) {
+        return (root, query, cb) -> cb.or(
+                cb.greaterThan(root.get("endDate"), cursorEndDate),
+                cb.and(
+                        cb.equal(root.get("endDate"), cursorEndDate),
+                        cb.greaterThan(root.get("taskId"), cursorId)));
+    }
+}
@@ -1,13 +1,22 @@
 package com.example.companycoreserver.repository;
 
+import com.example.companycoreserver.dto.UserCard;
+import com.example.companycoreserver.dto.UserInfo;
+import com.example.companycoreserver.dto.UserSimpleInfo;
 import com.example.companycoreserver.entity.Enum.Role;
 import com.example.companycoreserver.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +29,34 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // 사원번호로 사용자 조회
     Optional<User> findByEmployeeCode(String employeeCode);
 
+    // 🆕 로그인용 - 토큰 claim 에 쓰는 부서 정보까지 한 번에 조회 (요청 스레드 밖에서 지연 로딩하지 않도록)
+    @EntityGraph(attributePaths = {"department"})
+    @Query("SELECT u FROM User u WHERE u.employeeCode = :employeeCode")
+    Optional<User> findWithDepartmentByEmployeeCode(@Param("employeeCode") String employeeCode);
+
+    // 🆕 토큰 재발급용 - 부서 정보까지 한 번에 조회
+    @EntityGraph(attributePaths = {"department"})
+    @Query("SELECT u FROM User u WHERE u.userId = :userId")
+    Optional<User> findWithDepartmentByUserId(@Param("userId") Long userId);
+
+    // 🆕 토큰 버전 조회 (없으면 0 으로 취급)
+    @Query("SELECT COALESCE(u.tokenVersion, 0) FROM User u WHERE u.userId = :userId")
+    Optional<Integer> findTokenVersion(@Param("userId") Long userId);
+
+    // 🆕 토큰 버전 증가 - 이전에 발급된 토큰 전부 무효화
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.tokenVersion = COALESCE(u.tokenVersion, 0) + 1 WHERE u.userId = :userId")
+    int incrementTokenVersion(@Param("userId") Long userId);
+
+    // 🆕 로그인 시 재해시 - 그 사이 비밀번호가 바뀌지 않았을 때만 교체
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.userId = :userId AND u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("userId") Long userId,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
+
     // 역할별 사용자 조회
     List<User> findByRole(Role role);
 
@@ -47,6 +84,38 @@ public interface UserRepository extends JpaRepository<User, Long> {
             "WHERE u.userId = :userId")
     Optional<User> findByIdWithDetails(@Param("userId") Long userId);
 
+    // 🆕 목록 변환용 경량 사용자 정보 일괄 조회 (IN 쿼리 1회)
+    @Query("SELECT new com.example.companycoreserver.dto.UserSimpleInfo(" +
+            "u.userId, u.username, u.employeeCode, p.positionName, d.departmentName) " +
+            "FROM User u " +
+            "LEFT JOIN u.position p " +
+            "LEFT JOIN u.department d " +
+            "WHERE u.userId IN :userIds")
+    List<UserSimpleInfo> findSimpleInfoByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    // 🆕 존재하는 사용자 ID 만 반환 (여러 ID 존재 여부를 한 번에 확인)
+    @Query("SELECT u.userId FROM User u WHERE u.userId IN :userIds")
+    List<Long> findExistingUserIds(@Param("userIds") Collection<Long> userIds);
+
+    // 🆕 조직 디렉터리 전체 적재용 사용자 카드 프로젝션
+    @Query("SELECT new com.example.companycoreserver.dto.UserCard(" +
+            "u.userId, u.username, u.employeeCode, u.departmentId, d.departmentName, u.positionId, p.positionName, " +
+            "CASE WHEN u.isActive = 1 THEN true ELSE false END) " +
+            "FROM User u " +
+            "LEFT JOIN u.position p " +
+            "LEFT JOIN u.department d")
+    List<UserCard> findAllUserCards();
+
+    // 🆕 조직 디렉터리 단건 갱신용
+    @Query("SELECT new com.example.companycoreserver.dto.UserCard(" +
+            "u.userId, u.username, u.employeeCode, u.departmentId, d.departmentName, u.positionId, p.positionName, " +
+            "CASE WHEN u.isActive = 1 THEN true ELSE false END) " +
+            "FROM User u " +
+            "LEFT JOIN u.position p " +
+            "LEFT JOIN u.department d " +
+            "WHERE u.userId = :userId")
+    Optional<UserCard> findUserCard(@Param("userId") Long userId);
+
     // 부서ID와 직급ID로 조회
     List<User> findByDepartmentIdAndPositionId(Integer departmentId, Integer positionId);
 
@@ -86,6 +155,58 @@ public interface UserRepository extends JpaRepository<User, Long> {
                                         @Param("role") Role role,
                                         @Param("isActive") Integer isActive);
 
+    // 🆕 사용자 디렉터리 페이지 조회 - 목록 DTO 프로젝션 + 모든 조건을 DB 에서 처리 (엔티티/연관 로딩 없음)
+    //    문자열 조건은 서비스에서 소문자 LIKE 패턴(%...%, 와일드카드는 '!' 로 이스케이프)으로 만들어 전달, null 이면 조건 미적용
+    @Query(value = "SELECT new com.example.companycoreserver.dto.UserInfo$ListResponse(" +
+            "u.userId, u.employeeCode, u.username, u.joinDate, u.email, d.departmentName, p.positionName, " +
+            "CASE WHEN u.isActive = 1 THEN true ELSE false END, u.createdAt, u.address) " +
+            "FROM User u " +
+            "LEFT JOIN u.department d " +
+            "LEFT JOIN u.position p " +
+            "WHERE (:keyword IS NULL OR LOWER(u.username) LIKE :keyword ESCAPE '!' " +
+            "       OR LOWER(u.employeeCode) LIKE :keyword ESCAPE '!' OR LOWER(u.email) LIKE :keyword ESCAPE '!') " +
+            "AND (:departmentId IS NULL OR u.departmentId = :departmentId) " +
+            "AND (:positionId IS NULL OR u.positionId = :positionId) " +
+            "AND (:departmentName IS NULL OR d.departmentName = :departmentName) " +
+            "AND (:positionName IS NULL OR p.positionName = :positionName) " +
+            "AND (:role IS NULL OR u.role = :role) " +
+            "AND (:isActive IS NULL OR u.isActive = :isActive) " +
+            "AND (:startDate IS NULL OR u.joinDate >= :startDate) " +
+            "AND (:endDate IS NULL OR u.joinDate <= :endDate) " +
+            "AND (:address IS NULL OR LOWER(u.address) LIKE :address ESCAPE '!')",
+            countQuery = "SELECT COUNT(u) FROM User u " +
+                    "LEFT JOIN u.department d " +
+                    "LEFT JOIN u.position p " +
+                    "WHERE (:keyword IS NULL OR LOWER(u.username) LIKE :keyword ESCAPE '!' " +
+                    "       OR LOWER(u.employeeCode) LIKE :keyword ESCAPE '!' OR LOWER(u.email) LIKE :keyword ESCAPE '!') " +
+                    "AND (:departmentId IS NULL OR u.departmentId = :departmentId) " +
+                    "AND (:positionId IS NULL OR u.positionId = :positionId) " +
+                    "AND (:departmentName IS NULL OR d.departmentName = :departmentName) " +
+                    "AND (:positionName IS NULL OR p.positionName = :positionName) " +
+                    "AND (:role IS NULL OR u.role = :role) " +
+                    "AND (:isActive IS NULL OR u.isActive = :isActive) " +
+                    "AND (:startDate IS NULL OR u.joinDate >= :startDate) " +
+                    "AND (:endDate IS NULL OR u.joinDate <= :endDate) " +
+                    "AND (:address IS NULL OR LOWER(u.address) LIKE :address ESCAPE '!')")
+    Page<UserInfo.ListResponse> searchDirectory(@Param("keyword") String keyword,
+                                                @Param("departmentId") Integer departmentId,
+                                                @Param("positionId") Integer positionId,
+                                                @Param("departmentName") String departmentName,
+                                                @Param("positionName") String positionName,
+                                                @Param("role") Role role,
+                                                @Param("isActive") Integer isActive,
+                                                @Param("startDate") LocalDate startDate,
+                                                @Param("endDate") LocalDate endDate,
+                                                @Param("address") String address,
+                                                Pageable pageable);
+
+    // 🆕 일괄 등록 시 중복 검사용 (행마다 exists 쿼리를 보내지 않도록 한 번에 적재)
+    @Query("SELECT u.email FROM User u")
+    List<String> findAllEmails();
+
+    @Query("SELECT u.employeeCode FROM User u")
+    List<String> findAllEmployeeCodes();
+
     // 이메일 중복 체크
     boolean existsByEmail(String email);
 
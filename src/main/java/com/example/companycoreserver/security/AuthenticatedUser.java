@@ -0,0 +1,30 @@
+package com.example.companycoreserver.security;
+
+import com.example.companycoreserver.entity.Enum.Role;
+
+/**
+ * JWT 에서 꺼낸 요청 사용자 정보 (요청마다 한 번만 생성되어 SecurityContext 에 저장)
+ * - 토큰 claims 만으로 구성되므로 권한 확인에 DB 조회가 필요 없음
+ * - 역할/부서/버전 claim 이 없는 이전 토큰이면 해당 필드는 null
+ */
+public record AuthenticatedUser(
+        Long userId,
+        String employeeCode,
+        Role role,
+        Integer departmentId,
+        Integer positionId,
+        String departmentName,
+        Integer tokenVersion
+) {
+    // 인사팀 부서명 (다른 사용자 정보 수정/삭제 권한)
+    public static final String HR_DEPARTMENT_NAME = "인사팀";
+
+    // 토큰에 부서 정보가 들어 있는지 (이전 토큰 호환용)
+    public boolean hasDepartmentClaims() {
+        return departmentName != null;
+    }
+
+    public boolean isHrDepartment() {
+        return HR_DEPARTMENT_NAME.equals(departmentName);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.companycoreserver.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 클라이언트 IP 확인 (로그인 시도 제한용)
+ * - 직접 연결한 주소가 신뢰하는 프록시(auth.trusted-proxies)일 때만 X-Forwarded-For 를 사용
+ * - X-Forwarded-For 는 오른쪽(가까운 프록시)부터 읽어서 신뢰 프록시가 아닌 첫 주소를 클라이언트로 봄
+ *   (왼쪽 값은 클라이언트가 마음대로 넣을 수 있으므로 그대로 믿지 않음)
+ */
+@Component
+public class ClientIpResolver {
+
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+
+    private final Set<String> trustedProxies;
+
+    public ClientIpResolver(@Value("${auth.trusted-proxies:}") List<String> trustedProxies) {
+        this.trustedProxies = new HashSet<>();
+        for (String proxy : trustedProxies) {
+            if (proxy != null && !proxy.isBlank()) {
+                this.trustedProxies.add(proxy.trim());
+            }
+        }
+    }
+
+    public String resolve(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        if (!trustedProxies.contains(remoteAddr)) {
+            return remoteAddr;
+        }
+
+        String forwardedFor = request.getHeader(FORWARDED_FOR);
+        if (forwardedFor == null || forwardedFor.isBlank()) {
+            return remoteAddr;
+        }
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (!hop.isEmpty() && !trustedProxies.contains(hop)) {
+                return hop;
+            }
+        }
+        return remoteAddr;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.companycoreserver.security;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 파라미터에 현재 요청 사용자({@link AuthenticatedUser}) 주입
+ * - 인증되지 않은 요청이면 null 이 주입됨
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentUser {
+}
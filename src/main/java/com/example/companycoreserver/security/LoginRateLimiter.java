@@ -0,0 +1,203 @@
+package com.example.companycoreserver.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그인 시도 제한 (토큰 버킷, 메모리)
+ * - 직원코드별 / 클라이언트 IP별 버킷을 각각 두고 둘 다 통과해야 bcrypt 검증으로 진행
+ * - 직원코드 버킷은 시도마다 차감하고 성공하면 초기화
+ * - IP 버킷은 실패한 시도만 차감 (사무실 NAT/프록시 뒤에서는 전 직원이 같은 IP 이므로,
+ *   출근 시간 정상 로그인이 몰려도 막히지 않고 여러 계정에 대한 대입 공격만 걸러냄)
+ * - 버킷 상태는 CAS 로만 갱신 (락 없음), 버킷 맵은 ConcurrentHashMap (내부적으로 분할 잠금)
+ * - 일정 시간 사용되지 않은 버킷은 주기적으로 제거
+ */
+@Component
+public class LoginRateLimiter {
+
+    private static final long SWEEP_INTERVAL_NANOS = 60_000_000_000L; // 1분
+
+    private final BucketGroup accountBuckets;
+    private final BucketGroup ipBuckets;
+    private final long idleEvictNanos;
+    private final AtomicLong lastSweepAt = new AtomicLong(System.nanoTime());
+
+    // 지표
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejectedByAccount = new LongAdder();
+    private final LongAdder rejectedByIp = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+
+    /**
+     * 판정 결과
+     * @param allowed           시도 허용 여부
+     * @param retryAfterSeconds 거절 시 다시 시도할 수 있을 때까지 남은 시간(초)
+     */
+    public record Decision(boolean allowed, long retryAfterSeconds) {
+        static final Decision ALLOW = new Decision(true, 0);
+    }
+
+    public LoginRateLimiter(@Value("${auth.throttle.account.capacity:5}") int accountCapacity,
+                            @Value("${auth.throttle.account.refill-seconds:12}") long accountRefillSeconds,
+                            @Value("${auth.throttle.ip.capacity:50}") int ipCapacity,
+                            @Value("${auth.throttle.ip.refill-seconds:1}") long ipRefillSeconds,
+                            @Value("${auth.throttle.idle-evict-minutes:10}") long idleEvictMinutes) {
+        this.accountBuckets = new BucketGroup(accountCapacity, accountRefillSeconds * 1_000_000_000L);
+        this.ipBuckets = new BucketGroup(ipCapacity, ipRefillSeconds * 1_000_000_000L);
+        this.idleEvictNanos = idleEvictMinutes * 60_000_000_000L;
+    }
+
+    /**
+     * 로그인 시도 허용 여부 (IP 는 남은 실패 허용량만 확인, 직원코드는 1회 차감)
+     */
+    public Decision tryAcquire(String employeeCode, String clientIp) {
+        long now = System.nanoTime();
+        sweepIfDue(now);
+
+        if (clientIp != null) {
+            long waitNanos = ipBuckets.peek(clientIp);
+            if (waitNanos > 0) {
+                rejectedByIp.increment();
+                return new Decision(false, toSeconds(waitNanos));
+            }
+        }
+
+        if (employeeCode != null) {
+            long waitNanos = accountBuckets.tryAcquire(employeeCode.trim(), now);
+            if (waitNanos > 0) {
+                rejectedByAccount.increment();
+                return new Decision(false, toSeconds(waitNanos));
+            }
+        }
+
+        allowed.increment();
+        return Decision.ALLOW;
+    }
+
+    /**
+     * 로그인 실패 시 IP 버킷 1회 차감
+     */
+    public void onFailure(String clientIp) {
+        if (clientIp != null) {
+            ipBuckets.tryAcquire(clientIp, System.nanoTime());
+        }
+    }
+
+    /**
+     * 로그인 성공 시 해당 계정 버킷 초기화 (정상 사용자가 이전 실패 때문에 막히지 않도록)
+     */
+    public void onSuccess(String employeeCode) {
+        if (employeeCode != null) {
+            accountBuckets.buckets.remove(employeeCode.trim());
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("allowed", allowed.sum());
+        metrics.put("rejectedByAccount", rejectedByAccount.sum());
+        metrics.put("rejectedByIp", rejectedByIp.sum());
+        metrics.put("accountBuckets", accountBuckets.buckets.size());
+        metrics.put("ipBuckets", ipBuckets.buckets.size());
+        metrics.put("evictedBuckets", evicted.sum());
+        return metrics;
+    }
+
+    // 오래 사용되지 않은 버킷 제거 (여러 스레드가 동시에 들어와도 한 번만 실행)
+    private void sweepIfDue(long now) {
+        long last = lastSweepAt.get();
+        if (now - last < SWEEP_INTERVAL_NANOS || !lastSweepAt.compareAndSet(last, now)) {
+            return;
+        }
+        evicted.add(accountBuckets.evictIdle(now, idleEvictNanos));
+        evicted.add(ipBuckets.evictIdle(now, idleEvictNanos));
+    }
+
+    private static long toSeconds(long nanos) {
+        return Math.max(1, (nanos + 999_999_999L) / 1_000_000_000L);
+    }
+
+    /**
+     * 같은 설정(용량/충전 주기)을 쓰는 버킷 묶음
+     */
+    private static class BucketGroup {
+        private final int capacity;
+        private final long refillNanos;
+        private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+        BucketGroup(int capacity, long refillNanos) {
+            this.capacity = capacity;
+            this.refillNanos = refillNanos;
+        }
+
+        // 토큰 1개 차감, 성공 시 0 / 실패 시 다음 토큰까지 남은 시간(ns)
+        long tryAcquire(String key, long now) {
+            Bucket bucket = buckets.computeIfAbsent(key, k -> new Bucket(capacity, now));
+            return bucket.tryAcquire(capacity, refillNanos);
+        }
+
+        // 차감 없이 확인, 토큰이 있으면 0 / 없으면 다음 토큰까지 남은 시간(ns) (버킷이 없으면 만들지 않음)
+        long peek(String key) {
+            Bucket bucket = buckets.get(key);
+            return bucket != null ? bucket.waitNanos(capacity, refillNanos) : 0;
+        }
+
+        int evictIdle(long now, long idleNanos) {
+            int before = buckets.size();
+            buckets.values().removeIf(bucket -> now - bucket.lastAccessAt() > idleNanos);
+            return Math.max(0, before - buckets.size());
+        }
+    }
+
+    /**
+     * 토큰 버킷 - (남은 토큰 수, 마지막 충전 시각) 을 불변 객체로 두고 CAS 로 교체
+     */
+    private static class Bucket {
+        private record State(double tokens, long refilledAt) {
+        }
+
+        private final AtomicReference<State> state;
+
+        Bucket(int capacity, long now) {
+            this.state = new AtomicReference<>(new State(capacity, now));
+        }
+
+        long tryAcquire(int capacity, long refillNanos) {
+            while (true) {
+                // CAS 재시도마다 시각을 다시 읽음 (다른 스레드가 더 늦은 시각으로 갱신한 상태에 이전 시각을 적용하지 않도록)
+                long now = System.nanoTime();
+                State current = state.get();
+                long elapsed = Math.max(0, now - current.refilledAt());
+                double tokens = Math.min(capacity, current.tokens() + elapsed / (double) refillNanos);
+                long refilledAt = Math.max(now, current.refilledAt());
+
+                if (tokens < 1) {
+                    // 부족 - 충전 시각만 갱신하고 대기 시간 반환
+                    if (state.compareAndSet(current, new State(tokens, refilledAt))) {
+                        return (long) Math.ceil((1 - tokens) * refillNanos);
+                    }
+                } else if (state.compareAndSet(current, new State(tokens - 1, refilledAt))) {
+                    return 0;
+                }
+            }
+        }
+
+        long waitNanos(int capacity, long refillNanos) {
+            State current = state.get();
+            long elapsed = Math.max(0, System.nanoTime() - current.refilledAt());
+            double tokens = Math.min(capacity, current.tokens() + elapsed / (double) refillNanos);
+            return tokens < 1 ? (long) Math.ceil((1 - tokens) * refillNanos) : 0;
+        }
+
+        long lastAccessAt() {
+            return state.get().refilledAt();
+        }
+    }
+}
@@ -1,12 +1,17 @@
 package com.example.companycoreserver.service;
 
+import com.example.companycoreserver.dto.ApprovalListView;
 import com.example.companycoreserver.dto.ApprovalResponse;
+import com.example.companycoreserver.dto.UserCard;
 import com.example.companycoreserver.entity.Approval;
+import com.example.companycoreserver.mapper.ApprovalMapper;
 import com.example.companycoreserver.entity.Department;
 import com.example.companycoreserver.entity.User;
 import com.example.companycoreserver.entity.Enum.ApprovalStatus;
 import com.example.companycoreserver.repository.ApprovalRepository;
 import com.example.companycoreserver.repository.UserRepository;
+import com.example.companycoreserver.storage.AttachmentResource;
+import com.example.companycoreserver.storage.StoredAttachment;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,27 +38,42 @@ public class ApprovalService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private AttachmentService attachmentService;
+
+    @Autowired
+    private ApprovalMapper approvalMapper;
+
+    @Autowired
+    private OrgDirectory orgDirectory;
+
     // 🔄 Approval → ApprovalResponse 변환 메서드
     private ApprovalResponse convertToApprovalResponse(Approval approval) {
-        // RequesterInfo 생성
-        ApprovalResponse.RequesterInfo requesterInfo = new ApprovalResponse.RequesterInfo(
-                approval.getRequester().getUserId(),
-                approval.getRequester().getEmployeeCode(),
-                approval.getRequester().getUsername(),
-                approval.getRequester().getPosition().getPositionName(), // Position 엔티티에서 이름 추출
-                approval.getRequester().getDepartment().getDepartmentName() // Department 엔티티에서 이름 추출
-        );
+        // 🆕 요청자/승인자 정보는 조직 디렉터리(메모리)에서 조회 - 프록시 초기화로 인한 추가 쿼리 없음
+        //    (연관 프록시에서 ID 만 꺼내는 것은 초기화를 일으키지 않음)
+        ApprovalResponse.RequesterInfo requesterInfo = toRequesterInfo(approval.getRequester());
 
         // ApproverInfo 생성 (승인자가 있는 경우만)
         ApprovalResponse.ApproverInfo approverInfo = null;
         if (approval.getApprover() != null) {
-            approverInfo = new ApprovalResponse.ApproverInfo(
-                    approval.getApprover().getUserId(),
-                    approval.getApprover().getEmployeeCode(),
-                    approval.getApprover().getUsername(),
-                    approval.getApprover().getPosition().getPositionName(),
-                    approval.getApprover().getDepartment().getDepartmentName()
-            );
+            UserCard approver = orgDirectory.getUser(approval.getApprover().getUserId());
+            if (approver != null) {
+                approverInfo = new ApprovalResponse.ApproverInfo(
+                        approver.userId(),
+                        approver.employeeCode(),
+                        approver.username(),
+                        approver.positionName(),
+                        approver.departmentName()
+                );
+            } else {
+                approverInfo = new ApprovalResponse.ApproverInfo(
+                        approval.getApprover().getUserId(),
+                        approval.getApprover().getEmployeeCode(),
+                        approval.getApprover().getUsername(),
+                        approval.getApprover().getPosition().getPositionName(),
+                        approval.getApprover().getDepartment().getDepartmentName()
+                );
+            }
         }
 
         // 첨부파일 Base64 인코딩 (있는 경우만)
@@ -81,18 +101,39 @@ public class ApprovalService {
         );
     }
 
+    private ApprovalResponse.RequesterInfo toRequesterInfo(User requester) {
+        UserCard card = orgDirectory.getUser(requester.getUserId());
+        if (card != null) {
+            return new ApprovalResponse.RequesterInfo(
+                    card.userId(),
+                    card.employeeCode(),
+                    card.username(),
+                    card.positionName(),
+                    card.departmentName()
+            );
+        }
+        // 디렉터리에 없으면 기존처럼 엔티티에서 추출
+        return new ApprovalResponse.RequesterInfo(
+                requester.getUserId(),
+                requester.getEmployeeCode(),
+                requester.getUsername(),
+                requester.getPosition().getPositionName(), // Position 엔티티에서 이름 추출
+                requester.getDepartment().getDepartmentName() // Department 엔티티에서 이름 추출
+        );
+    }
+
     // ✅ 내가 요청한 결재 목록
-    public List<Approval> getMyRequests(Long userId) {
+    public List<ApprovalListView> getMyRequests(Long userId) {
         return approvalRepository.findByRequesterId(userId);
     }
 
     // ✅ 내가 결재해야 할 목록
-    public List<Approval> getMyApprovals(Long userId) {
+    public List<ApprovalListView> getMyApprovals(Long userId) {
         return approvalRepository.findByApproverId(userId);
     }
 
     // ✅ 내가 결재해야 할 대기중인 목록
-    public List<Approval> getPendingApprovals(Long userId) {
+    public List<ApprovalListView> getPendingApprovals(Long userId) {
         return approvalRepository.findPendingApprovalsByApproverId(userId);
     }
 
@@ -181,15 +222,21 @@ public class ApprovalService {
 //                    .orElseThrow(() -> new RuntimeException("결재자를 찾을 수 없습니다."));
 //        }
 
-        // 🔄 생성자 호출 (approver null 가능)
+        // 🔄 생성자 호출 (approver null 가능) - 파일 내용은 저장소에 저장하므로 DB에는 넣지 않음
         Approval approval = new Approval(title, content, requester, approver,
-                attachmentFilename, attachmentContentType, attachmentSize, attachmentContent);
+                attachmentFilename, attachmentContentType, attachmentSize, null);
         
         // hasAttachments 설정
         if (hasAttachments != null) {
             approval.setHasAttachments(hasAttachments);
         }
 
+        if (attachmentContent != null && !attachmentContent.trim().isEmpty()) {
+            StoredAttachment stored = attachmentService.storeBase64(attachmentContent);
+            approval.updateStoredAttachment(attachmentFilename, attachmentContentType,
+                    stored.getStorageKey(), stored.getSize());
+        }
+
         return approvalRepository.save(approval);
     }
 
@@ -293,11 +340,21 @@ public class ApprovalService {
         approval.setTitle(title);
         approval.setContent(content);
 
-        // 첨부파일 정보 업데이트 (null 값도 허용하여 삭제 처리)
-        approval.setAttachmentFilename(attachmentFilename);
-        approval.setAttachmentContentType(attachmentContentType);
-        approval.setAttachmentSize(attachmentSize);
-        approval.setAttachmentContent(attachmentContent);
+        // 첨부파일 정보 업데이트 (파일명이 null이면 삭제 처리)
+        String previousKey = approval.getAttachmentStorageKey();
+        if (attachmentFilename == null) {
+            approval.removeAttachment();
+            attachmentService.release(previousKey);
+        } else if (attachmentContent != null && !attachmentContent.trim().isEmpty()) {
+            StoredAttachment stored = attachmentService.storeBase64(attachmentContent);
+            approval.updateStoredAttachment(attachmentFilename, attachmentContentType,
+                    stored.getStorageKey(), stored.getSize());
+            attachmentService.release(previousKey);
+        } else {
+            // 내용 없이 메타데이터만 온 경우 기존 파일 유지
+            approval.setAttachmentFilename(attachmentFilename);
+            approval.setAttachmentContentType(attachmentContentType);
+        }
 
         // 수정 시간 업데이트
         approval.setUpdatedAt(LocalDateTime.now());
@@ -322,6 +379,7 @@ public class ApprovalService {
         }
 
         approvalRepository.delete(approval);
+        attachmentService.release(approval.getAttachmentStorageKey());
     }
 
     // ✅ 결재 상세 조회 (Optional 버전)
@@ -335,6 +393,22 @@ public class ApprovalService {
                 .orElseThrow(() -> new RuntimeException("결재 요청을 찾을 수 없습니다."));
     }
 
+    // 🆕 첨부파일 다운로드 (저장소 파일 또는 기존 Base64 데이터)
+    @Transactional(readOnly = true)
+    public AttachmentResource downloadAttachment(Long approvalId) {
+        Approval approval = getApprovalById(approvalId);
+
+        if (approval.getAttachmentFilename() == null) {
+            throw new RuntimeException("첨부파일이 없습니다.");
+        }
+
+        return attachmentService.open(
+                approval.getAttachmentFilename(),
+                approval.getAttachmentContentType(),
+                approval.getAttachmentStorageKey(),
+                approval.getAttachmentStorageKey() == null ? approval.getAttachmentContent() : null);
+    }
+
     // ✅ 제목으로 검색
     public List<Approval> searchByTitle(String title) {
         return approvalRepository.findByTitleContainingIgnoreCaseOrderByRequestDateDesc(title);
@@ -351,10 +425,10 @@ public class ApprovalService {
         Sort sort = sortDir.equalsIgnoreCase("desc") ? Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
         Pageable pageable = PageRequest.of(page, size, sort);
         
-        Page<Approval> approvalPage = approvalRepository.findByRequesterId(userId, pageable);
+        Page<ApprovalListView> approvalPage = approvalRepository.findByRequesterId(userId, pageable);
         
         Map<String, Object> response = new HashMap<>();
-        response.put("content", approvalPage.getContent());
+        response.put("content", approvalPage.map(approvalMapper::toResponse).getContent());
         response.put("totalElements", approvalPage.getTotalElements());
         response.put("totalPages", approvalPage.getTotalPages());
         response.put("currentPage", page);
@@ -368,10 +442,10 @@ public class ApprovalService {
         Sort sort = sortDir.equalsIgnoreCase("desc") ? Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
         Pageable pageable = PageRequest.of(page, size, sort);
         
-        Page<Approval> approvalPage = approvalRepository.findByApproverId(userId, pageable);
+        Page<ApprovalListView> approvalPage = approvalRepository.findByApproverId(userId, pageable);
         
         Map<String, Object> response = new HashMap<>();
-        response.put("content", approvalPage.getContent());
+        response.put("content", approvalPage.map(approvalMapper::toResponse).getContent());
         response.put("totalElements", approvalPage.getTotalElements());
         response.put("totalPages", approvalPage.getTotalPages());
         response.put("currentPage", page);
@@ -385,10 +459,10 @@ public class ApprovalService {
         Sort sort = sortDir.equalsIgnoreCase("desc") ? Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
         Pageable pageable = PageRequest.of(page, size, sort);
         
-        Page<Approval> approvalPage = approvalRepository.findPendingApprovalsByApproverId(userId, pageable);
+        Page<ApprovalListView> approvalPage = approvalRepository.findPendingApprovalsByApproverId(userId, pageable);
         
         Map<String, Object> response = new HashMap<>();
-        response.put("content", approvalPage.getContent());
+        response.put("content", approvalPage.map(approvalMapper::toResponse).getContent());
         response.put("totalElements", approvalPage.getTotalElements());
         response.put("totalPages", approvalPage.getTotalPages());
         response.put("currentPage", page);
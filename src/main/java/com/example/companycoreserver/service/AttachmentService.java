@@ -0,0 +1,275 @@
+package com.example.companycoreserver.service;
+
+import com.example.companycoreserver.repository.AttachmentBlobRepository;
+import com.example.companycoreserver.storage.AttachmentResource;
+import com.example.companycoreserver.storage.AttachmentStore;
+import com.example.companycoreserver.storage.StagedAttachment;
+import com.example.companycoreserver.storage.StoredAttachment;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+
+/**
+ * 메시지/공지사항/회의/결재 공통 첨부파일 처리
+ * - 업로드: 스트림을 AttachmentStore 에 저장하고 storageKey 반환
+ * - 다운로드: storageKey 가 있으면 저장소 파일을 스트리밍, 없으면 기존 Base64 컬럼 데이터 사용
+ * - 중복 제거: 같은 내용은 SHA-256 키로 한 번만 저장, attachment_blobs 에서 참조 수 관리
+ *   (저장 시 참조 +1, 엔티티가 파일을 교체/삭제하면 release 로 -1, 0이 되면 커밋 후 파일 삭제)
+ * - 동시성: 파일 공개(publish)와 파일 삭제는 모두 attachment_blobs 행 잠금을 잡은 상태에서만 수행
+ *   → 업로드가 중복 제거로 재사용한 파일을 다른 요청의 release 가 지우지 않음
+ */
+@Service
+public class AttachmentService {
+
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+    private final AttachmentStore attachmentStore;
+    private final AttachmentBlobRepository attachmentBlobRepository;
+    private final TransactionTemplate cleanupTransaction;
+
+    public AttachmentService(AttachmentStore attachmentStore,
+                             AttachmentBlobRepository attachmentBlobRepository,
+                             PlatformTransactionManager transactionManager) {
+        this.attachmentStore = attachmentStore;
+        this.attachmentBlobRepository = attachmentBlobRepository;
+        // 커밋/롤백 이후 파일 정리는 원래 트랜잭션과 별도 트랜잭션에서 실행
+        this.cleanupTransaction = new TransactionTemplate(transactionManager);
+        this.cleanupTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 업로드 스트림 저장 (참조 +1)
+     * - 임시 기록 → 참조 행 upsert(행 잠금, 트랜잭션 끝까지 유지) → 최종 경로로 공개
+     * - 이번 트랜잭션이 새로 만든 파일은 롤백 시 삭제 (참조가 남아 있지 않은 경우)
+     */
+    @Transactional
+    public StoredAttachment store(InputStream content) {
+        StagedAttachment staged;
+        try {
+            staged = attachmentStore.stage(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException("첨부파일 저장에 실패했습니다: " + e.getMessage(), e);
+        }
+
+        String storageKey = staged.getStorageKey();
+        try {
+            attachmentBlobRepository.acquire(storageKey, staged.getSize());
+
+            boolean created;
+            try {
+                created = attachmentStore.publish(staged);
+            } catch (IOException e) {
+                throw new UncheckedIOException("첨부파일 저장에 실패했습니다: " + e.getMessage(), e);
+            }
+
+            if (created) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        if (status == STATUS_ROLLED_BACK) {
+                            cleanupIfUnreferenced(storageKey);
+                        }
+                    }
+                });
+            }
+            return new StoredAttachment(storageKey, staged.getSize());
+        } finally {
+            attachmentStore.discard(staged);
+        }
+    }
+
+    /**
+     * JSON 요청으로 받은 Base64 문자열 저장 (문자열을 복사하지 않고 읽으면서 디코딩해 저장)
+     * @throws IllegalArgumentException Base64 형식이 아닌 경우 (요청 오류)
+     * @throws UncheckedIOException 저장소 기록에 실패한 경우 (서버 오류)
+     */
+    @Transactional
+    public StoredAttachment storeBase64(String base64Content) {
+        return store(new Base64DecodingInputStream(base64Content));
+    }
+
+    /**
+     * 엔티티가 더 이상 참조하지 않는 파일 해제 (참조 -1)
+     * 참조가 0이 되면 트랜잭션 커밋 후 저장소 파일 삭제
+     * @param storageKey 해제할 저장소 키 (null 이면 무시 - 기존 Base64 데이터)
+     */
+    @Transactional
+    public void release(String storageKey) {
+        if (storageKey == null) {
+            return;
+        }
+        if (attachmentBlobRepository.release(storageKey) == 0) {
+            return;
+        }
+        Integer refCount = attachmentBlobRepository.findRefCountForUpdate(storageKey);
+        if (refCount != null && refCount > 0) {
+            return;
+        }
+
+        // 행은 정리 작업에서 삭제 (커밋 전에 다른 업로드가 다시 참조할 수 있음)
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cleanupIfUnreferenced(storageKey);
+            }
+        });
+    }
+
+    /**
+     * 참조가 없는 파일과 참조 행 삭제
+     * - 행을 잠근 상태에서 참조 수를 다시 확인하므로, 그 사이 같은 내용을 업로드한 트랜잭션과 겹치지 않음
+     */
+    private void cleanupIfUnreferenced(String storageKey) {
+        try {
+            cleanupTransaction.executeWithoutResult(status -> {
+                attachmentBlobRepository.lockForCleanup(storageKey);
+                Integer refCount = attachmentBlobRepository.findRefCountForUpdate(storageKey);
+                if (refCount != null && refCount > 0) {
+                    return;
+                }
+                try {
+                    attachmentStore.delete(storageKey);
+                } catch (IOException e) {
+                    // 파일이 남아 있으면 행도 유지 (행 없이 파일만 남지 않도록)
+                    System.err.println("첨부파일 삭제 실패 (storageKey=" + storageKey + "): " + e.getMessage());
+                    return;
+                }
+                attachmentBlobRepository.deleteIfUnreferenced(storageKey);
+            });
+        } catch (RuntimeException e) {
+            System.err.println("첨부파일 정리 실패 (storageKey=" + storageKey + "): " + e.getMessage());
+        }
+    }
+
+    /**
+     * 다운로드용 첨부파일 조회
+     * @param storageKey 저장소 키 (없으면 legacyBase64 사용)
+     * @param legacyBase64 저장소 도입 전 DB 컬럼에 저장된 Base64 내용
+     */
+    public AttachmentResource open(String filename, String contentType, String storageKey, String legacyBase64) {
+        String resolvedContentType = (contentType == null || contentType.isEmpty()) ? DEFAULT_CONTENT_TYPE : contentType;
+
+        if (storageKey != null) {
+            Resource resource = attachmentStore.load(storageKey);
+            try {
+                // 저장소 키가 곧 내용 SHA-256
+                return new AttachmentResource(filename, resolvedContentType, resource.contentLength(),
+                        storageKey, storageKey, resource);
+            } catch (IOException e) {
+                throw new UncheckedIOException("첨부파일을 읽을 수 없습니다: " + e.getMessage(), e);
+            }
+        }
+
+        if (legacyBase64 == null || legacyBase64.trim().isEmpty()) {
+            throw new RuntimeException("첨부파일이 없습니다.");
+        }
+
+        byte[] fileData;
+        try {
+            fileData = Base64.getDecoder().decode(legacyBase64.trim());
+        } catch (IllegalArgumentException e) {
+            // Base64가 아닌 경우 바이트 배열로 직접 처리
+            fileData = legacyBase64.getBytes(StandardCharsets.UTF_8);
+        }
+        return new AttachmentResource(filename, resolvedContentType, fileData.length,
+                null, sha256Hex(fileData), new ByteArrayResource(fileData));
+    }
+
+    /**
+     * Base64 문자열을 읽으면서 디코딩하는 스트림
+     * - 문자열을 byte[] 로 복사하지 않고 한 글자씩 읽음 (앞뒤 공백 제외)
+     * - 원본이 문자열이라 실제 I/O 오류는 없으므로, 디코더의 IOException 은 형식 오류(IllegalArgumentException)로 변환
+     *   → 저장소 I/O 오류와 구분됨
+     */
+    private static class Base64DecodingInputStream extends InputStream {
+        private final InputStream decoder;
+
+        Base64DecodingInputStream(String base64) {
+            this.decoder = Base64.getDecoder().wrap(new StringAsciiInputStream(base64));
+        }
+
+        @Override
+        public int read() {
+            try {
+                return decoder.read();
+            } catch (IOException e) {
+                throw new IllegalArgumentException("첨부파일 Base64 디코딩 실패: " + e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            try {
+                return decoder.read(b, off, len);
+            } catch (IOException e) {
+                throw new IllegalArgumentException("첨부파일 Base64 디코딩 실패: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 문자열을 1글자 = 1바이트로 읽는 스트림 (Base64 는 ASCII 만 사용, 그 외 글자는 '?' 로 읽혀 디코딩 오류가 됨)
+     */
+    private static class StringAsciiInputStream extends InputStream {
+        private final String text;
+        private final int end;
+        private int pos;
+
+        StringAsciiInputStream(String text) {
+            int begin = 0;
+            int end = text.length();
+            while (begin < end && Character.isWhitespace(text.charAt(begin))) begin++;
+            while (end > begin && Character.isWhitespace(text.charAt(end - 1))) end--;
+            this.text = text;
+            this.pos = begin;
+            this.end = end;
+        }
+
+        @Override
+        public int read() {
+            return pos < end ? toAscii(text.charAt(pos++)) : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (pos >= end) {
+                return -1;
+            }
+            int n = Math.min(len, end - pos);
+            for (int i = 0; i < n; i++) {
+                b[off + i] = (byte) toAscii(text.charAt(pos++));
+            }
+            return n;
+        }
+
+        private static int toAscii(char c) {
+            return c < 0x80 ? c : '?';
+        }
+    }
+
+    private static String sha256Hex(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -3,11 +3,14 @@ package com.example.companycoreserver.service;
 import com.example.companycoreserver.entity.User;
 import com.example.companycoreserver.repository.UserRepository;
 import com.example.companycoreserver.util.JwtUtil;
+import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Service
 public class AuthService {
@@ -24,94 +27,117 @@ public class AuthService {
     @Autowired
     private SessionManager sessionManager;
 
-    public String login(String employeeCode, String password) {
-        try {
-            System.out.println("=== 로그인 프로세스 시작 ===");
-            System.out.println("직원코드: " + employeeCode);
-            System.out.println("입력 패스워드: [" + password + "]");
-            System.out.println("입력 패스워드 길이: " + password.length());
+    @Autowired
+    private PasswordHashService passwordHashService;
 
-            // 1. 사용자 조회
-            Optional<User> userOptional = userRepository.findByEmployeeCode(employeeCode);
-            if (userOptional.isEmpty()) {
-                System.err.println("사용자를 찾을 수 없습니다: " + employeeCode);
-                return null;
-            }
+    @Autowired
+    private RefreshTokenService refreshTokenService;
 
-            User user = userOptional.get();
-            System.out.println("사용자 조회 성공: " + user.getEmployeeCode());
+    @Autowired
+    private TokenVersionService tokenVersionService;
 
-            String dbPassword = user.getPassword();
-            if (dbPassword == null) {
-                System.err.println("DB에 패스워드가 저장되어 있지 않습니다");
-                return null;
-            }
+    // 🆕 bcrypt 검증 이후의 DB 작업(토큰 버전 증가, 리프레시 토큰 저장, 세션 등록, 재해시 반영) 실행용
+    // bcrypt 실행기 스레드는 해시 계산에만 쓰도록 분리 (DB 대기로 bcrypt 처리량이 줄지 않게)
+    private final ExecutorService loginExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
-            // 🔍 상세 패스워드 정보 출력
-            System.out.println("=== 패스워드 상세 분석 ===");
-            System.out.println("DB 패스워드 전체: [" + dbPassword + "]");
-            System.out.println("DB 패스워드 길이: " + dbPassword.length());
-            System.out.println("입력 패스워드 바이트: " + java.util.Arrays.toString(password.getBytes()));
-            System.out.println("DB 패스워드 바이트 (앞 20개): " + java.util.Arrays.toString(java.util.Arrays.copyOf(dbPassword.getBytes(), Math.min(20, dbPassword.getBytes().length))));
-
-            // 🔍 BCrypt 패턴 확인
-            boolean isBCryptPattern = dbPassword.matches("^\\$2[abyxy]?\\$\\d+\\$[./A-Za-z0-9]{53}$");
-            System.out.println("올바른 BCrypt 패턴인가: " + isBCryptPattern);
-
-            // 🔍 여러 방법으로 패스워드 테스트
-            System.out.println("=== 패스워드 매칭 테스트 ===");
-
-            // 방법 1: 기존 passwordEncoder
-            boolean match1 = passwordEncoder.matches(password, dbPassword);
-            System.out.println("1. 기존 passwordEncoder 매칭: " + match1);
-
-            // 방법 2: 새로운 BCryptPasswordEncoder 인스턴스
-            BCryptPasswordEncoder newEncoder = new BCryptPasswordEncoder();
-            boolean match2 = newEncoder.matches(password, dbPassword);
-            System.out.println("2. 새로운 BCryptPasswordEncoder 매칭: " + match2);
-
-            // 방법 3: 입력 패스워드를 다시 인코딩해서 비교해보기
-            String testEncoded = passwordEncoder.encode(password);
-            System.out.println("3. 입력 패스워드를 인코딩한 결과: " + testEncoded);
-            boolean match3 = passwordEncoder.matches(password, testEncoded);
-            System.out.println("4. 새로 인코딩한 것과 매칭: " + match3);
-
-            // 방법 4: 공백 제거 후 테스트
-            String trimmedPassword = password.trim();
-            boolean match4 = passwordEncoder.matches(trimmedPassword, dbPassword);
-            System.out.println("5. 공백 제거 후 매칭: " + match4);
-
-            // 방법 5: DB 패스워드 공백 제거 후 테스트
-            String trimmedDbPassword = dbPassword.trim();
-            boolean match5 = passwordEncoder.matches(password, trimmedDbPassword);
-            System.out.println("6. DB 패스워드 공백 제거 후 매칭: " + match5);
-
-            // 2. 패스워드 검증
-            boolean isPasswordValid = passwordEncoder.matches(password, dbPassword);
-            System.out.println("최종 패스워드 검증 결과: " + (isPasswordValid ? "성공" : "실패"));
-
-            if (!isPasswordValid) {
-                System.err.println("패스워드가 일치하지 않습니다");
-                return null;
-            }
+    @PreDestroy
+    public void shutdown() {
+        loginExecutor.shutdown();
+    }
 
-            // 3. JWT 토큰 생성
-            String token = jwtUtil.generateToken(employeeCode, user.getUserId());
-            System.out.println("JWT 토큰 생성 성공");
-            
-            // 4. 중복 로그인 방지 처리
-            boolean hadExistingSession = sessionManager.handleNewLogin(user.getUserId(), token);
-            if (hadExistingSession) {
-                System.out.println("⚠️ 기존 세션이 종료되었습니다. 다른 곳에서 로그인된 사용자가 강제 로그아웃됩니다.");
-            }
+    // 로그인/토큰 재발급 결과 (액세스 토큰 + 리프레시 토큰 + 액세스 토큰 유효 시간(초) + 사용자 정보)
+    public record LoginResult(String token, String refreshToken, long tokenExpiresIn, User user) {
+    }
 
-            return token;
+    /**
+     * 로그인 처리 (bcrypt 검증은 PasswordHashService 실행기에서 1회만 수행, 이후 DB 작업은 loginExecutor 에서 수행)
+     * @return 성공 시 LoginResult, 사용자 없음/비밀번호 불일치 시 null 을 담은 future
+     *         (bcrypt 대기열이 가득 차면 RejectedExecutionException 으로 실패)
+     */
+    public CompletableFuture<LoginResult> loginAsync(String employeeCode, String password) {
+        System.out.println("=== 로그인 프로세스 시작 ===");
+        System.out.println("직원코드: " + employeeCode);
+
+        // 1. 사용자 조회
+        Optional<User> userOptional = userRepository.findWithDepartmentByEmployeeCode(employeeCode);
+        if (userOptional.isEmpty()) {
+            System.err.println("사용자를 찾을 수 없습니다: " + employeeCode);
+            return CompletableFuture.completedFuture(null);
+        }
 
-        } catch (Exception e) {
-            System.err.println("로그인 처리 중 오류: " + e.getMessage());
-            e.printStackTrace();
+        User user = userOptional.get();
+        String dbPassword = user.getPassword();
+        if (dbPassword == null || password == null) {
+            System.err.println("DB에 패스워드가 저장되어 있지 않거나 입력 패스워드가 없습니다");
+            return CompletableFuture.completedFuture(null);
+        }
+
+        // 2. 패스워드 검증 (bcrypt 1회)
+        return passwordHashService.matchesAsync(password, dbPassword)
+                .thenApplyAsync(isPasswordValid -> {
+                    System.out.println("패스워드 검증 결과: " + (isPasswordValid ? "성공" : "실패"));
+                    if (!isPasswordValid) {
+                        return null;
+                    }
+
+                    // cost factor 가 바뀐 경우 새 설정으로 재해시 (로그인 응답은 기다리지 않음)
+                    if (passwordHashService.needsRehash(dbPassword)) {
+                        rehashPassword(user.getUserId(), dbPassword, password);
+                    }
+
+                    // 3. 기존 토큰 무효화 (토큰 버전 증가) 후 JWT 토큰 생성
+                    int tokenVersion = sessionManager.startNewSession(user.getUserId());
+                    LoginResult result = issueTokens(user, tokenVersion);
+                    if (result == null) {
+                        return null;
+                    }
+                    System.out.println("JWT 토큰 생성 성공");
+                    // 중복 로그인 방지는 3번의 토큰 버전 증가로 처리 (다른 곳에서 받은 토큰은 다음 요청부터 거절)
+
+                    return result;
+                }, loginExecutor);
+    }
+
+    /**
+     * 리프레시 토큰으로 액세스 토큰 재발급 (리프레시 토큰도 새로 교체)
+     * @return 재발급 결과, 리프레시 토큰이 유효하지 않으면 null
+     */
+    public LoginResult refresh(String refreshToken) {
+        Optional<Long> userId = refreshTokenService.consume(refreshToken);
+        if (userId.isEmpty()) {
+            System.err.println("유효하지 않은 리프레시 토큰");
             return null;
         }
+
+        Optional<User> user = userRepository.findWithDepartmentByUserId(userId.get());
+        if (user.isEmpty()) {
+            return null;
+        }
+
+        return issueTokens(user.get(), tokenVersionService.currentVersion(userId.get()));
+    }
+
+    // 액세스 토큰 + 리프레시 토큰 발급
+    private LoginResult issueTokens(User user, int tokenVersion) {
+        String token = jwtUtil.generateToken(user, tokenVersion);
+        if (token == null) {
+            return null;
+        }
+        String refreshToken = refreshTokenService.issue(user.getUserId(), tokenVersion);
+        return new LoginResult(token, refreshToken, jwtUtil.getAccessTokenTtlMillis() / 1000, user);
+    }
+
+    // 🆕 로그인 성공 시 재해시 - 실패해도 로그인에는 영향 없음
+    private void rehashPassword(Long userId, String oldHash, String rawPassword) {
+        passwordHashService.encodeAsync(rawPassword)
+                .thenAcceptAsync(newHash -> {
+                    int updated = userRepository.updatePasswordIfUnchanged(userId, oldHash, newHash);
+                    System.out.println("비밀번호 재해시 - 사용자 ID: " + userId + ", 반영: " + (updated > 0));
+                }, loginExecutor)
+                .exceptionally(e -> {
+                    System.err.println("비밀번호 재해시 실패 - 사용자 ID: " + userId + ", " + e.getMessage());
+                    return null;
+                });
     }
 
 
@@ -1,6 +1,7 @@
 package com.example.companycoreserver.service;
 
 import com.example.companycoreserver.dto.LeaveRequestResponse;
+import com.example.companycoreserver.dto.UserCard;
 import com.example.companycoreserver.entity.User;
 import com.example.companycoreserver.entity.LeaveRequest;
 import com.example.companycoreserver.entity.Enum.LeaveStatus;
@@ -27,28 +28,29 @@ public class LeaveRequestService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private OrgDirectory orgDirectory;
+
     // DTO 변환 메서드
     private LeaveRequestResponse convertToDTO(LeaveRequest leaveRequest) {
-        User user = userRepository.findById(leaveRequest.getUserId()).orElse(null);
-        User approver = null;
-        if (leaveRequest.getApprovedBy() != null) {
-            approver = userRepository.findById(leaveRequest.getApprovedBy()).orElse(null);
-        }
+        // 🆕 조직 디렉터리(메모리)에서 신청자/승인자 조회
+        UserCard user = orgDirectory.getUser(leaveRequest.getUserId());
+        UserCard approver = orgDirectory.getUser(leaveRequest.getApprovedBy());
 
         return new LeaveRequestResponse(
                 leaveRequest.getLeaveId().longValue(),
                 leaveRequest.getUserId(),
-                user != null ? user.getUsername() : "Unknown",
-                user != null ? user.getDepartmentId() : null,
-                user != null ? user.getPositionId() : null,
+                user != null ? user.username() : "Unknown",
+                user != null ? user.departmentId() : null,
+                user != null ? user.positionId() : null,
                 leaveRequest.getLeaveType(),
                 leaveRequest.getStartDate(),
                 leaveRequest.getEndDate(),
                 leaveRequest.getReason(),
                 leaveRequest.getStatus(),
                 leaveRequest.getApprovedBy(),
-                approver != null ? approver.getUsername() : null,
-                approver != null ? approver.getPositionId().toString() : null,
+                approver != null ? approver.username() : null,
+                approver != null && approver.positionId() != null ? approver.positionId().toString() : null,
                 leaveRequest.getApprovedAt(),
                 leaveRequest.getAppliedAt()
         );
@@ -1,19 +1,34 @@
 package com.example.companycoreserver.service;
 
+import com.example.companycoreserver.dto.CursorPageResponse;
+import com.example.companycoreserver.dto.MessageDashboardStats;
+import com.example.companycoreserver.dto.MessageListView;
 import com.example.companycoreserver.dto.MessageRequest;
 import com.example.companycoreserver.dto.MessageResponse;
 import com.example.companycoreserver.dto.MessageSummaryResponse;
+import com.example.companycoreserver.dto.UserSimpleInfo;
 import com.example.companycoreserver.entity.Message;
 import com.example.companycoreserver.entity.User;
 import com.example.companycoreserver.entity.Enum.MessageType;
 import com.example.companycoreserver.repository.MessageRepository;
+import com.example.companycoreserver.repository.MessageSpecifications;
 import com.example.companycoreserver.repository.UserRepository;
+import com.example.companycoreserver.storage.AttachmentResource;
+import com.example.companycoreserver.storage.StoredAttachment;
+import com.example.companycoreserver.util.CursorUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,57 +36,30 @@ import java.util.stream.Collectors;
 @Transactional
 public class MessageService {
 
+    // 커서 페이지 최대 크기 / 기본 크기 / 최신순 정렬 (동일 시각은 messageId 로 순서 고정)
+    private static final int MAX_PAGE_SIZE = 100;
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    private static final Sort LATEST_FIRST = Sort.by(Sort.Direction.DESC, "sentAt", "messageId");
+    // 일괄 처리 시 IN 절에 넣을 최대 ID 개수 (너무 긴 IN 목록 방지)
+    private static final int BULK_CHUNK_SIZE = 1000;
+    // 대시보드 캐시 유지 시간 (탭마다 주기적으로 폴링하므로 짧게 캐시)
+    private static final long DASHBOARD_CACHE_TTL_MILLIS = 5_000L;
+    private static final int DASHBOARD_RECENT_LIMIT = 5;
+
     private final MessageRepository messageRepository;
     private final UserRepository userRepository;
+    private final UserBatchResolver userBatchResolver;
+    private final AttachmentService attachmentService;
+
+    // 사용자별 대시보드 캐시 (userId -> 캐시 항목)
+    private final Map<Long, CachedDashboard> dashboardCache = new ConcurrentHashMap<>();
+
+    private record CachedDashboard(Map<String, Object> dashboard, long expiresAt) {
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
 
-    //    /**
-//     * ✅ 메시지 전송 (첨부파일 포함 가능)
-//     */
-//    @Transactional
-//    public MessageResponse createMessage(Long senderId, MessageRequest requestDto) {
-//        System.out.println("메시지 전송 요청: 제목=" + requestDto.getTitle() + ", 발신자 ID=" + senderId);
-//
-//        // 수신자 조회
-//        User receiver = userRepository.findByEmail(requestDto.getReceiverEmail())
-//                .orElseThrow(() -> new RuntimeException("수신자를 찾을 수 없습니다: " + requestDto.getReceiverEmail()));
-//
-//        // 발신자 조회
-//        User sender = userRepository.findById(senderId)
-//                .orElseThrow(() -> new RuntimeException("발신자를 찾을 수 없습니다: " + senderId));
-//
-//        // 메시지 생성
-//        Message message = new Message(
-//                senderId,
-//                receiver.getUserId(),
-//                requestDto.getMessageType(),
-//                requestDto.getTitle(),
-//                requestDto.getContent()
-//        );
-//
-//        // 🆕 첨부파일 내용 처리 (Base64 디코딩)
-//        if (requestDto.getAttachmentContent() != null && !requestDto.getAttachmentContent().trim().isEmpty()) {
-//            try {
-//                // Base64 디코딩
-//                byte[] fileData = java.util.Base64.getDecoder().decode(requestDto.getAttachmentContent());
-//
-//                // 첨부파일 정보 설정
-//                message.setAttachmentFilename(requestDto.getAttachmentFilename());
-//                message.setAttachmentContentType(requestDto.getAttachmentContentType());
-//                message.setAttachmentContent(requestDto.getAttachmentContent()); // Base64 문자열
-//                message.setAttachmentSize((long) fileData.length);
-//
-//                System.out.println("첨부파일 처리 완료: " + requestDto.getAttachmentFilename() + " (" + fileData.length + " bytes) - Base64 내용 생략");
-//            } catch (Exception e) {
-//                System.err.println("첨부파일 Base64 디코딩 실패: " + e.getMessage());
-//                // 첨부파일 처리 실패 시 기본 정보만 저장
-//            }
-//        }
-//
-//        Message savedMessage = messageRepository.save(message);
-//
-//        System.out.println("메시지 전송 완료: ID=" + savedMessage.getMessageId());
-//        return convertToMessageResponse(savedMessage, sender, receiver);
-//    }
     @Transactional
     public MessageResponse createMessage(Long senderId, MessageRequest requestDto) {
         System.out.println("메시지 전송 요청: 제목=" + requestDto.getTitle() + ", 발신자 ID=" + senderId);
@@ -113,9 +101,9 @@ public class MessageService {
         if (requestDto.getAttachmentContent() != null && !requestDto.getAttachmentContent().trim().isEmpty()) {
             System.out.println("첨부파일 처리 시작...");
             try {
-                // Base64 디코딩
-                byte[] fileData = java.util.Base64.getDecoder().decode(requestDto.getAttachmentContent());
-                System.out.println("Base64 디코딩 성공, 파일 크기: " + fileData.length + " bytes");
+                // Base64 디코딩하여 첨부파일 저장소에 저장
+                StoredAttachment stored = attachmentService.storeBase64(requestDto.getAttachmentContent());
+                System.out.println("첨부파일 저장 성공, 파일 크기: " + stored.getSize() + " bytes");
 
                 // 첨부파일 정보 설정 전 로그
                 String filename = requestDto.getAttachmentFilename();
@@ -126,8 +114,8 @@ public class MessageService {
                 // 첨부파일 정보 설정
                 message.setAttachmentFilename(requestDto.getAttachmentFilename());
                 message.setAttachmentContentType(requestDto.getAttachmentContentType());
-                message.setAttachmentContent(requestDto.getAttachmentContent()); // Base64 문자열
-                message.setAttachmentSize((long) fileData.length);
+                message.setAttachmentStorageKey(stored.getStorageKey());
+                message.setAttachmentSize(stored.getSize());
 
                 // 설정 후 확인
                 System.out.println("메시지에 설정된 첨부파일 정보:");
@@ -136,7 +124,7 @@ public class MessageService {
                 System.out.println("  - 파일 크기: " + message.getAttachmentSize());
                 System.out.println("  - hasAttachment(): " + message.hasAttachment());
 
-                System.out.println("첨부파일 처리 완료: " + requestDto.getAttachmentFilename() + " (" + fileData.length + " bytes) - Base64 내용 생략");
+                System.out.println("첨부파일 처리 완료: " + requestDto.getAttachmentFilename() + " (" + stored.getSize() + " bytes)");
             } catch (Exception e) {
                 System.err.println("첨부파일 Base64 디코딩 실패: " + e.getMessage());
                 e.printStackTrace();
@@ -164,6 +152,7 @@ public class MessageService {
         System.out.println("  - hasAttachment(): " + savedMessage.hasAttachment());
 
         System.out.println("메시지 전송 완료: ID=" + savedMessage.getMessageId());
+        evictDashboard(savedMessage.getSenderId(), savedMessage.getReceiverId());
         return convertToMessageResponse(savedMessage, sender, receiver);
     }
 
@@ -173,6 +162,16 @@ public class MessageService {
     @Transactional
     public MessageResponse uploadAttachment(Integer messageId, String filename,
                                             String contentType, byte[] fileData, Long userId) {
+        return uploadAttachment(messageId, filename, contentType,
+                new java.io.ByteArrayInputStream(fileData != null ? fileData : new byte[0]), userId);
+    }
+
+    /**
+     * 🆕 첨부파일 업로드 (스트림) - 파일 내용은 첨부파일 저장소에 저장
+     */
+    @Transactional
+    public MessageResponse uploadAttachment(Integer messageId, String filename,
+                                            String contentType, InputStream content, Long userId) {
         System.out.println("첨부파일 업로드 요청: 메시지 ID=" + messageId + ", 파일명=" + filename);
 
         Message message = messageRepository.findByMessageId(messageId)
@@ -183,19 +182,20 @@ public class MessageService {
             throw new RuntimeException("첨부파일 업로드 권한이 없습니다.");
         }
 
-        // ✅ 파일 크기는 바이너리 데이터에서 자동 계산
-        Long calculatedSize = (fileData != null) ? (long) fileData.length : 0L;
-
-        // 🔧 Base64 인코딩하여 저장
-        String base64Content = java.util.Base64.getEncoder().encodeToString(fileData);
+        // ✅ 파일 크기는 저장된 바이트 수로 자동 계산
+        StoredAttachment stored = attachmentService.store(content);
+        Long calculatedSize = stored.getSize();
 
         // 첨부파일 정보 업데이트
+        String previousKey = message.getAttachmentStorageKey();
         message.setAttachmentFilename(filename);
         message.setAttachmentContentType(contentType);
-        message.setAttachmentContent(base64Content);
+        message.setAttachmentContent(null);
+        message.setAttachmentStorageKey(stored.getStorageKey());
         message.setAttachmentSize(calculatedSize);
 
         Message savedMessage = messageRepository.save(message);
+        attachmentService.release(previousKey);
 
         // 발신자, 수신자 정보 조회
         User sender = userRepository.findById(message.getSenderId())
@@ -223,12 +223,12 @@ public class MessageService {
         }
 
         // 첨부파일 정보 제거
+        String previousKey = message.getAttachmentStorageKey();
         message.setAttachmentFilename(null);
-        message.setAttachmentContentType(null);
-        message.setAttachmentContent(null);
-        message.setAttachmentSize(null);
+        message.clearAttachment();
 
         Message savedMessage = messageRepository.save(message);
+        attachmentService.release(previousKey);
 
         // 발신자, 수신자 정보 조회
         User sender = userRepository.findById(message.getSenderId())
@@ -240,49 +240,62 @@ public class MessageService {
         return convertToMessageResponse(savedMessage, sender, receiver);
     }
 
-    // ✅ 2. 메시지 조회 (통합)
+    // ✅ 2. 메시지 조회 (통합) - 방향/타입/키워드 조건과 정렬을 DB에서 처리
+    // 🆕 조건에 맞는 전체 목록 (페이지 파라미터 없이 호출하는 기존 클라이언트용, 본문 LOB 없이 목록 컬럼만 조회)
     @Transactional(readOnly = true)
-    public List<MessageSummaryResponse> getMessages(Long userId, String type, String messageType,
-                                                    String keyword, boolean unreadOnly) {
-        List<Message> messages = new ArrayList<>();
-
-        switch (type.toLowerCase()) {
-            case "received":
-                if (unreadOnly) {
-                    messages = messageRepository.findByReceiverIdAndIsReadFalseOrderBySentAtDesc(userId);
-                } else {
-                    messages = messageRepository.findByReceiverIdOrderBySentAtDesc(userId);
-                }
-                break;
-            case "sent":
-                messages = messageRepository.findBySenderIdOrderBySentAtDesc(userId);
-                break;
-            case "all":
-                List<Message> received = messageRepository.findByReceiverIdOrderBySentAtDesc(userId);
-                List<Message> sent = messageRepository.findBySenderIdOrderBySentAtDesc(userId);
-                messages.addAll(received);
-                messages.addAll(sent);
-                messages.sort((m1, m2) -> m2.getSentAt().compareTo(m1.getSentAt()));
-                break;
+    public List<MessageSummaryResponse> getAllMessages(Long userId, String type, String messageType,
+                                                       String keyword, boolean unreadOnly) {
+        Specification<Message> spec = buildMessageSpecification(userId, type, messageType, keyword, unreadOnly);
+        return convertListViewsToSummaryResponses(messageRepository.findListViews(spec, LATEST_FIRST, 0));
+    }
+
+    // 🆕 2-1. 메시지 조회 (커서 기반 페이지네이션)
+    @Transactional(readOnly = true)
+    public CursorPageResponse<MessageSummaryResponse> getMessagesPage(Long userId, String type, String messageType,
+                                                                      String keyword, boolean unreadOnly,
+                                                                      String before, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        Specification<Message> spec = buildMessageSpecification(userId, type, messageType, keyword, unreadOnly);
+
+        CursorUtil.Cursor cursor = CursorUtil.decode(before);
+        if (cursor != null) {
+            spec = spec.and(MessageSpecifications.sentBefore(
+                    cursor.getSortKeyAsDateTime(), cursor.getId().intValue()));
         }
 
-        // 메시지 타입 필터링
-        if (messageType != null && !messageType.isEmpty()) {
-            messages = messages.stream()
-                    .filter(m -> m.getMessageType().name().equals(messageType))
-                    .collect(Collectors.toList());
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회 (COUNT 쿼리 없음)
+        List<MessageListView> messages = messageRepository.findListViews(spec, LATEST_FIRST, pageSize + 1);
+
+        boolean hasNext = messages.size() > pageSize;
+        if (hasNext) {
+            messages = messages.subList(0, pageSize);
         }
 
-        // 키워드 검색
-        if (keyword != null && !keyword.isEmpty()) {
-            messages = messages.stream()
-                    .filter(m -> m.getTitle().contains(keyword) || m.getContent().contains(keyword))
-                    .collect(Collectors.toList());
+        String nextCursor = null;
+        if (hasNext) {
+            MessageListView last = messages.get(messages.size() - 1);
+            nextCursor = CursorUtil.encode(last.sentAt(), last.messageId());
         }
 
-        return messages.stream()
-                .map(this::convertToMessageSummaryResponse)
-                .collect(Collectors.toList());
+        return new CursorPageResponse<>(convertListViewsToSummaryResponses(messages), nextCursor, hasNext);
+    }
+
+    // 🆕 조회 조건 조합 (읽지 않음 조건은 받은 메시지 조회에만 적용)
+    private Specification<Message> buildMessageSpecification(Long userId, String type, String messageType,
+                                                             String keyword, boolean unreadOnly) {
+        Specification<Message> spec = MessageSpecifications.direction(userId, type);
+
+        if (unreadOnly && "received".equalsIgnoreCase(type)) {
+            spec = spec.and(MessageSpecifications.unread());
+        }
+        if (messageType != null && !messageType.isEmpty()) {
+            spec = spec.and(MessageSpecifications.hasMessageType(messageType));
+        }
+        if (keyword != null && !keyword.isEmpty()) {
+            spec = spec.and(MessageSpecifications.containsKeyword(keyword));
+        }
+        return spec;
     }
 
     // ✅ 3. 메시지 상세 조회
@@ -300,6 +313,7 @@ public class MessageService {
         if (message.getReceiverId().equals(userId) && !message.getIsRead()) {
             message.setIsRead(true);
             messageRepository.save(message);
+            evictDashboard(userId);
         }
 
         User sender = userRepository.findById(message.getSenderId())
@@ -327,33 +341,59 @@ public class MessageService {
                 break;
             case "delete":
                 messageRepository.delete(message);
+                attachmentService.release(message.getAttachmentStorageKey());
                 break;
             default:
                 throw new RuntimeException("지원하지 않는 액션입니다: " + action);
         }
+        evictDashboard(userId);
     }
 
     // ✅ 5. 메시지 일괄 처리
+    // 엔티티를 하나씩 조회하지 않고 UPDATE/DELETE ... WHERE messageId IN (...) 로 처리
+    // 권한 체크는 receiverId 조건으로 대신하며, 실제로 변경/삭제된 행 수를 반환
     public int bulkUpdateMessages(List<Integer> messageIds, Long userId, String action) {
-        List<Message> messages = messageIds.stream()
-                .map(id -> messageRepository.findByMessageId(id)
-                        .orElseThrow(() -> new RuntimeException("메시지를 찾을 수 없습니다: " + id)))
-                .filter(message -> message.getReceiverId().equals(userId)) // 권한 체크
+        if (messageIds == null || messageIds.isEmpty()) {
+            return 0;
+        }
+        String normalizedAction = action == null ? "" : action.toLowerCase();
+        if (!normalizedAction.equals("read") && !normalizedAction.equals("delete")) {
+            throw new RuntimeException("지원하지 않는 액션입니다: " + action);
+        }
+
+        List<Integer> distinctIds = messageIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
                 .collect(Collectors.toList());
 
-        switch (action.toLowerCase()) {
-            case "read":
-                messages.forEach(message -> message.setIsRead(true));
-                messageRepository.saveAll(messages);
-                break;
-            case "delete":
-                messageRepository.deleteAll(messages);
-                break;
-            default:
-                throw new RuntimeException("지원하지 않는 액션입니다: " + action);
+        int affected = 0;
+        Set<Long> affectedUserIds = new HashSet<>();
+        affectedUserIds.add(userId);
+        for (int from = 0; from < distinctIds.size(); from += BULK_CHUNK_SIZE) {
+            List<Integer> chunk = distinctIds.subList(from, Math.min(from + BULK_CHUNK_SIZE, distinctIds.size()));
+
+            // 변경 전에 발신자 ID 수집 (발신자 대시보드도 함께 무효화)
+            affectedUserIds.addAll(messageRepository.findSenderIds(chunk, userId));
+            if (normalizedAction.equals("read")) {
+                affected += messageRepository.markAsReadByIds(chunk, userId);
+            } else {
+                List<String> storageKeys = messageRepository.findAttachmentStorageKeys(chunk, userId);
+                affected += messageRepository.deleteByIds(chunk, userId);
+                storageKeys.forEach(attachmentService::release);
+            }
         }
 
-        return messages.size();
+        evictDashboard(affectedUserIds.toArray(new Long[0]));
+        System.out.println("메시지 일괄 처리: action=" + normalizedAction + ", 요청=" + distinctIds.size()
+                + "건, 처리=" + affected + "건");
+        return affected;
+    }
+
+    // ✅ 5-1. 받은 메시지 전체 읽음 처리
+    public int markAllAsRead(Long userId) {
+        int updated = messageRepository.markAllAsRead(userId);
+        evictDashboard(userId);
+        return updated;
     }
 
     // ✅ 6. 메시지 답장
@@ -381,67 +421,80 @@ public class MessageService {
         );
 
         Message savedMessage = messageRepository.save(replyMessage);
+        evictDashboard(userId, originalMessage.getSenderId());
         return convertToMessageResponse(savedMessage, sender, receiver);
     }
 
     // ✅ 7. 사용자 간 대화 조회
     @Transactional(readOnly = true)
     public List<MessageSummaryResponse> getConversation(Long userId, Long otherUserId) {
-        List<Message> messages = messageRepository.findConversationBetweenUsers(userId, otherUserId);
+        List<MessageListView> messages = messageRepository.findConversationBetweenUsers(userId, otherUserId);
 
-        return messages.stream()
-                .map(this::convertToMessageSummaryResponse)
-                .collect(Collectors.toList());
+        return convertListViewsToSummaryResponses(messages);
     }
 
     // ✅ 8. 메시지 대시보드
+    // 집계 쿼리 1회 + 최근 메시지 프로젝션 조회(LIMIT 5) 1회, 결과는 사용자별로 짧게 캐시
     @Transactional(readOnly = true)
     public Map<String, Object> getDashboard(Long userId) {
+        long now = System.currentTimeMillis();
+        CachedDashboard cached = dashboardCache.get(userId);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return cached.dashboard();
+            }
+            // 만료 항목은 읽는 시점에 제거 (다시 조회하지 않는 사용자 항목은 주기 정리에서 제거)
+            dashboardCache.remove(userId, cached);
+        }
+
+        LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
+        MessageDashboardStats stats = messageRepository.aggregateDashboard(
+                userId, startOfDay, startOfDay.plusDays(1));
+
         Map<String, Object> dashboard = new HashMap<>();
+        dashboard.put("unreadCount", stats.unreadCount());
+        dashboard.put("totalReceivedCount", stats.receivedCount());
+        dashboard.put("totalSentCount", stats.sentCount());
+        dashboard.put("todayReceivedCount", stats.todayReceivedCount());
 
-        // 읽지 않은 메시지 개수
-        Long unreadCount = messageRepository.countUnreadMessages(userId);
-        dashboard.put("unreadCount", unreadCount);
-
-        // 전체 받은 메시지 개수
-        List<Message> receivedMessages = messageRepository.findByReceiverIdOrderBySentAtDesc(userId);
-        dashboard.put("totalReceivedCount", receivedMessages.size());
-
-        // 전체 보낸 메시지 개수
-        List<Message> sentMessages = messageRepository.findBySenderIdOrderBySentAtDesc(userId);
-        dashboard.put("totalSentCount", sentMessages.size());
-
-        // 오늘 받은 메시지 개수
-        LocalDateTime startOfDay = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0).withNano(0);
-        LocalDateTime endOfDay = LocalDateTime.now().withHour(23).withMinute(59).withSecond(59).withNano(999999999);
-        List<Message> todayMessages = messageRepository.findMessagesBetweenDates(userId, startOfDay, endOfDay);
-        dashboard.put("todayReceivedCount", todayMessages.size());
-
-        // 메시지 타입별 개수
-        Map<String, Long> typeCount = receivedMessages.stream()
-                .collect(Collectors.groupingBy(
-                        message -> message.getMessageType().name(),
-                        Collectors.counting()
-                ));
-        dashboard.put("messageTypeCount", typeCount.getOrDefault("MESSAGE", 0L));
-        dashboard.put("emailTypeCount", typeCount.getOrDefault("EMAIL", 0L));
-        dashboard.put("noticeTypeCount", typeCount.getOrDefault("NOTICE", 0L));
-
-        // 최근 메시지 (최대 5개)
-        List<MessageSummaryResponse> recentMessages = receivedMessages.stream()
-                .limit(5)
-                .map(this::convertToMessageSummaryResponse)
-                .collect(Collectors.toList());
-        dashboard.put("recentMessages", recentMessages);
+        // 메시지 타입별 개수 (NOTICE 타입은 현재 사용하지 않음)
+        dashboard.put("messageTypeCount", stats.messageTypeCount());
+        dashboard.put("emailTypeCount", stats.emailTypeCount());
+        dashboard.put("noticeTypeCount", 0L);
+
+        // 최근 받은 메시지 (최대 5개)
+        List<MessageListView> recent = messageRepository.findListViews(
+                MessageSpecifications.direction(userId, "received"), LATEST_FIRST, DASHBOARD_RECENT_LIMIT);
+        dashboard.put("recentMessages", convertListViewsToSummaryResponses(recent));
 
         // 통계 정보
+        long received = stats.receivedCount();
         Map<String, Object> statistics = new HashMap<>();
-        statistics.put("totalMessages", receivedMessages.size() + sentMessages.size());
-        statistics.put("readRate", receivedMessages.isEmpty() ? 0 :
-                (double) (receivedMessages.size() - unreadCount) / receivedMessages.size() * 100);
+        statistics.put("totalMessages", received + stats.sentCount());
+        statistics.put("readRate", received == 0 ? 0 :
+                (double) (received - stats.unreadCount()) / received * 100);
         dashboard.put("statistics", statistics);
 
-        return dashboard;
+        Map<String, Object> result = Collections.unmodifiableMap(dashboard);
+        dashboardCache.put(userId, new CachedDashboard(result, now + DASHBOARD_CACHE_TTL_MILLIS));
+        return result;
+    }
+
+    // 🆕 만료된 대시보드 캐시 주기 정리 (로그아웃한 사용자 항목이 계속 쌓이지 않도록, 요청 처리 중에는 전체 순회하지 않음)
+    @Scheduled(fixedDelayString = "${message.dashboard.cache-sweep-interval-ms:60000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void sweepExpiredDashboards() {
+        long now = System.currentTimeMillis();
+        dashboardCache.values().removeIf(entry -> entry.isExpired(now));
+    }
+
+    // 🆕 대시보드 캐시 무효화 (읽음/삭제/수신 등 개수가 바뀌는 경우)
+    private void evictDashboard(Long... userIds) {
+        for (Long userId : userIds) {
+            if (userId != null) {
+                dashboardCache.remove(userId);
+            }
+        }
     }
 
     // ✅ 9. 메시지 삭제
@@ -455,11 +508,13 @@ public class MessageService {
         }
 
         messageRepository.delete(message);
+        attachmentService.release(message.getAttachmentStorageKey());
+        evictDashboard(message.getSenderId(), message.getReceiverId());
     }
 
-    // ✅ 첨부파일 다운로드 (Base64 반환)
+    // ✅ 첨부파일 다운로드 (저장소 파일 스트리밍)
     @Transactional(readOnly = true)
-    public Map<String, Object> downloadAttachment(Integer messageId, Long userId) {
+    public AttachmentResource downloadAttachment(Integer messageId, Long userId) {
         Message message = messageRepository.findByMessageId(messageId)
                 .orElseThrow(() -> new RuntimeException("메시지를 찾을 수 없습니다: " + messageId));
 
@@ -472,13 +527,10 @@ public class MessageService {
             throw new RuntimeException("첨부파일이 없습니다.");
         }
 
-        Map<String, Object> attachment = new HashMap<>();
-        attachment.put("filename", message.getAttachmentFilename());
-        attachment.put("contentType", message.getAttachmentContentType());
-        attachment.put("fileSize", message.getAttachmentSize());
-        attachment.put("fileData", message.getAttachmentContent());
-
-        return attachment;
+        // 저장소 파일이면 지연 로딩되는 Base64 컬럼을 읽지 않음
+        String storageKey = message.getAttachmentStorageKey();
+        return attachmentService.open(message.getAttachmentFilename(), message.getAttachmentContentType(),
+                storageKey, storageKey == null ? message.getAttachmentContent() : null);
     }
 
     // DTO 변환 메서드들
@@ -509,21 +561,28 @@ public class MessageService {
         );
     }
 
-    private MessageSummaryResponse convertToMessageSummaryResponse(Message message) {
-        User sender = userRepository.findById(message.getSenderId()).orElse(null);
-        User receiver = userRepository.findById(message.getReceiverId()).orElse(null);
+    // 🆕 목록 프로젝션 변환 (첨부파일 내용 없이 조회된 행)
+    private List<MessageSummaryResponse> convertListViewsToSummaryResponses(List<MessageListView> messages) {
+        Map<Long, UserSimpleInfo> users = userBatchResolver.resolve(
+                messages, MessageListView::senderId, MessageListView::receiverId);
 
-        return new MessageSummaryResponse(
-                message.getMessageId(),
-                message.getTitle(),
-                message.getContent(),
-                sender != null ? sender.getUsername() : "알 수 없음",
-                receiver != null ? receiver.getUsername() : "알 수 없음",
-                message.getIsRead(),
-                message.getSentAt(),
-                message.getMessageType().name(),
-                message.hasAttachment(),
-                message.getAttachmentFilename()
-        );
+        return messages.stream()
+                .map(message -> {
+                    UserSimpleInfo sender = users.get(message.senderId());
+                    UserSimpleInfo receiver = users.get(message.receiverId());
+                    return new MessageSummaryResponse(
+                            message.messageId(),
+                            message.title(),
+                            message.content(),
+                            sender != null ? sender.getUsername() : "알 수 없음",
+                            receiver != null ? receiver.getUsername() : "알 수 없음",
+                            Boolean.TRUE.equals(message.isRead()),
+                            message.sentAt(),
+                            message.messageType().name(),
+                            Boolean.TRUE.equals(message.hasAttachment()),
+                            message.attachmentFilename()
+                    );
+                })
+                .collect(Collectors.toList());
     }
 }
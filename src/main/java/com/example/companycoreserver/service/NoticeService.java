@@ -1,9 +1,12 @@
 package com.example.companycoreserver.service;
 
+import com.example.companycoreserver.dto.NoticeListView;
 import com.example.companycoreserver.dto.NoticeRequest;
 import com.example.companycoreserver.dto.NoticeResponse;
 import com.example.companycoreserver.entity.Notice;
 import com.example.companycoreserver.repository.NoticeRepository;
+import com.example.companycoreserver.storage.AttachmentResource;
+import com.example.companycoreserver.storage.StoredAttachment;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -12,19 +15,22 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.ArrayList;
 
 @Service
 @Transactional(readOnly = true)
 public class NoticeService {
 
     private NoticeRepository noticeRepository;
+    private final AttachmentService attachmentService;
 
     @Autowired
-    public NoticeService(NoticeRepository noticeRepository) {
+    public NoticeService(NoticeRepository noticeRepository, AttachmentService attachmentService) {
         this.noticeRepository = noticeRepository;
+        this.attachmentService = attachmentService;
     }
 
     private NoticeResponse convertToResponse(Notice notice) {
@@ -40,15 +46,16 @@ public class NoticeService {
         Boolean hasAttachmentFromRequest = false;
         if (requestDto.getAttachmentContent() != null && !requestDto.getAttachmentContent().trim().isEmpty()) {
             try {
-                byte[] fileData = java.util.Base64.getDecoder().decode(requestDto.getAttachmentContent());
+                StoredAttachment stored = attachmentService.storeBase64(requestDto.getAttachmentContent());
 
                 notice.setAttachmentFilename(requestDto.getAttachmentFilename());
                 notice.setAttachmentContentType(requestDto.getAttachmentContentType());
-                notice.setAttachmentContent(requestDto.getAttachmentContent());
-                notice.setAttachmentSize((long) fileData.length);
+                notice.setAttachmentContent(null);
+                notice.setAttachmentStorageKey(stored.getStorageKey());
+                notice.setAttachmentSize(stored.getSize());
                 hasAttachmentFromRequest = true;
 
-                System.out.println("첨부파일 처리 완료: " + requestDto.getAttachmentFilename() + " (" + fileData.length + " bytes)");
+                System.out.println("첨부파일 처리 완료: " + requestDto.getAttachmentFilename() + " (" + stored.getSize() + " bytes)");
             } catch (IllegalArgumentException e) {
                 System.err.println("첨부파일 Base64 디코딩 실패: " + e.getMessage());
                 hasAttachmentFromRequest = false;
@@ -64,35 +71,17 @@ public class NoticeService {
         return convertToResponse(savedNotice);
     }
 
-    public Page<NoticeResponse> getAllNotices(int page, int size) {
+    // 목록 조회는 첨부파일 내용 없이 메타데이터만 조회 (NoticeListView)
+    public Page<NoticeListView> getAllNotices(int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<Notice> noticePage = noticeRepository.findAll(pageable);
-        
-        List<NoticeResponse> filteredResponses = noticePage.stream()
-                .map(notice -> {
-                    try {
-                        return convertToResponse(notice);
-                    } catch (Exception e) {
-                        System.err.println("❌ Notice 엔티티를 NoticeResponse DTO로 변환 중 오류 발생: " + e.getMessage());
-                        e.printStackTrace();
-                        return null;
-                    }
-                })
-                .filter(response -> response != null) // null이 아닌 항목만 필터링
-                .collect(java.util.stream.Collectors.toList());
-
-        return new org.springframework.data.domain.PageImpl<>(filteredResponses, pageable, noticePage.getTotalElements());
+        return noticeRepository.findAllListViews(pageable);
     }
 
     public NoticeResponse getNoticeById(Long id) {
         Notice notice = noticeRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("해당 공지사항을 찾을 수 없습니다. ID: " + id));
 
-        // LOB 데이터 강제 로딩 및 DTO 수동 생성
-        if (notice.getAttachmentContent() != null) {
-            notice.getAttachmentContent().length(); // Trigger lazy loading
-        }
-
+        // 첨부파일 본문은 다운로드 API(/api/notices/{id}/attachment/download)로 스트리밍
         NoticeResponse response = new NoticeResponse();
         response.setId(notice.getId());
         response.setTitle(notice.getTitle());
@@ -110,7 +99,10 @@ public class NoticeService {
             response.setAttachmentFilename(notice.getAttachmentFilename());
             response.setAttachmentContentType(notice.getAttachmentContentType());
             response.setAttachmentSize(notice.getAttachmentSize());
-            response.setAttachmentContent(notice.getAttachmentContent());
+            if (notice.getAttachmentStorageKey() == null) {
+                // 저장소 도입 이전 데이터는 기존처럼 Base64 내용 포함
+                response.setAttachmentContent(notice.getAttachmentContent());
+            }
         }
 
         return response;
@@ -126,21 +118,24 @@ public class NoticeService {
         notice.updateNotice(requestDto.getTitle(), requestDto.getContent());
 
         Boolean hasAttachmentInUpdate = notice.getHasAttachment();
+        String previousKey = notice.getAttachmentStorageKey();
         if (requestDto.getAttachmentContent() != null && !requestDto.getAttachmentContent().trim().isEmpty()) {
             try {
-                byte[] fileData = java.util.Base64.getDecoder().decode(requestDto.getAttachmentContent());
-                notice.updateAttachment(
+                StoredAttachment stored = attachmentService.storeBase64(requestDto.getAttachmentContent());
+                notice.updateStoredAttachment(
                         requestDto.getAttachmentFilename(),
                         requestDto.getAttachmentContentType(),
-                        requestDto.getAttachmentContent()
+                        stored.getStorageKey(),
+                        stored.getSize()
                 );
-                notice.setAttachmentSize((long) fileData.length);
+                attachmentService.release(previousKey);
                 hasAttachmentInUpdate = true;
             } catch (IllegalArgumentException e) {
                 System.err.println("첨부파일 Base64 디코딩 실패: " + e.getMessage());
             }
         } else if (requestDto.getAttachmentFilename() != null && requestDto.getAttachmentFilename().trim().isEmpty()) {
             notice.removeAttachment();
+            attachmentService.release(previousKey);
             hasAttachmentInUpdate = false;
         }
         notice.setHasAttachment(hasAttachmentInUpdate);
@@ -157,77 +152,92 @@ public class NoticeService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 공지사항을 찾을 수 없습니다. ID: " + id));
 
         noticeRepository.deleteById(id);
+        attachmentService.release(notice.getAttachmentStorageKey());
         System.out.println("공지사항 삭제 완료: ID=" + id);
     }
 
     @Transactional
     public NoticeResponse uploadAttachment(Long noticeId, String filename,
                                            String contentType, byte[] fileData) {
+        return uploadAttachment(noticeId, filename, contentType,
+                new ByteArrayInputStream(fileData != null ? fileData : new byte[0]));
+    }
+
+    /**
+     * 첨부파일 업로드 (스트림) - 파일 내용은 AttachmentStore 에 저장하고 엔티티에는 키만 보관
+     */
+    @Transactional
+    public NoticeResponse uploadAttachment(Long noticeId, String filename,
+                                           String contentType, InputStream content) {
         System.out.println("첨부파일 업로드 요청: 공지사항 ID=" + noticeId + ", 파일명=" + filename);
 
         Notice notice = noticeRepository.findById(noticeId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 공지사항을 찾을 수 없습니다. ID: " + noticeId));
 
-        Long calculatedSize = (fileData != null) ? (long) fileData.length : 0L;
+        String previousKey = notice.getAttachmentStorageKey();
+        StoredAttachment stored = attachmentService.store(content);
+        notice.updateStoredAttachment(filename, contentType, stored.getStorageKey(), stored.getSize());
+        attachmentService.release(previousKey);
 
-        String base64Content = java.util.Base64.getEncoder().encodeToString(fileData);
-        notice.updateAttachment(filename, contentType, base64Content);
-
-        System.out.println("첨부파일 업로드 완료: " + filename + " (크기: " + calculatedSize + " bytes)");
+        System.out.println("첨부파일 업로드 완료: " + filename + " (크기: " + stored.getSize() + " bytes)");
         return convertToResponse(notice);
     }
 
-    public Page<NoticeResponse> searchByTitle(String title, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<Notice> noticePage = noticeRepository.findByTitleContaining(title, pageable);
-        return noticePage.map(this::convertToResponse);
+    /**
+     * 첨부파일 다운로드
+     */
+    public AttachmentResource downloadAttachment(Long noticeId) {
+        Notice notice = noticeRepository.findById(noticeId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 공지사항을 찾을 수 없습니다. ID: " + noticeId));
+
+        if (notice.getAttachmentFilename() == null || notice.getAttachmentFilename().isEmpty()) {
+            throw new RuntimeException("첨부파일이 없습니다.");
+        }
+
+        return attachmentService.open(
+                notice.getAttachmentFilename(),
+                notice.getAttachmentContentType(),
+                notice.getAttachmentStorageKey(),
+                notice.getAttachmentStorageKey() == null ? notice.getAttachmentContent() : null);
     }
 
-    public Page<NoticeResponse> searchByAuthor(String authorName, int page, int size) {
+    public Page<NoticeListView> searchByTitle(String title, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<Notice> noticePage = noticeRepository.findByAuthorNameContaining(authorName, pageable);
-        return noticePage.map(this::convertToResponse);
+        return noticeRepository.findByTitleContaining(title, pageable);
     }
 
-    public Page<NoticeResponse> searchByKeyword(String keyword, int page, int size) {
+    public Page<NoticeListView> searchByAuthor(String authorName, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<Notice> noticePage = noticeRepository.findByKeyword(keyword, pageable);
-        return noticePage.map(this::convertToResponse);
+        return noticeRepository.findByAuthorNameContaining(authorName, pageable);
     }
 
-    public Page<NoticeResponse> searchByKeywordAndAttachment(String keyword, boolean hasAttachment, int page, int size) {
+    public Page<NoticeListView> searchByKeyword(String keyword, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<Notice> noticePage = noticeRepository.findByKeywordAndAttachment(keyword, hasAttachment, pageable);
-        return noticePage.map(this::convertToResponse);
+        return noticeRepository.findByKeyword(keyword, pageable);
     }
 
-    public List<NoticeResponse> getRecentNotices() {
-        List<Notice> notices = noticeRepository.findTop5ByOrderByCreatedAtDesc();
-        List<NoticeResponse> responseDtos = new ArrayList<>();
-
-        for (Notice notice : notices) {
-            responseDtos.add(convertToResponse(notice));
-        }
+    public Page<NoticeListView> searchByKeywordAndAttachment(String keyword, boolean hasAttachment, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        return noticeRepository.findByKeywordAndAttachment(keyword, hasAttachment, pageable);
+    }
 
-        return responseDtos;
+    public List<NoticeListView> getRecentNotices() {
+        return noticeRepository.findRecentListViews(PageRequest.of(0, 5));
     }
 
-    public Page<NoticeResponse> getNoticesByAuthorId(Long authorId, int page, int size) {
+    public Page<NoticeListView> getNoticesByAuthorId(Long authorId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<Notice> noticePage = noticeRepository.findByAuthorId(authorId, pageable);
-        return noticePage.map(this::convertToResponse);
+        return noticeRepository.findByAuthorId(authorId, pageable);
     }
 
-    public Page<NoticeResponse> getNoticesByDepartment(String department, int page, int size) {
+    public Page<NoticeListView> getNoticesByDepartment(String department, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<Notice> noticePage = noticeRepository.findByAuthorDepartment(department, pageable);
-        return noticePage.map(this::convertToResponse);
+        return noticeRepository.findByAuthorDepartment(department, pageable);
     }
 
-    public Page<NoticeResponse> getNoticesByDateRange(LocalDateTime startDate, LocalDateTime endDate, int page, int size) {
+    public Page<NoticeListView> getNoticesByDateRange(LocalDateTime startDate, LocalDateTime endDate, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<Notice> noticePage = noticeRepository.findByCreatedAtBetween(startDate, endDate, pageable);
-        return noticePage.map(this::convertToResponse);
+        return noticeRepository.findByCreatedAtBetween(startDate, endDate, pageable);
     }
 
     public NoticeRepository getNoticeRepository() {
@@ -0,0 +1,279 @@
+package com.example.companycoreserver.service;
+
+import com.example.companycoreserver.dto.UserCard;
+import com.example.companycoreserver.repository.DepartmentRepository;
+import com.example.companycoreserver.repository.PositionRepository;
+import com.example.companycoreserver.repository.UserRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 조직 디렉터리 (사용자 카드 / 부서명 / 직급명) 메모리 캐시
+ * - 사용자 카드는 ConcurrentHashMap → 조회는 잠금 없음, 사용자 1명 변경은 해당 항목만 교체 (전체 복사 없음)
+ * - 사용자 생성/수정/삭제 시 해당 사용자만 다시 읽어서 반영 (트랜잭션 커밋 후)
+ * - 다른 서버나 DB 직접 변경분은 refresh-minutes 주기로 백그라운드에서 전체 재적재 (요청 스레드는 기다리지 않음)
+ * - 변경마다 순번을 매겨서, 재적재 시작 뒤에 반영된 변경은 재적재 결과가 덮어쓰지 않음
+ * - DB 에도 없는 사용자 ID 는 기억해 두고 다시 조회하지 않음 (재적재 또는 해당 사용자 반영 시 해제)
+ */
+@Component
+public class OrgDirectory {
+
+    // 없는 사용자 ID 기억 개수 상한 (넘으면 비움)
+    private static final int MAX_MISSING_IDS = 10_000;
+
+    private final UserRepository userRepository;
+    private final DepartmentRepository departmentRepository;
+    private final PositionRepository positionRepository;
+
+    private final Map<Long, UserCard> users = new ConcurrentHashMap<>();
+    private final Set<Long> missingIds = ConcurrentHashMap.newKeySet();
+    private final List<UserListener> listeners = new CopyOnWriteArrayList<>();
+
+    // 변경 순번 - 사용자별로 마지막에 반영한 변경의 순번을 보관 (this 로 잠금, 재적재 후 오래된 항목 정리)
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, Long> changedAt = new HashMap<>();
+
+    private final Object loadLock = new Object();
+    private volatile boolean loaded;
+    private volatile Map<Integer, String> departments = Map.of();
+    private volatile Map<Integer, String> positions = Map.of();
+
+    /**
+     * 사용자 카드 변경 알림 (자동완성 인덱스 등 파생 데이터를 변경분만 갱신할 때 사용)
+     * previous 가 null 이면 추가, current 가 null 이면 삭제
+     */
+    public interface UserListener {
+        void onUserChanged(UserCard previous, UserCard current);
+    }
+
+    public OrgDirectory(UserRepository userRepository,
+                        DepartmentRepository departmentRepository,
+                        PositionRepository positionRepository) {
+        this.userRepository = userRepository;
+        this.departmentRepository = departmentRepository;
+        this.positionRepository = positionRepository;
+    }
+
+    /**
+     * 사용자 카드 조회 (디렉터리에 없으면 DB 에서 1건 조회 후 반영, 그래도 없으면 null)
+     */
+    public UserCard getUser(Long userId) {
+        if (userId == null) {
+            return null;
+        }
+        ensureLoaded();
+        UserCard card = users.get(userId);
+        if (card != null || missingIds.contains(userId)) {
+            return card;
+        }
+
+        long readAt = sequence.incrementAndGet();
+        Optional<UserCard> found = userRepository.findUserCard(userId);
+        if (found.isPresent()) {
+            apply(userId, found.get(), readAt);
+        } else {
+            if (missingIds.size() >= MAX_MISSING_IDS) {
+                missingIds.clear();
+            }
+            missingIds.add(userId);
+        }
+        return found.orElse(null);
+    }
+
+    /**
+     * 사용자 이름 조회 (없으면 defaultName)
+     */
+    public String getUsername(Long userId, String defaultName) {
+        UserCard card = getUser(userId);
+        return card != null ? card.username() : defaultName;
+    }
+
+    /**
+     * 여러 사용자 카드 조회 (디렉터리에 없는 ID 는 결과에서 제외)
+     */
+    public Map<Long, UserCard> getUsers(Collection<Long> userIds) {
+        ensureLoaded();
+        Map<Long, UserCard> result = new HashMap<>();
+        for (Long userId : userIds) {
+            if (userId != null) {
+                UserCard card = users.get(userId);
+                if (card != null) {
+                    result.put(userId, card);
+                }
+            }
+        }
+        return result;
+    }
+
+    public String getDepartmentName(Integer departmentId) {
+        ensureLoaded();
+        return departmentId != null ? departments.get(departmentId) : null;
+    }
+
+    public String getPositionName(Integer positionId) {
+        ensureLoaded();
+        return positionId != null ? positions.get(positionId) : null;
+    }
+
+    /**
+     * 변경 알림 등록 - 등록 시점의 전체 사용자를 추가로 먼저 알린 뒤 이후 변경분을 알림
+     * (알림은 변경 반영과 같은 잠금 안에서 순서대로 호출됨)
+     */
+    public void addUserListener(UserListener listener) {
+        ensureLoaded();
+        synchronized (this) {
+            for (UserCard card : users.values()) {
+                listener.onUserChanged(null, card);
+            }
+            listeners.add(listener);
+        }
+    }
+
+    /**
+     * 사용자 정보 변경 반영 (트랜잭션 안이면 커밋 후에 반영)
+     */
+    public void refreshUser(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        runAfterCommit(() -> {
+            long readAt = sequence.incrementAndGet();
+            apply(userId, userRepository.findUserCard(userId).orElse(null), readAt);
+        });
+    }
+
+    /**
+     * 사용자 삭제 반영 (트랜잭션 안이면 커밋 후에 반영)
+     */
+    public void removeUser(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        runAfterCommit(() -> apply(userId, null, sequence.incrementAndGet()));
+    }
+
+    /**
+     * 전체 재적재 (부서/직급 변경, 일괄 등록 후 등)
+     * DB 조회는 잠금 없이 하고, 결과는 바뀐 사용자만 반영 (재적재 시작 뒤의 변경은 유지)
+     */
+    public void reload() {
+        long startedAt = sequence.incrementAndGet();
+
+        Map<Long, UserCard> loadedUsers = new HashMap<>();
+        for (UserCard card : userRepository.findAllUserCards()) {
+            loadedUsers.put(card.userId(), card);
+        }
+
+        Map<Integer, String> loadedDepartments = new HashMap<>();
+        for (Object[] row : departmentRepository.findAllDepartmentNames()) {
+            loadedDepartments.put((Integer) row[0], (String) row[1]);
+        }
+
+        Map<Integer, String> loadedPositions = new HashMap<>();
+        for (Object[] row : positionRepository.findAllPositionNames()) {
+            loadedPositions.put((Integer) row[0], (String) row[1]);
+        }
+
+        synchronized (this) {
+            departments = Collections.unmodifiableMap(loadedDepartments);
+            positions = Collections.unmodifiableMap(loadedPositions);
+
+            for (UserCard card : loadedUsers.values()) {
+                if (!isChangedAfter(card.userId(), startedAt)) {
+                    UserCard previous = users.put(card.userId(), card);
+                    if (!card.equals(previous)) {
+                        notifyListeners(previous, card);
+                    }
+                }
+            }
+            Iterator<Map.Entry<Long, UserCard>> it = users.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<Long, UserCard> entry = it.next();
+                if (!loadedUsers.containsKey(entry.getKey()) && !isChangedAfter(entry.getKey(), startedAt)) {
+                    it.remove();
+                    notifyListeners(entry.getValue(), null);
+                }
+            }
+
+            changedAt.values().removeIf(changed -> changed < startedAt);
+            missingIds.clear();
+        }
+        loaded = true;
+
+        System.out.println("조직 디렉터리 적재 - 사용자: " + loadedUsers.size()
+                + ", 부서: " + loadedDepartments.size() + ", 직급: " + loadedPositions.size());
+    }
+
+    // 🆕 주기적 전체 재적재 (다른 서버/DB 직접 변경분 반영) - 아직 한 번도 적재하지 않았으면 건너뜀 (첫 조회 때 적재)
+    @Scheduled(fixedDelayString = "${org-directory.refresh-minutes:10}",
+            initialDelayString = "${org-directory.refresh-minutes:10}", timeUnit = TimeUnit.MINUTES)
+    public void scheduledReload() {
+        if (!loaded) {
+            return;
+        }
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            System.err.println("조직 디렉터리 재적재 실패: " + e.getMessage());
+        }
+    }
+
+    // 최초 1회 적재 (이후 재적재는 백그라운드)
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (loadLock) {
+                if (!loaded) {
+                    reload();
+                }
+            }
+        }
+    }
+
+    // 사용자 1명 반영 - 이미 더 나중에 읽은 값이 반영되어 있으면 무시
+    private synchronized void apply(Long userId, UserCard card, long readAt) {
+        if (isChangedAfter(userId, readAt)) {
+            return;
+        }
+        changedAt.put(userId, readAt);
+
+        UserCard previous = card != null ? users.put(userId, card) : users.remove(userId);
+        if (card != null) {
+            missingIds.remove(userId);
+        }
+        if (!Objects.equals(previous, card)) {
+            notifyListeners(previous, card);
+        }
+    }
+
+    private boolean isChangedAfter(Long userId, long sequenceNumber) {
+        Long changed = changedAt.get(userId);
+        return changed != null && changed > sequenceNumber;
+    }
+
+    private void notifyListeners(UserCard previous, UserCard current) {
+        for (UserListener listener : listeners) {
+            listener.onUserChanged(previous, current);
+        }
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
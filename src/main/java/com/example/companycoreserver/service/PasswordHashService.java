@@ -0,0 +1,121 @@
+package com.example.companycoreserver.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * bcrypt 검증/인코딩 전용 실행기
+ * - 요청 스레드 대신 고정 크기 스레드 풀에서 실행 (CPU 코어 수 기준)
+ * - 대기열이 가득 차면 즉시 거절(RejectedExecutionException) → 로그인 폭주 시 서버 전체가 밀리지 않도록 back-pressure
+ * - 대기 시간 / 해시 시간 / 거절 수 등 지표 제공
+ */
+@Service
+public class PasswordHashService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+
+    // 지표
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalQueueWaitNanos = new LongAdder();
+    private final LongAdder totalHashNanos = new LongAdder();
+
+    public PasswordHashService(PasswordEncoder passwordEncoder,
+                               @Value("${auth.bcrypt.threads:0}") int threads,
+                               @Value("${auth.bcrypt.queue-capacity:200}") int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "bcrypt-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 평문 비밀번호와 저장된 해시 비교 (bcrypt 1회)
+     */
+    public CompletableFuture<Boolean> matchesAsync(String rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 평문 비밀번호 인코딩 (현재 설정된 cost factor 사용)
+     */
+    public CompletableFuture<String> encodeAsync(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 저장된 해시가 현재 설정보다 낮은 cost factor 로 만들어졌는지 (로그인 시 재해시 대상)
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 실행기 상태 / 누적 지표
+     */
+    public Map<String, Object> getMetrics() {
+        long completedCount = completed.sum();
+
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("poolSize", executor.getPoolSize());
+        metrics.put("activeCount", executor.getActiveCount());
+        metrics.put("queueSize", executor.getQueue().size());
+        metrics.put("queueRemainingCapacity", executor.getQueue().remainingCapacity());
+        metrics.put("submitted", submitted.sum());
+        metrics.put("completed", completedCount);
+        metrics.put("rejected", rejected.sum());
+        metrics.put("avgQueueWaitMillis", completedCount == 0 ? 0.0
+                : totalQueueWaitNanos.sum() / (double) completedCount / 1_000_000);
+        metrics.put("avgHashMillis", completedCount == 0 ? 0.0
+                : totalHashNanos.sum() / (double) completedCount / 1_000_000);
+        return metrics;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        long enqueuedAt = System.nanoTime();
+        try {
+            CompletableFuture<T> future = CompletableFuture.supplyAsync(() -> {
+                long startedAt = System.nanoTime();
+                totalQueueWaitNanos.add(startedAt - enqueuedAt);
+                try {
+                    return task.get();
+                } finally {
+                    totalHashNanos.add(System.nanoTime() - startedAt);
+                    completed.increment();
+                }
+            }, executor);
+            submitted.increment();
+            return future;
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            System.err.println("bcrypt 대기열 초과 - 요청 거절 (queue=" + executor.getQueue().size() + ")");
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
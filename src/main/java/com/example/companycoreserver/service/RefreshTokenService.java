@@ -0,0 +1,119 @@
+package com.example.companycoreserver.service;
+
+import com.example.companycoreserver.entity.RefreshToken;
+import com.example.companycoreserver.repository.RefreshTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 리프레시 토큰 발급 / 교체(rotation)
+ * - 토큰은 임의의 256비트 값, DB 에는 SHA-256 해시만 저장
+ * - 사용할 때마다 새 토큰으로 교체, 이미 사용된 토큰이 다시 오면 해당 사용자 토큰 전부 무효화
+ */
+@Service
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenVersionService tokenVersionService;
+    private final long ttlDays;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    // 만료 토큰 정리 주기 (발급 시점에 확인)
+    private static final long PURGE_INTERVAL_MILLIS = 60 * 60 * 1000L;
+    private final AtomicLong lastPurgeAt = new AtomicLong();
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               TokenVersionService tokenVersionService,
+                               @Value("${auth.refresh-token.ttl-days:14}") long ttlDays) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.tokenVersionService = tokenVersionService;
+        this.ttlDays = ttlDays;
+    }
+
+    /**
+     * 새 리프레시 토큰 발급
+     * @return 토큰 원문 (클라이언트에게만 전달)
+     */
+    public String issue(Long userId, int tokenVersion) {
+        byte[] bytes = new byte[32];
+        secureRandom.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(new RefreshToken(
+                hash(token), userId, tokenVersion, LocalDateTime.now().plusDays(ttlDays)));
+        purgeExpiredIfDue();
+        return token;
+    }
+
+    /**
+     * 리프레시 토큰 사용 (1회용)
+     * @return 유효하면 사용자 ID, 아니면 empty
+     */
+    public Optional<Long> consume(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        String tokenHash = hash(token);
+        Optional<RefreshToken> found = refreshTokenRepository.findById(tokenHash);
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+
+        RefreshToken refreshToken = found.get();
+        LocalDateTime now = LocalDateTime.now();
+
+        // 이미 사용된 토큰 재사용 (또는 동시 요청에서 진 경우) → 탈취 가능성, 전부 무효화
+        if (refreshToken.getUsedAt() != null || refreshTokenRepository.markUsed(tokenHash, now) == 0) {
+            System.err.println("⚠️ 리프레시 토큰 재사용 감지 - 사용자 ID: " + refreshToken.getUserId());
+            revokeAll(refreshToken.getUserId());
+            return Optional.empty();
+        }
+
+        if (refreshToken.isExpired(now)
+                || !tokenVersionService.isCurrent(refreshToken.getUserId(), refreshToken.getTokenVersion())) {
+            return Optional.empty();
+        }
+
+        return Optional.of(refreshToken.getUserId());
+    }
+
+    /**
+     * 사용자의 모든 토큰 무효화 (토큰 버전 증가 + 리프레시 토큰 삭제)
+     * @return 새 토큰 버전
+     */
+    public int revokeAll(Long userId) {
+        refreshTokenRepository.deleteByUserId(userId);
+        return tokenVersionService.bump(userId);
+    }
+
+    private void purgeExpiredIfDue() {
+        long now = System.currentTimeMillis();
+        long last = lastPurgeAt.get();
+        if (now - last >= PURGE_INTERVAL_MILLIS && lastPurgeAt.compareAndSet(last, now)) {
+            int purged = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+            if (purged > 0) {
+                System.out.println("만료된 리프레시 토큰 정리: " + purged + "건");
+            }
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
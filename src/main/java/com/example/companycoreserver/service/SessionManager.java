@@ -1,116 +1,76 @@
 package com.example.companycoreserver.service;
 
+import com.example.companycoreserver.security.AuthenticatedUser;
+import com.example.companycoreserver.util.JwtUtil;
+import io.jsonwebtoken.JwtException;
 import org.springframework.stereotype.Service;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.time.LocalDateTime;
-import java.util.UUID;
 
+/**
+ * 중복 로그인 방지용 세션 관리
+ * - 세션 상태는 사용자별 토큰 버전 하나뿐 (새 로그인/로그아웃/비밀번호 변경 시 버전 증가 → 이전 토큰 무효)
+ * - 별도 세션 저장소는 두지 않음 (토큰 버전이 여러 서버가 공유하는 유일한 기준)
+ */
 @Service
 public class SessionManager {
-    
-    // 사용자 ID를 키로 하는 활성 세션 관리
-    private final Map<Long, String> activeSessions = new ConcurrentHashMap<>();
-    
-    // 세션 ID를 키로 하는 세션 정보 관리
-    private final Map<String, SessionInfo> sessionInfo = new ConcurrentHashMap<>();
-    
+
+    private final JwtUtil jwtUtil;
+    private final TokenVersionService tokenVersionService;
+    private final RefreshTokenService refreshTokenService;
+
+    public SessionManager(JwtUtil jwtUtil,
+                          TokenVersionService tokenVersionService, RefreshTokenService refreshTokenService) {
+        this.jwtUtil = jwtUtil;
+        this.tokenVersionService = tokenVersionService;
+        this.refreshTokenService = refreshTokenService;
+    }
+
     /**
-     * 새로운 로그인 시도 시 기존 세션을 종료하고 새 세션 생성
-     * @param userId 사용자 ID
-     * @param newToken 새로운 JWT 토큰
-     * @return 이전 세션이 있었는지 여부
+     * 새 로그인 준비 - 기존 토큰(액세스/리프레시) 전부 무효화
+     * @return 새 토큰에 넣을 토큰 버전
      */
-    public boolean handleNewLogin(Long userId, String newToken) {
-        String sessionId = UUID.randomUUID().toString();
-        
-        // 기존 세션이 있는지 확인
-        String existingToken = activeSessions.get(userId);
-        boolean hadExistingSession = existingToken != null;
-        
-        if (hadExistingSession) {
-            // 기존 세션 정보 제거
-            sessionInfo.remove(existingToken);
-            System.out.println("기존 세션 종료 - 사용자 ID: " + userId + ", 토큰: " + existingToken.substring(0, 20) + "...");
-        }
-        
-        // 새 세션 등록
-        activeSessions.put(userId, newToken);
-        sessionInfo.put(newToken, new SessionInfo(userId, LocalDateTime.now()));
-        
-        System.out.println("새 세션 등록 - 사용자 ID: " + userId + ", 토큰: " + newToken.substring(0, 20) + "...");
-        
-        return hadExistingSession;
+    public int startNewSession(Long userId) {
+        return refreshTokenService.revokeAll(userId);
     }
-    
+
     /**
-     * 토큰이 유효한 세션인지 확인
+     * 토큰이 유효한 세션인지 확인 (서명/만료 검증 후 토큰 버전 정수 비교)
      * @param token JWT 토큰
      * @return 유효한 세션인지 여부
      */
     public boolean isValidSession(String token) {
-        return sessionInfo.containsKey(token);
-    }
-    
-    /**
-     * 사용자 ID로 현재 활성 세션 토큰 조회
-     * @param userId 사용자 ID
-     * @return 현재 활성 세션 토큰 (없으면 null)
-     */
-    public String getActiveSessionToken(Long userId) {
-        return activeSessions.get(userId);
+        try {
+            AuthenticatedUser user = jwtUtil.getAuthenticatedUser(token);
+            return tokenVersionService.isCurrent(user.userId(), user.tokenVersion());
+        } catch (JwtException | IllegalArgumentException e) {
+            return false;
+        }
     }
-    
+
     /**
-     * 로그아웃 시 세션 제거
+     * 로그아웃 시 세션 제거 (해당 사용자의 토큰 전부 무효화)
      * @param token JWT 토큰
      */
     public void logout(String token) {
-        SessionInfo info = sessionInfo.remove(token);
-        if (info != null) {
-            activeSessions.remove(info.getUserId());
-            System.out.println("로그아웃 - 사용자 ID: " + info.getUserId() + ", 토큰: " + token.substring(0, 20) + "...");
+        Long userId = null;
+        try {
+            userId = jwtUtil.getAuthenticatedUser(token).userId();
+        } catch (JwtException | IllegalArgumentException e) {
+            // 서명이 틀리거나 만료된 토큰 - 이미 사용할 수 없으므로 무효화할 것이 없음
+            System.err.println("로그아웃 토큰 확인 실패: " + e.getMessage());
+        }
+
+        if (userId != null) {
+            logoutByUserId(userId);
+            System.out.println("로그아웃 - 사용자 ID: " + userId);
         }
     }
-    
+
     /**
      * 사용자 ID로 로그아웃
      * @param userId 사용자 ID
      */
     public void logoutByUserId(Long userId) {
-        String token = activeSessions.remove(userId);
-        if (token != null) {
-            sessionInfo.remove(token);
-            System.out.println("사용자 ID로 로그아웃 - 사용자 ID: " + userId);
-        }
-    }
-    
-    /**
-     * 현재 활성 세션 수 조회
-     * @return 활성 세션 수
-     */
-    public int getActiveSessionCount() {
-        return activeSessions.size();
-    }
-    
-    /**
-     * 세션 정보를 담는 내부 클래스
-     */
-    private static class SessionInfo {
-        private final Long userId;
-        private final LocalDateTime loginTime;
-        
-        public SessionInfo(Long userId, LocalDateTime loginTime) {
-            this.userId = userId;
-            this.loginTime = loginTime;
-        }
-        
-        public Long getUserId() {
-            return userId;
-        }
-        
-        public LocalDateTime getLoginTime() {
-            return loginTime;
-        }
+        refreshTokenService.revokeAll(userId);
+        System.out.println("사용자 ID로 로그아웃 - 사용자 ID: " + userId);
     }
 }
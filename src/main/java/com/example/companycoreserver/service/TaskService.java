@@ -10,16 +10,42 @@ import com.example.companycoreserver.entity.Enum.AssignmentStatus;
 import com.example.companycoreserver.repository.TaskRepository;
 import com.example.companycoreserver.repository.TaskAssignmentRepository;
 import com.example.companycoreserver.repository.UserRepository;
+import com.example.companycoreserver.repository.TaskSpecifications;
+import com.example.companycoreserver.dto.CursorPageResponse;
 import com.example.companycoreserver.dto.TaskRequest;
 import com.example.companycoreserver.dto.TaskResponse;
+import com.example.companycoreserver.dto.UserSimpleInfo;
+import com.example.companycoreserver.util.CursorUtil;
+import com.example.companycoreserver.util.LikePatternUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,14 +55,42 @@ public class TaskService {
     private final TaskRepository taskRepository;
     private final TaskAssignmentRepository taskAssignmentRepository;
     private final UserRepository userRepository;
+    private final UserBatchResolver userBatchResolver;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long dashboardCacheTtlMillis;
+
+    // 🆕 사용자별 대시보드 캐시 (userId -> 캐시 항목)
+    private static final int DASHBOARD_RECENT_LIMIT = 5;
+
+    // 🆕 커서 페이지 조회 - 정렬 키 + taskId 로 순서 고정
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final Sort LATEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "taskId");
+    private static final Sort DEADLINE_FIRST = Sort.by(Sort.Direction.ASC, "endDate", "taskId");
+    private final Map<Long, CachedDashboard> dashboardCache = new ConcurrentHashMap<>();
+    // 사용자별 무효화 세대 - 계산 도중 그 사용자가 무효화되었으면 결과를 캐시에 넣지 않음 (다른 사용자 무효화와는 무관)
+    // 무효화된 적 있는 사용자 수만큼만 늘어남 (사용자당 Long 1개)
+    private final Map<Long, Long> dashboardGenerations = new ConcurrentHashMap<>();
+
+    private record CachedDashboard(DashboardDto dashboard, LocalDate day, long expiresAt) {
+        boolean isUsable(long now, LocalDate today) {
+            return now < expiresAt && day.equals(today);
+        }
+    }
 
     @Autowired
     public TaskService(TaskRepository taskRepository,
                        TaskAssignmentRepository taskAssignmentRepository,
-                       UserRepository userRepository) {
+                       UserRepository userRepository,
+                       UserBatchResolver userBatchResolver,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${task.dashboard.cache-ttl-seconds:60}") long dashboardCacheTtlSeconds) {
         this.taskRepository = taskRepository;
         this.taskAssignmentRepository = taskAssignmentRepository;
         this.userRepository = userRepository;
+        this.userBatchResolver = userBatchResolver;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.dashboardCacheTtlMillis = dashboardCacheTtlSeconds * 1000L;
     }
 
     // ========================================
@@ -65,19 +119,29 @@ public class TaskService {
         Task savedTask = taskRepository.save(task);
 
         // 3. 할당자들 처리 (모든 할당자를 동등하게 처리)
+        // 🆕 존재 확인은 IN 쿼리 1회, 저장은 saveAll 로 batch INSERT
         if (request.getAssigneeIds() != null && !request.getAssigneeIds().isEmpty()) {
+            validateUsersExist(request.getAssigneeIds(), "할당자");
+
+            List<TaskAssignment> assignments = new ArrayList<>(request.getAssigneeIds().size());
             for (int i = 0; i < request.getAssigneeIds().size(); i++) {
                 Long userId = request.getAssigneeIds().get(i);
-                validateUserExists(userId, "할당자");
 
                 AssignmentRole role = (request.getAssigneeRoles() != null && i < request.getAssigneeRoles().size())
                         ? request.getAssigneeRoles().get(i)
                         : AssignmentRole.ASSIGNEE; // 기본값
 
-                createAssignment(savedTask.getTaskId(), userId, role, request.getAssignedBy());
+                assignments.add(new TaskAssignment(savedTask.getTaskId(), userId, role, request.getAssignedBy()));
             }
+            taskAssignmentRepository.saveAll(assignments);
         }
 
+        List<Long> affectedUserIds = new ArrayList<>(List.of(savedTask.getAssignedBy(), savedTask.getCreatedBy()));
+        if (request.getAssigneeIds() != null) {
+            affectedUserIds.addAll(request.getAssigneeIds());
+        }
+        evictDashboards(affectedUserIds);
+
         return convertToTaskResponse(savedTask);
     }
 
@@ -91,6 +155,7 @@ public class TaskService {
         // 필드 업데이트 (null이 아닌 것만)
         updateTaskFields(task, request);
         Task updatedTask = taskRepository.save(task);
+        evictDashboardsForTask(updatedTask);
 
         return convertToTaskResponse(updatedTask);
     }
@@ -120,6 +185,7 @@ public class TaskService {
         }
 
         Task updatedTask = taskRepository.save(task);
+        evictDashboardsForTask(updatedTask);
         return convertToTaskResponse(updatedTask);
     }
 
@@ -129,11 +195,12 @@ public class TaskService {
     public void deleteTask(Long taskId, Long deletedByUserId) {
         Task task = getTaskById(taskId);
         validateDeletePermission(task, deletedByUserId);
+        evictDashboardsForTask(task); // 할당 정보가 지워지기 전에 관련 사용자 확인
 
-        // 할당 정보 먼저 삭제
+        // 할당 정보 먼저 삭제 (DELETE 1회)
         taskAssignmentRepository.deleteByTaskId(taskId);
-        // 작업 삭제
-        taskRepository.deleteById(taskId);
+        // 작업 삭제 (할당 목록 cascade 없이 DELETE 1회)
+        taskRepository.deleteTaskById(taskId);
     }
 
     // ========================================
@@ -156,6 +223,41 @@ public class TaskService {
 
         // 업데이트된 작업 정보 반환
         Task task = getTaskById(taskId);
+        evictDashboardsForTask(task);
+        return convertToTaskResponse(task);
+    }
+
+    /**
+     * 🆕 작업에 여러 사용자 일괄 할당
+     * - 사용자 존재 확인 / 기존 활성 할당 확인은 IN 쿼리 1회씩, 저장은 saveAll (JDBC 배치)
+     * - 이미 활성 할당된 사용자(역할 무관)와 중복 ID 는 오류 없이 건너뜀
+     *   (단건 assignUserToTask 는 중복 할당이면 예외 - 일괄 할당은 재시도해도 같은 결과가 되도록 건너뜀)
+     * - 작업 수정 권한(생성자/할당자/활성 할당자)이 있어야 함
+     */
+    public TaskResponse assignUsersToTask(Long taskId, List<Long> userIds, AssignmentRole role, Long assignedByUserId) {
+        if (userIds == null || userIds.isEmpty()) {
+            throw new IllegalArgumentException("할당할 사용자가 없습니다.");
+        }
+        Task task = getTaskById(taskId);
+        validateAssignPermission(task, assignedByUserId);
+
+        Set<Long> targetIds = new LinkedHashSet<>(userIds);
+        validateUsersExist(targetIds, "할당 대상자");
+
+        targetIds.removeAll(taskAssignmentRepository
+                .findUserIdsByTaskIdAndUserIdInAndStatus(taskId, targetIds, AssignmentStatus.ACTIVE));
+
+        AssignmentRole assignmentRole = role != null ? role : AssignmentRole.ASSIGNEE;
+        List<TaskAssignment> assignments = new ArrayList<>(targetIds.size());
+        for (Long userId : targetIds) {
+            assignments.add(new TaskAssignment(taskId, userId, assignmentRole, assignedByUserId));
+        }
+        taskAssignmentRepository.saveAll(assignments);
+
+        Set<Long> affectedUserIds = new HashSet<>(targetIds);
+        affectedUserIds.add(task.getAssignedBy());
+        affectedUserIds.add(task.getCreatedBy());
+        evictDashboards(affectedUserIds);
         return convertToTaskResponse(task);
     }
 
@@ -171,6 +273,7 @@ public class TaskService {
 
         // 업데이트된 작업 정보 반환
         Task task = getTaskById(taskId);
+        evictDashboardsForTask(task);
         return convertToTaskResponse(task);
     }
 
@@ -186,6 +289,7 @@ public class TaskService {
 
         // 업데이트된 작업 정보 반환
         Task task = getTaskById(taskId);
+        evictDashboardsForTask(task);
         return convertToTaskResponse(task);
     }
 
@@ -218,9 +322,7 @@ public class TaskService {
             tasks = taskRepository.findTasksAssignedToUser(userId);
         }
 
-        return tasks.stream()
-                .map(this::convertToTaskResponse)
-                .collect(Collectors.toList());
+        return convertToTaskResponses(tasks);
     }
 
     /**
@@ -230,9 +332,7 @@ public class TaskService {
     public List<TaskResponse> getUserTasksByRole(Long userId, AssignmentRole role) {
         List<Task> tasks = taskRepository.findTasksAssignedToUserByRole(userId, role);
 
-        return tasks.stream()
-                .map(this::convertToTaskResponse)
-                .collect(Collectors.toList());
+        return convertToTaskResponses(tasks);
     }
 
     /**
@@ -265,15 +365,14 @@ public class TaskService {
     @Transactional(readOnly = true)
     public List<TaskResponse> searchTasks(String keyword, Long userId) {
         List<Task> tasks;
+        String pattern = LikePatternUtil.contains(keyword.toLowerCase());
         if (userId != null) {
-            tasks = taskRepository.searchUserTasksByKeyword(userId, keyword);
+            tasks = taskRepository.searchUserTasksByKeyword(userId, pattern);
         } else {
-            tasks = taskRepository.searchTasksByKeyword(keyword);
+            tasks = taskRepository.searchTasksByKeyword(pattern);
         }
 
-        return tasks.stream()
-                .map(this::convertToTaskResponse)
-                .collect(Collectors.toList());
+        return convertToTaskResponses(tasks);
     }
 
     /**
@@ -283,32 +382,53 @@ public class TaskService {
     public List<TaskResponse> getTasksByDepartment(String department) {
         List<Task> tasks = taskRepository.findTasksByDepartment(department);
 
-        return tasks.stream()
-                .map(this::convertToTaskResponse)
-                .collect(Collectors.toList());
+        return convertToTaskResponses(tasks);
     }
 
     /**
      * 대시보드용 통합 정보
+     * 🆕 통계는 GROUP BY 쿼리 2회, 목록 3개는 LIMIT/기간 조건 쿼리 - 읽기 전용 트랜잭션 하나에서 차례로 조회
+     *    (쿼리마다 커넥션을 따로 잡으면 동시 요청 몇 개로 커넥션 풀이 바닥남)
+     *    결과는 사용자별로 캐시하고, 작업/할당이 바뀌면 관련 사용자 캐시를 무효화 (날짜가 바뀌어도 다시 계산)
+     *    캐시 적중 시에는 트랜잭션을 열지 않음
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public DashboardDto getDashboardData(Long userId) {
-        // 작업 통계
-        TaskStatsDto taskStats = getTaskStats(userId);
-
-        // 할당 통계
-        AssignmentStatsDto assignmentStats = getAssignmentStats(userId);
-
-        // 최근 작업들
-        List<TaskResponse> recentTasks = getRecentTasks(userId, 5);
-
-        // 오늘 마감 작업들
-        List<TaskResponse> todayDeadlines = getTodayDeadlineTasks(userId);
-
-        // 연체 작업들
-        List<TaskResponse> overdueTasks = getOverdueTasks(userId);
+        long now = System.currentTimeMillis();
+        LocalDate today = LocalDate.now();
+        CachedDashboard cached = dashboardCache.get(userId);
+        if (cached != null) {
+            if (cached.isUsable(now, today)) {
+                return cached.dashboard();
+            }
+            dashboardCache.remove(userId, cached); // 만료된 항목은 읽을 때 제거 (나머지는 주기 정리)
+        }
+        Long generationBefore = dashboardGenerations.get(userId);
+
+        DashboardDto dashboard = readOnlyTransaction.execute(status -> new DashboardDto(
+                getTaskStats(userId),
+                getAssignmentStats(userId),
+                getRecentTasks(userId, DASHBOARD_RECENT_LIMIT),
+                getTodayDeadlineTasks(userId),
+                getOverdueTasks(userId)));
+
+        // 세대 확인과 캐시 저장을 같은 키 잠금 안에서 (확인 직후 무효화가 끼어들지 않도록)
+        dashboardGenerations.compute(userId, (id, generation) -> {
+            if (Objects.equals(generation, generationBefore)) {
+                dashboardCache.put(userId, new CachedDashboard(dashboard, today, now + dashboardCacheTtlMillis));
+            }
+            return generation;
+        });
+        return dashboard;
+    }
 
-        return new DashboardDto(taskStats, assignmentStats, recentTasks, todayDeadlines, overdueTasks);
+    // 🆕 만료된 대시보드 캐시 주기 정리 (요청 처리 중에는 전체 순회하지 않음)
+    @Scheduled(fixedDelayString = "${task.dashboard.cache-sweep-interval-ms:60000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void sweepExpiredDashboards() {
+        long now = System.currentTimeMillis();
+        LocalDate today = LocalDate.now();
+        dashboardCache.values().removeIf(entry -> !entry.isUsable(now, today));
     }
 
     // ========================================
@@ -317,26 +437,74 @@ public class TaskService {
 
     @Transactional(readOnly = true)
     public TaskStatsDto getTaskStats(Long userId) {
-        long todoCount = taskRepository.countUserTasksByStatus(userId, TaskStatus.TODO);
-        long inProgressCount = taskRepository.countUserTasksByStatus(userId, TaskStatus.IN_PROGRESS);
-        long doneCount = taskRepository.countUserTasksByStatus(userId, TaskStatus.DONE);
-        long totalCount = taskRepository.countUserTasks(userId);
+        // 🆕 상태별 COUNT 를 GROUP BY 1회로 (작업 상태는 하나뿐이므로 합계 = 전체 개수)
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (Object[] row : taskRepository.countUserTasksGroupByStatus(userId)) {
+            counts.put((TaskStatus) row[0], ((Number) row[1]).longValue());
+        }
+        long totalCount = counts.values().stream().mapToLong(Long::longValue).sum();
 
-        return new TaskStatsDto(todoCount, inProgressCount, doneCount, totalCount);
+        return new TaskStatsDto(
+                counts.getOrDefault(TaskStatus.TODO, 0L),
+                counts.getOrDefault(TaskStatus.IN_PROGRESS, 0L),
+                counts.getOrDefault(TaskStatus.DONE, 0L),
+                totalCount);
     }
 
     @Transactional(readOnly = true)
     public AssignmentStatsDto getAssignmentStats(Long userId) {
-        long activeCount = taskAssignmentRepository.countByUserIdAndStatus(userId, AssignmentStatus.ACTIVE);
-        long completedCount = taskAssignmentRepository.countByUserIdAndStatus(userId, AssignmentStatus.COMPLETED);
-        long assigneeCount = taskAssignmentRepository
-                .countByUserIdAndRoleAndStatus(userId, AssignmentRole.ASSIGNEE, AssignmentStatus.ACTIVE);
-        long reviewerCount = taskAssignmentRepository
-                .countByUserIdAndRoleAndStatus(userId, AssignmentRole.REVIEWER, AssignmentStatus.ACTIVE);
-        long observerCount = taskAssignmentRepository
-                .countByUserIdAndRoleAndStatus(userId, AssignmentRole.OBSERVER, AssignmentStatus.ACTIVE);
+        // 🆕 역할 × 상태별 COUNT 를 GROUP BY 1회로
+        long activeCount = 0;
+        long completedCount = 0;
+        Map<AssignmentRole, Long> activeByRole = new EnumMap<>(AssignmentRole.class);
+        for (Object[] row : taskAssignmentRepository.countByUserIdGroupByRoleAndStatus(userId)) {
+            AssignmentRole role = (AssignmentRole) row[0];
+            AssignmentStatus status = (AssignmentStatus) row[1];
+            long count = ((Number) row[2]).longValue();
+
+            if (status == AssignmentStatus.ACTIVE) {
+                activeCount += count;
+                if (role != null) {
+                    activeByRole.merge(role, count, Long::sum);
+                }
+            } else if (status == AssignmentStatus.COMPLETED) {
+                completedCount += count;
+            }
+        }
+
+        return new AssignmentStatsDto(activeCount, completedCount,
+                activeByRole.getOrDefault(AssignmentRole.ASSIGNEE, 0L),
+                activeByRole.getOrDefault(AssignmentRole.REVIEWER, 0L),
+                activeByRole.getOrDefault(AssignmentRole.OBSERVER, 0L));
+    }
 
-        return new AssignmentStatsDto(activeCount, completedCount, assigneeCount, reviewerCount, observerCount);
+    // 🆕 작업 관련 사용자(할당자/생성자/할당된 적 있는 사용자) 대시보드 캐시 무효화
+    private void evictDashboardsForTask(Task task) {
+        Set<Long> userIds = new HashSet<>(taskAssignmentRepository.findUserIdsByTaskId(task.getTaskId()));
+        userIds.add(task.getAssignedBy());
+        userIds.add(task.getCreatedBy());
+        evictDashboards(userIds);
+    }
+
+    // 지금 바로 + 커밋 후에 한 번 더 제거 (커밋 전에 다른 요청이 이전 값으로 다시 채우는 경우 대비)
+    private void evictDashboards(Collection<Long> userIds) {
+        Runnable evict = () -> {
+            for (Long userId : userIds) {
+                if (userId != null) {
+                    dashboardGenerations.merge(userId, 1L, Long::sum);
+                    dashboardCache.remove(userId);
+                }
+            }
+        };
+        evict.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        }
     }
 
     // ========================================
@@ -374,12 +542,27 @@ public class TaskService {
         }
     }
 
+    private void validateUsersExist(Collection<Long> userIds, String userType) {
+        Set<Long> existing = new HashSet<>(userRepository.findExistingUserIds(userIds));
+        for (Long userId : userIds) {
+            if (userId == null || !existing.contains(userId)) {
+                throw new IllegalArgumentException(userType + "가 존재하지 않습니다: " + userId);
+            }
+        }
+    }
+
     private void validateUpdatePermission(Task task, Long userId) {
         if (!hasTaskPermission(task, userId)) {
             throw new IllegalArgumentException("작업을 수정할 권한이 없습니다.");
         }
     }
 
+    private void validateAssignPermission(Task task, Long userId) {
+        if (!hasTaskPermission(task, userId)) {
+            throw new IllegalArgumentException("작업에 사용자를 할당할 권한이 없습니다.");
+        }
+    }
+
     private void validateDeletePermission(Task task, Long userId) {
         if (!task.getCreatedBy().equals(userId) && !task.getAssignedBy().equals(userId)) {
             throw new IllegalArgumentException("작업을 삭제할 권한이 없습니다.");
@@ -420,14 +603,12 @@ public class TaskService {
         updateAllAssignmentsStatus(taskId, AssignmentStatus.CANCELED);
     }
 
+    // 🆕 활성 할당 전체를 UPDATE 1회로 변경 (완료 시각 규칙은 TaskAssignment.updateStatus 와 동일)
     private void updateAllAssignmentsStatus(Long taskId, AssignmentStatus status) {
-        List<TaskAssignment> activeAssignments = taskAssignmentRepository
-                .findByTaskIdAndStatus(taskId, AssignmentStatus.ACTIVE);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime completedAt = status == AssignmentStatus.COMPLETED ? now : null;
 
-        activeAssignments.forEach(assignment -> {
-            assignment.updateStatus(status);
-            taskAssignmentRepository.save(assignment);
-        });
+        taskAssignmentRepository.updateStatusByTaskId(taskId, AssignmentStatus.ACTIVE, status, completedAt, now);
     }
 
     // ========================================
@@ -435,46 +616,73 @@ public class TaskService {
     // ========================================
 
     private TaskResponse convertToTaskResponse(Task task) {
-        TaskResponse response = new TaskResponse();
-
-        // Task 기본 정보 설정
-        response.setTaskId(task.getTaskId());
-        response.setTitle(task.getTitle());
-        response.setDescription(task.getDescription());
-        response.setStartDate(task.getStartDate());
-        response.setEndDate(task.getEndDate());
-        response.setStatus(task.getStatus());
-        response.setTaskType(task.getTaskType());
-        response.setCreatedAt(task.getCreatedAt());
-        response.setUpdatedAt(task.getUpdatedAt());
-        response.setAssignedBy(task.getAssignedBy());
-        response.setCreatedBy(task.getCreatedBy());
-
-        // 사용자 이름들 설정
-        response.setAssignedByName(getUserName(task.getAssignedBy()));
-        response.setCreatedByName(getUserName(task.getCreatedBy()));
-
-        // 할당자 정보 설정 - 모든 할당자를 동등하게 처리
-        List<TaskAssignment> assignments = taskAssignmentRepository
-                .findByTaskIdAndStatus(task.getTaskId(), AssignmentStatus.ACTIVE);
+        return convertToTaskResponses(List.of(task)).get(0);
+    }
 
-        List<TaskResponse.AssigneeInfo> assignees = assignments.stream()
-                .map(assignment -> new TaskResponse.AssigneeInfo(
-                        assignment.getUserId(),
-                        getUserName(assignment.getUserId()),
-                        assignment.getRole()
-                ))
-                .collect(Collectors.toList());
+    /**
+     * 🆕 작업 목록 일괄 변환
+     * - 활성 할당 정보: 전체 작업 ID 로 IN 쿼리 1회
+     * - 사용자 이름: 할당자/생성자/담당자 ID 를 모아서 한 번에 조회 (조직 디렉터리 → 없는 ID 만 DB)
+     */
+    private List<TaskResponse> convertToTaskResponses(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return new ArrayList<>();
+        }
 
-        response.setAssignees(assignees);
+        List<Long> taskIds = tasks.stream().map(Task::getTaskId).distinct().collect(Collectors.toList());
+        Map<Long, List<TaskAssignment>> assignmentsByTask = taskAssignmentRepository
+                .findByTaskIdInAndStatus(taskIds, AssignmentStatus.ACTIVE).stream()
+                .collect(Collectors.groupingBy(TaskAssignment::getTaskId));
 
-        return response;
+        List<Long> userIds = new ArrayList<>();
+        for (Task task : tasks) {
+            userIds.add(task.getAssignedBy());
+            userIds.add(task.getCreatedBy());
+        }
+        assignmentsByTask.values().forEach(assignments ->
+                assignments.forEach(assignment -> userIds.add(assignment.getUserId())));
+        Map<Long, UserSimpleInfo> users = userBatchResolver.resolve(userIds);
+
+        List<TaskResponse> responses = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            TaskResponse response = new TaskResponse();
+
+            // Task 기본 정보 설정
+            response.setTaskId(task.getTaskId());
+            response.setTitle(task.getTitle());
+            response.setDescription(task.getDescription());
+            response.setStartDate(task.getStartDate());
+            response.setEndDate(task.getEndDate());
+            response.setStatus(task.getStatus());
+            response.setTaskType(task.getTaskType());
+            response.setCreatedAt(task.getCreatedAt());
+            response.setUpdatedAt(task.getUpdatedAt());
+            response.setAssignedBy(task.getAssignedBy());
+            response.setCreatedBy(task.getCreatedBy());
+
+            // 사용자 이름들 설정
+            response.setAssignedByName(getUserName(users, task.getAssignedBy()));
+            response.setCreatedByName(getUserName(users, task.getCreatedBy()));
+
+            // 할당자 정보 설정 - 모든 할당자를 동등하게 처리
+            List<TaskResponse.AssigneeInfo> assignees = assignmentsByTask
+                    .getOrDefault(task.getTaskId(), List.of()).stream()
+                    .map(assignment -> new TaskResponse.AssigneeInfo(
+                            assignment.getUserId(),
+                            getUserName(users, assignment.getUserId()),
+                            assignment.getRole()
+                    ))
+                    .collect(Collectors.toList());
+
+            response.setAssignees(assignees);
+            responses.add(response);
+        }
+        return responses;
     }
 
-    private String getUserName(Long userId) {
-        return userRepository.findById(userId)
-                .map(User::getUsername)
-                .orElse("Unknown");
+    private String getUserName(Map<Long, UserSimpleInfo> users, Long userId) {
+        UserSimpleInfo user = userId != null ? users.get(userId) : null;
+        return user != null ? user.getUsername() : "Unknown";
     }
 
     // ========================================
@@ -487,10 +695,12 @@ public class TaskService {
         List<TaskAssignment> recentAssignments = taskAssignmentRepository
                 .findRecentAssignmentsByUser(userId, pageable);
 
-        return recentAssignments.stream()
-                .map(assignment -> convertToTaskResponse(assignment.getTask()))
-                .distinct()
-                .collect(Collectors.toList());
+        // 같은 작업에 여러 역할로 할당된 경우 한 번만 (최근 할당 순서 유지)
+        Map<Long, Task> tasks = new LinkedHashMap<>();
+        for (TaskAssignment assignment : recentAssignments) {
+            tasks.putIfAbsent(assignment.getTaskId(), assignment.getTask());
+        }
+        return convertToTaskResponses(new ArrayList<>(tasks.values()));
     }
 
     @Transactional(readOnly = true)
@@ -498,9 +708,7 @@ public class TaskService {
         LocalDate today = LocalDate.now();
         List<Task> tasks = taskRepository.findUrgentTasks(userId, today, today);
 
-        return tasks.stream()
-                .map(this::convertToTaskResponse)
-                .collect(Collectors.toList());
+        return convertToTaskResponses(tasks);
     }
 
     @Transactional(readOnly = true)
@@ -508,27 +716,128 @@ public class TaskService {
         LocalDate today = LocalDate.now();
         List<Task> tasks = taskRepository.findUserOverdueTasks(userId, today);
 
-        return tasks.stream()
-                .map(this::convertToTaskResponse)
-                .collect(Collectors.toList());
+        return convertToTaskResponses(tasks);
     }
 
     @Transactional(readOnly = true)
     public List<TaskResponse> getUserTasksByDateRange(Long userId, LocalDate startDate, LocalDate endDate) {
         List<Task> tasks = taskRepository.findUserTasksByDateRange(userId, startDate, endDate);
 
-        return tasks.stream()
-                .map(this::convertToTaskResponse)
-                .collect(Collectors.toList());
+        return convertToTaskResponses(tasks);
     }
 
     @Transactional(readOnly = true)
     public List<TaskResponse> getUserTasksByEndDate(Long userId, LocalDate endDate) {
         List<Task> tasks = taskRepository.findUserTasksByEndDate(userId, endDate);
 
-        return tasks.stream()
-                .map(this::convertToTaskResponse)
-                .collect(Collectors.toList());
+        return convertToTaskResponses(tasks);
+    }
+
+    // ========================================
+    // 📄 커서 페이지 조회 메서드들
+    // nextCursor 를 다음 요청의 before 로 전달 (COUNT 쿼리 없이 limit + 1 건 조회)
+    // ========================================
+
+    /**
+     * 사용자의 작업 목록 (최신 생성순)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TaskResponse> getUserTasksPage(Long userId, TaskStatus status, String before, int limit) {
+        Specification<Task> spec = TaskSpecifications.assignedTo(userId, null);
+        if (status != null) {
+            spec = spec.and(TaskSpecifications.hasStatus(status));
+        }
+        return findLatestPage(spec, before, limit);
+    }
+
+    /**
+     * 역할별 사용자 작업 목록 (최신 생성순)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TaskResponse> getUserTasksByRolePage(Long userId, AssignmentRole role,
+                                                                   String before, int limit) {
+        return findLatestPage(TaskSpecifications.assignedTo(userId, role), before, limit);
+    }
+
+    /**
+     * 작업 검색 (userId 가 있으면 해당 사용자 작업만, 최신 생성순)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TaskResponse> searchTasksPage(String keyword, Long userId, String before, int limit) {
+        Specification<Task> spec = TaskSpecifications.containsKeyword(keyword);
+        if (userId != null) {
+            spec = spec.and(TaskSpecifications.assignedTo(userId, null));
+        }
+        return findLatestPage(spec, before, limit);
+    }
+
+    /**
+     * 부서별 작업 목록 (최신 생성순)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TaskResponse> getTasksByDepartmentPage(String department, String before, int limit) {
+        return findLatestPage(TaskSpecifications.assignedToDepartment(department), before, limit);
+    }
+
+    /**
+     * 날짜 범위별 사용자 작업 목록 (마감일 빠른 순)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TaskResponse> getUserTasksByDateRangePage(Long userId, LocalDate startDate,
+                                                                        LocalDate endDate, String before, int limit) {
+        Specification<Task> spec = TaskSpecifications.assignedTo(userId, null)
+                .and(TaskSpecifications.withinDateRange(startDate, endDate));
+        return findDeadlinePage(spec, before, limit);
+    }
+
+    /**
+     * 특정 마감일 사용자 작업 목록 (taskId 순)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TaskResponse> getUserTasksByEndDatePage(Long userId, LocalDate endDate,
+                                                                      String before, int limit) {
+        Specification<Task> spec = TaskSpecifications.assignedTo(userId, null)
+                .and(TaskSpecifications.endsOn(endDate));
+        return findDeadlinePage(spec, before, limit);
+    }
+
+    // (createdAt, taskId) 내림차순 페이지
+    private CursorPageResponse<TaskResponse> findLatestPage(Specification<Task> spec, String before, int limit) {
+        CursorUtil.Cursor cursor = CursorUtil.decode(before);
+        if (cursor != null) {
+            spec = spec.and(TaskSpecifications.createdBefore(cursor.getSortKeyAsDateTime(), cursor.getId()));
+        }
+        return findPage(spec, LATEST_FIRST, limit, Task::getCreatedAt);
+    }
+
+    // (endDate, taskId) 오름차순 페이지
+    private CursorPageResponse<TaskResponse> findDeadlinePage(Specification<Task> spec, String before, int limit) {
+        CursorUtil.Cursor cursor = CursorUtil.decode(before);
+        if (cursor != null) {
+            spec = spec.and(TaskSpecifications.endingAfter(cursor.getSortKeyAsDate(), cursor.getId()));
+        }
+        return findPage(spec, DEADLINE_FIRST, limit, Task::getEndDate);
+    }
+
+    private CursorPageResponse<TaskResponse> findPage(Specification<Task> spec, Sort sort, int limit,
+                                                      Function<Task, Object> sortKey) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<Task> tasks = taskRepository.findBy(spec, query -> query.sortBy(sort).limit(pageSize + 1).all());
+
+        boolean hasNext = tasks.size() > pageSize;
+        if (hasNext) {
+            tasks = tasks.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            Task last = tasks.get(tasks.size() - 1);
+            nextCursor = CursorUtil.encode(sortKey.apply(last), last.getTaskId());
+        }
+
+        return new CursorPageResponse<>(convertToTaskResponses(tasks), nextCursor, hasNext);
     }
 
     // ========================================
@@ -591,9 +900,10 @@ public class TaskService {
                             List<TaskResponse> overdueTasks) {
             this.taskStats = taskStats;
             this.assignmentStats = assignmentStats;
-            this.recentTasks = recentTasks;
-            this.todayDeadlines = todayDeadlines;
-            this.overdueTasks = overdueTasks;
+            // 캐시된 대시보드를 여러 요청이 같이 쓰므로 목록은 변경 불가로 보관
+            this.recentTasks = List.copyOf(recentTasks);
+            this.todayDeadlines = List.copyOf(todayDeadlines);
+            this.overdueTasks = List.copyOf(overdueTasks);
         }
 
         // Getters
@@ -0,0 +1,109 @@
+package com.example.companycoreserver.service;
+
+import com.example.companycoreserver.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 토큰 버전 관리
+ * - 액세스 토큰의 "ver" claim 과 현재 버전이 같아야 유효 → 토큰 원문을 보관하지 않고 정수 비교로 폐기 여부 판단
+ * - 버전은 users.token_version 에 저장하고, 서버마다 짧게 캐시
+ *   (다른 서버에서 올린 버전으로 폐기된 토큰은 최대 cache-ttl 동안 통과할 수 있음,
+ *    다른 서버에서 올린 버전으로 새로 발급된 토큰은 캐시보다 버전이 높으므로 DB 를 다시 읽어 바로 인정)
+ */
+@Service
+public class TokenVersionService {
+
+    private final UserRepository userRepository;
+    private final long cacheTtlMillis;
+
+    // 사용자 ID -> 캐시된 버전
+    private final Map<Long, CachedVersion> cache = new ConcurrentHashMap<>();
+
+    private record CachedVersion(int version, long cachedUntil) {
+    }
+
+    public TokenVersionService(UserRepository userRepository,
+                               @Value("${auth.token-version.cache-ttl-seconds:30}") long cacheTtlSeconds) {
+        this.userRepository = userRepository;
+        this.cacheTtlMillis = cacheTtlSeconds * 1000L;
+    }
+
+    /**
+     * 현재 토큰 버전 (캐시 우선)
+     */
+    public int currentVersion(Long userId) {
+        long now = System.currentTimeMillis();
+        CachedVersion cached = cache.get(userId);
+        if (cached != null && now < cached.cachedUntil()) {
+            return cached.version();
+        }
+
+        return reload(userId, now);
+    }
+
+    /**
+     * 토큰의 버전이 현재 버전과 같은지 (버전 claim 이 없는 이전 토큰은 0 으로 취급)
+     */
+    public boolean isCurrent(Long userId, Integer tokenVersion) {
+        if (userId == null) {
+            return false;
+        }
+        int expected = tokenVersion != null ? tokenVersion : 0;
+        int current = currentVersion(userId);
+        if (current == expected) {
+            return true;
+        }
+        if (expected > current) {
+            // 캐시보다 새 토큰 = 다른 서버에서 버전을 올린 뒤 발급된 토큰 → 캐시가 오래된 것이므로 DB 에서 다시 확인
+            return reload(userId, System.currentTimeMillis()) == expected;
+        }
+        return false;
+    }
+
+    /**
+     * 버전 증가 - 지금까지 발급된 액세스/리프레시 토큰 전부 무효화
+     * - 증가와 조회를 한 트랜잭션에서 실행 → UPDATE 가 잡은 행 잠금 아래에서 읽으므로 동시 bump 와 섞이지 않음
+     * - 캐시는 커밋 후 새 버전으로 교체 (롤백되면 DB 보다 앞선 버전이 캐시에 남지 않도록)
+     * @return 새 버전
+     */
+    @Transactional
+    public int bump(Long userId) {
+        userRepository.incrementTokenVersion(userId);
+        int version = userRepository.findTokenVersion(userId).orElse(0);
+
+        cache.remove(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.put(userId, new CachedVersion(version, System.currentTimeMillis() + cacheTtlMillis));
+                }
+            });
+        } else {
+            cache.put(userId, new CachedVersion(version, System.currentTimeMillis() + cacheTtlMillis));
+        }
+        return version;
+    }
+
+    // DB 에서 다시 읽어 캐시 갱신
+    private int reload(Long userId, long now) {
+        int version = userRepository.findTokenVersion(userId).orElse(0);
+        cache.put(userId, new CachedVersion(version, now + cacheTtlMillis));
+        evictExpiredIfLarge(now);
+        return version;
+    }
+
+    // 캐시가 커지면 만료된 항목 정리
+    private void evictExpiredIfLarge(long now) {
+        if (cache.size() > 10_000) {
+            cache.values().removeIf(entry -> now >= entry.cachedUntil());
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.companycoreserver.service;
+
+import com.example.companycoreserver.dto.UserCard;
+import com.example.companycoreserver.util.HangulUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 직원 이름 자동완성 인덱스 (메모리)
+ * - 활성 사용자만 대상, 조직 디렉터리 변경 알림으로 바뀐 사용자 항목만 교체 (전체 재생성 없음)
+ * - 이름 / 이름(성 제외) / 사번을 초성 키로 정렬 맵(skip list)에 두고 접두사 범위만 확인
+ *   → 검색어 길이와 후보 수에만 비례, 전체 사용자 수와 무관
+ * - 정렬: 이름 완전 일치 → 같은 부서 → 이름 접두사 → 성 제외 이름 → 사번 → 짧은 이름 순
+ */
+@Component
+public class UserAutocompleteIndex {
+
+    public static final int MAX_LIMIT = 50;
+
+    // 매칭 종류 (작을수록 우선)
+    private static final int MATCH_NAME = 0;
+    private static final int MATCH_GIVEN_NAME = 1;
+    private static final int MATCH_EMPLOYEE_CODE = 2;
+
+    // 정렬 키 구분자 (어떤 글자보다 작으므로 "ab" 항목이 "abc" 항목보다 앞에 옴)
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final OrgDirectory orgDirectory;
+
+    // 정렬 키(초성 키 + 사용자 ID + 매칭 종류) → 항목
+    private final ConcurrentSkipListMap<String, Entry> entries = new ConcurrentSkipListMap<>();
+    private volatile boolean subscribed;
+
+    public UserAutocompleteIndex(OrgDirectory orgDirectory) {
+        this.orgDirectory = orgDirectory;
+    }
+
+    private record Entry(String key, String text, int matchType, UserCard user) {
+        String sortKey() {
+            return key + KEY_SEPARATOR + user.userId() + KEY_SEPARATOR + matchType;
+        }
+    }
+
+    private record Candidate(UserCard user, int matchType, boolean exact, boolean sameDepartment) {
+    }
+
+    private static final Comparator<Candidate> RANKING = Comparator
+            .comparing((Candidate c) -> !c.exact())
+            .thenComparing(c -> !c.sameDepartment())
+            .thenComparingInt(Candidate::matchType)
+            .thenComparingInt(c -> c.user().username().length())
+            .thenComparing(c -> c.user().username())
+            .thenComparing(c -> c.user().userId());
+
+    /**
+     * 자동완성 검색
+     * @param query        검색어 (이름, 초성, 사번 접두사)
+     * @param departmentId 요청자 부서 (같은 부서를 위로, null 이면 미적용)
+     * @param limit        최대 결과 수
+     */
+    public List<UserCard> search(String query, Integer departmentId, int limit) {
+        if (query == null || query.isBlank() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        String trimmed = query.trim();
+        String key = HangulUtils.toChoseongKey(trimmed);
+        int k = Math.min(limit, MAX_LIMIT);
+
+        ensureSubscribed();
+        Map<Long, Candidate> best = new HashMap<>();
+
+        for (Map.Entry<String, Entry> indexed : entries.tailMap(key).entrySet()) {
+            if (!indexed.getKey().startsWith(key)) {
+                break;
+            }
+            Entry entry = indexed.getValue();
+            if (!HangulUtils.matchesPrefix(entry.text(), trimmed)) {
+                continue;
+            }
+            UserCard user = entry.user();
+            Candidate candidate = new Candidate(user, entry.matchType(),
+                    entry.matchType() == MATCH_NAME && user.username().equals(trimmed),
+                    departmentId != null && departmentId.equals(user.departmentId()));
+            best.merge(user.userId(), candidate, (a, b) -> RANKING.compare(a, b) <= 0 ? a : b);
+        }
+
+        // 상위 k 개만 유지
+        PriorityQueue<Candidate> top = new PriorityQueue<>(RANKING.reversed());
+        for (Candidate candidate : best.values()) {
+            top.offer(candidate);
+            if (top.size() > k) {
+                top.poll();
+            }
+        }
+
+        List<Candidate> ranked = new ArrayList<>(top);
+        ranked.sort(RANKING);
+        List<UserCard> result = new ArrayList<>(ranked.size());
+        for (Candidate candidate : ranked) {
+            result.add(candidate.user());
+        }
+        return result;
+    }
+
+    // 최초 검색 시 디렉터리 변경 알림 등록 (등록 시 전체 사용자가 추가로 한 번 들어옴)
+    private void ensureSubscribed() {
+        if (!subscribed) {
+            synchronized (this) {
+                if (!subscribed) {
+                    orgDirectory.addUserListener(this::onUserChanged);
+                    subscribed = true;
+                }
+            }
+        }
+    }
+
+    // 바뀐 사용자 항목만 교체 (디렉터리가 잠금 안에서 순서대로 호출)
+    private void onUserChanged(UserCard previous, UserCard current) {
+        if (previous != null) {
+            for (Entry entry : entriesOf(previous)) {
+                entries.remove(entry.sortKey());
+            }
+        }
+        if (current != null) {
+            for (Entry entry : entriesOf(current)) {
+                entries.put(entry.sortKey(), entry);
+            }
+        }
+    }
+
+    private static List<Entry> entriesOf(UserCard user) {
+        if (!user.active() || user.username() == null) {
+            return List.of();
+        }
+        List<Entry> result = new ArrayList<>(3);
+        String name = user.username().trim();
+        result.add(new Entry(HangulUtils.toChoseongKey(name), name, MATCH_NAME, user));
+
+        // 한글 이름은 성을 뺀 이름으로도 검색 ("길동" → 홍길동)
+        if (name.length() >= 2 && HangulUtils.isSyllable(name.charAt(0))) {
+            String givenName = name.substring(1);
+            result.add(new Entry(HangulUtils.toChoseongKey(givenName), givenName, MATCH_GIVEN_NAME, user));
+        }
+        if (user.employeeCode() != null) {
+            String code = user.employeeCode().trim();
+            result.add(new Entry(HangulUtils.toChoseongKey(code), code, MATCH_EMPLOYEE_CODE, user));
+        }
+        return result;
+    }
+}
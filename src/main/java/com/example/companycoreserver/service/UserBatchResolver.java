@@ -0,0 +1,67 @@
+package com.example.companycoreserver.service;
+
+import com.example.companycoreserver.dto.UserCard;
+import com.example.companycoreserver.dto.UserSimpleInfo;
+import com.example.companycoreserver.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 목록 변환 시 사용자 정보를 한 번의 IN 쿼리로 일괄 조회
+ * - 행마다 userRepository.findById 를 호출하던 N+1 조회를 대체
+ * - 🆕 조직 디렉터리(메모리 스냅샷)에서 먼저 찾고, 없는 ID 만 DB 에서 조회
+ */
+@Component
+@RequiredArgsConstructor
+public class UserBatchResolver {
+
+    private final UserRepository userRepository;
+    private final OrgDirectory orgDirectory;
+
+    /**
+     * 사용자 ID 목록 → (userId → 경량 사용자 정보) 맵
+     */
+    public Map<Long, UserSimpleInfo> resolve(Collection<Long> userIds) {
+        Set<Long> distinctIds = userIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        if (distinctIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, UserSimpleInfo> result = new HashMap<>();
+        for (UserCard card : orgDirectory.getUsers(distinctIds).values()) {
+            result.put(card.userId(), card.toSimpleInfo());
+        }
+        if (result.size() == distinctIds.size()) {
+            return result;
+        }
+
+        // 스냅샷 이후 생성된 사용자 등 디렉터리에 없는 ID 만 DB 조회
+        Set<Long> missingIds = new HashSet<>(distinctIds);
+        missingIds.removeAll(result.keySet());
+        for (UserSimpleInfo info : userRepository.findSimpleInfoByUserIds(missingIds)) {
+            result.putIfAbsent(info.getUserId(), info);
+        }
+        return result;
+    }
+
+    /**
+     * 목록의 각 행에서 추출한 사용자 ID들을 한 번에 조회
+     */
+    @SafeVarargs
+    public final <T> Map<Long, UserSimpleInfo> resolve(Collection<T> rows, Function<T, Long>... idExtractors) {
+        List<Long> userIds = new ArrayList<>();
+        for (T row : rows) {
+            for (Function<T, Long> extractor : idExtractors) {
+                userIds.add(extractor.apply(row));
+            }
+        }
+        return resolve(userIds);
+    }
+}
@@ -0,0 +1,500 @@
+package com.example.companycoreserver.service;
+
+import com.example.companycoreserver.dto.UserImportReport;
+import com.example.companycoreserver.dto.UserInfo;
+import com.example.companycoreserver.entity.Enum.Role;
+import com.example.companycoreserver.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 사용자 일괄 등록 (CSV / JSON 배열)
+ * - 입력을 한 행씩 읽어서 batch-size 단위로 처리 → 파일 전체를 메모리에 올리지 않음
+ * - 이메일/사번 중복은 시작 시 한 번 적재한 집합으로 검사 (파일 안의 중복 포함)
+ * - 비밀번호는 bcrypt 전용 실행기에서 병렬 인코딩, 동시 작업 수는 hash-parallelism 으로 제한 (로그인 처리 몫을 남겨둠)
+ * - INSERT 는 JDBC batch 로 묶음당 1트랜잭션, 실패한 묶음은 행 단위로 다시 넣어 실패 행만 보고
+ * - 입력이 중간에 깨지면(읽기/JSON 파싱 오류) 그때까지 읽은 행까지 처리하고 중단 위치를 결과에 담아 반환
+ *   (MySQL 에서 실제 다중 행 INSERT 로 합치려면 JDBC URL 에 rewriteBatchedStatements=true 필요)
+ */
+@Service
+public class UserBulkImportService {
+
+    private static final String INSERT_SQL = "INSERT INTO users (employee_code, username, email, password, phone, " +
+            "birth_date, role, department_id, position_id, join_date, address, is_first_login, is_active, " +
+            "token_version, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 1, 1, 0, ?)";
+
+    private static final String DEFAULT_PASSWORD = "1234";
+    private static final Set<String> CSV_COLUMNS = Set.of("employeecode", "username", "email", "password", "phone",
+            "birthdate", "role", "departmentid", "positionid", "joindate", "address");
+    private static final int HASH_RETRY_LIMIT = 100;
+    private static final long HASH_RETRY_SLEEP_MILLIS = 20;
+
+    private final UserRepository userRepository;
+    private final PasswordHashService passwordHashService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OrgDirectory orgDirectory;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int hashParallelism;
+    private final int maxReportedErrors;
+
+    public UserBulkImportService(UserRepository userRepository,
+                                 PasswordHashService passwordHashService,
+                                 JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 OrgDirectory orgDirectory,
+                                 ObjectMapper objectMapper,
+                                 @Value("${user.import.batch-size:200}") int batchSize,
+                                 @Value("${user.import.hash-parallelism:0}") int hashParallelism,
+                                 @Value("${user.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.userRepository = userRepository;
+        this.passwordHashService = passwordHashService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.orgDirectory = orgDirectory;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        // 기본값: CPU 코어의 절반 (bcrypt 실행기를 로그인 요청과 나눠 씀)
+        this.hashParallelism = hashParallelism > 0 ? hashParallelism
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    // 입력 한 행 (파싱 실패 시 request 는 null, parseError 에 사유)
+    private record InputRow(int rowNumber, UserInfo.CreateRequest request, String parseError) {
+    }
+
+    // 검증을 통과해 INSERT 대기 중인 행
+    private record PendingRow(int rowNumber, UserInfo.CreateRequest request, Role role,
+                              CompletableFuture<String> encodedPassword) {
+    }
+
+    /**
+     * CSV 일괄 등록 - 첫 줄은 헤더 (employeeCode, username, email 필수 / 나머지 CreateRequest 필드 선택)
+     * 값 안의 쉼표는 큰따옴표로 감싸서 사용 (한 값이 여러 줄에 걸치는 것은 지원하지 않음)
+     */
+    public UserImportReport importCsv(InputStream inputStream) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        String headerLine = reader.readLine();
+        if (headerLine == null) {
+            throw new IllegalArgumentException("CSV 헤더가 없습니다.");
+        }
+        if (headerLine.startsWith("\uFEFF")) {
+            headerLine = headerLine.substring(1); // BOM 제거
+        }
+
+        List<String> header = new ArrayList<>();
+        for (String column : parseCsvLine(headerLine)) {
+            String normalized = column.trim().toLowerCase().replace("_", "");
+            if (!CSV_COLUMNS.contains(normalized)) {
+                throw new IllegalArgumentException("알 수 없는 CSV 컬럼입니다: " + column);
+            }
+            header.add(normalized);
+        }
+        for (String required : List.of("employeecode", "username", "email")) {
+            if (!header.contains(required)) {
+                throw new IllegalArgumentException("필수 CSV 컬럼이 없습니다: " + required);
+            }
+        }
+
+        // 다음 줄은 hasNext 에서 읽음 → 읽기 오류가 나도 이미 꺼낸 행은 처리됨
+        Iterator<InputRow> rows = new Iterator<>() {
+            private int rowNumber = 0;
+            private String nextLine;
+            private boolean fetched;
+
+            @Override
+            public boolean hasNext() {
+                if (!fetched) {
+                    nextLine = readNonEmptyLine(reader);
+                    fetched = true;
+                }
+                return nextLine != null;
+            }
+
+            @Override
+            public InputRow next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                fetched = false;
+                rowNumber++;
+                try {
+                    return new InputRow(rowNumber, toCreateRequest(header, parseCsvLine(nextLine)), null);
+                } catch (IllegalArgumentException e) {
+                    return new InputRow(rowNumber, null, e.getMessage());
+                }
+            }
+        };
+
+        return run(rows);
+    }
+
+    /**
+     * JSON 배열 일괄 등록 - [{ CreateRequest 형식 }, ...] 을 요소 단위로 스트리밍 파싱
+     */
+    public UserImportReport importJson(InputStream inputStream) throws IOException {
+        JsonParser parser = objectMapper.getFactory().createParser(inputStream);
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            throw new IllegalArgumentException("JSON 배열 형식이어야 합니다.");
+        }
+
+        try {
+            // 다음 토큰은 hasNext 에서 읽음 → 파싱 오류가 나도 이미 꺼낸 요소는 처리됨
+            Iterator<InputRow> rows = new Iterator<>() {
+                private int rowNumber = 0;
+                private JsonToken token;
+                private boolean fetched;
+
+                @Override
+                public boolean hasNext() {
+                    if (!fetched) {
+                        token = nextToken(parser);
+                        fetched = true;
+                    }
+                    return token != null && token != JsonToken.END_ARRAY;
+                }
+
+                @Override
+                public InputRow next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    fetched = false;
+                    rowNumber++;
+                    JsonNode node;
+                    try {
+                        node = objectMapper.readTree(parser);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    try {
+                        return new InputRow(rowNumber, objectMapper.treeToValue(node, UserInfo.CreateRequest.class), null);
+                    } catch (JsonProcessingException | IllegalArgumentException e) {
+                        return new InputRow(rowNumber, null, "JSON 값 형식 오류: " + e.getMessage());
+                    }
+                }
+            };
+            return run(rows);
+        } finally {
+            parser.close();
+        }
+    }
+
+    private UserImportReport run(Iterator<InputRow> rows) {
+        long startedAt = System.currentTimeMillis();
+
+        // 기존 이메일/사번 (이메일은 대소문자 무시)
+        Set<String> emails = new HashSet<>();
+        for (String email : userRepository.findAllEmails()) {
+            emails.add(email.toLowerCase());
+        }
+        Set<String> employeeCodes = new HashSet<>(userRepository.findAllEmployeeCodes());
+
+        Semaphore hashPermits = new Semaphore(hashParallelism);
+        List<UserImportReport.RowError> errors = new ArrayList<>();
+        int[] counts = new int[3]; // total, imported, failed
+        List<PendingRow> chunk = new ArrayList<>(batchSize);
+
+        // 입력 도중 읽기/파싱 오류 → 그때까지 읽은 행은 끝까지 처리하고, 중단 위치를 결과에 담아 반환
+        // (앞 묶음은 이미 커밋되었으므로 예외로 끝내면 어디까지 등록됐는지 알 수 없음)
+        Integer abortedAtRow = null;
+        String abortReason = null;
+        try {
+            while (rows.hasNext()) {
+                InputRow row = rows.next();
+                counts[0]++;
+
+                String error = row.parseError() != null ? row.parseError() : validate(row.request(), emails, employeeCodes);
+                if (error != null) {
+                    addError(errors, counts, row.rowNumber(), row.request() != null ? row.request().getEmployeeCode() : null, error);
+                    continue;
+                }
+
+                UserInfo.CreateRequest request = row.request();
+                Role role = request.getRole() != null && !request.getRole().isBlank()
+                        ? Role.valueOf(request.getRole().trim().toUpperCase()) : Role.EMPLOYEE;
+                String rawPassword = request.getPassword() != null && !request.getPassword().isBlank()
+                        ? request.getPassword() : DEFAULT_PASSWORD;
+                chunk.add(new PendingRow(row.rowNumber(), request, role, encode(rawPassword, hashPermits)));
+
+                if (chunk.size() >= batchSize) {
+                    flush(chunk, errors, counts);
+                    chunk.clear();
+                }
+            }
+        } catch (UncheckedIOException e) {
+            abortedAtRow = counts[0] + 1;
+            abortReason = describeReadError(e.getCause());
+            System.err.println("사용자 일괄 등록 중단 - " + abortedAtRow + "행: " + abortReason);
+        }
+        if (!chunk.isEmpty()) {
+            flush(chunk, errors, counts);
+        }
+
+        if (counts[1] > 0) {
+            orgDirectory.reload();
+        }
+
+        long elapsed = Math.max(1, System.currentTimeMillis() - startedAt);
+        double rowsPerSecond = counts[0] * 1000.0 / elapsed;
+        System.out.println("사용자 일괄 등록 완료 - 전체: " + counts[0] + ", 성공: " + counts[1]
+                + ", 실패: " + counts[2] + ", " + elapsed + "ms (" + String.format("%.1f", rowsPerSecond) + "행/초)");
+
+        return new UserImportReport(counts[0], counts[1], counts[2], elapsed, rowsPerSecond,
+                errors, counts[2] > errors.size(), abortedAtRow, abortReason);
+    }
+
+    // 입력 읽기 오류 설명 (JSON 은 줄/열 위치 포함)
+    private static String describeReadError(IOException e) {
+        if (e instanceof JsonProcessingException jsonError && jsonError.getLocation() != null) {
+            return "JSON 파싱 오류 (줄 " + jsonError.getLocation().getLineNr()
+                    + ", 열 " + jsonError.getLocation().getColumnNr() + "): " + jsonError.getOriginalMessage();
+        }
+        return "입력 읽기 오류: " + e.getMessage();
+    }
+
+    // 행 검증 - 통과하면 이메일/사번을 예약해서 파일 안의 중복도 걸러냄
+    private String validate(UserInfo.CreateRequest request, Set<String> emails, Set<String> employeeCodes) {
+        if (isBlank(request.getEmployeeCode())) {
+            return "사원번호는 필수입니다.";
+        }
+        if (isBlank(request.getUsername())) {
+            return "이름은 필수입니다.";
+        }
+        if (isBlank(request.getEmail())) {
+            return "이메일은 필수입니다.";
+        }
+        if (request.getUsername().trim().length() > 50) {
+            return "이름은 50자 이하로 입력해주세요.";
+        }
+        if (!request.getEmail().contains("@")) {
+            return "이메일 형식이 올바르지 않습니다: " + request.getEmail();
+        }
+        if (request.getAddress() != null && request.getAddress().length() > 500) {
+            return "주소는 500자 이하로 입력해주세요.";
+        }
+        if (request.getRole() != null && !request.getRole().isBlank()) {
+            try {
+                Role.valueOf(request.getRole().trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                return "유효하지 않은 역할입니다: " + request.getRole();
+            }
+        }
+        if (request.getDepartmentId() != null
+                && orgDirectory.getDepartmentName(request.getDepartmentId().intValue()) == null) {
+            return "존재하지 않는 부서입니다: " + request.getDepartmentId();
+        }
+        if (request.getPositionId() != null
+                && orgDirectory.getPositionName(request.getPositionId().intValue()) == null) {
+            return "존재하지 않는 직급입니다: " + request.getPositionId();
+        }
+
+        String employeeCode = request.getEmployeeCode().trim();
+        String email = request.getEmail().trim().toLowerCase();
+        if (employeeCodes.contains(employeeCode)) {
+            return "이미 존재하는 사원번호입니다: " + employeeCode;
+        }
+        if (emails.contains(email)) {
+            return "이미 존재하는 이메일입니다: " + request.getEmail();
+        }
+        employeeCodes.add(employeeCode);
+        emails.add(email);
+        return null;
+    }
+
+    // 비밀번호 인코딩 요청 - 동시 작업 수 제한, 실행기 대기열이 가득 차면 잠시 후 재시도
+    private CompletableFuture<String> encode(String rawPassword, Semaphore permits) {
+        permits.acquireUninterruptibly();
+        for (int attempt = 0; ; attempt++) {
+            CompletableFuture<String> future = passwordHashService.encodeAsync(rawPassword);
+            boolean rejected = future.isCompletedExceptionally()
+                    && future.exceptionNow() instanceof RejectedExecutionException;
+            if (!rejected || attempt >= HASH_RETRY_LIMIT) {
+                future.whenComplete((hash, e) -> permits.release());
+                return future;
+            }
+            try {
+                Thread.sleep(HASH_RETRY_SLEEP_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                permits.release();
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+    }
+
+    // 묶음 INSERT (인코딩 완료 대기 → batch INSERT, 실패 시 행 단위 재시도)
+    private void flush(List<PendingRow> chunk, List<UserImportReport.RowError> errors, int[] counts) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<PendingRow> ready = new ArrayList<>(chunk.size());
+        List<Object[]> params = new ArrayList<>(chunk.size());
+
+        for (PendingRow row : chunk) {
+            try {
+                params.add(toParams(row, row.encodedPassword().join(), now));
+                ready.add(row);
+            } catch (RuntimeException e) {
+                addError(errors, counts, row.rowNumber(), row.request().getEmployeeCode(),
+                        "비밀번호 암호화 실패: " + e.getMessage());
+            }
+        }
+        if (params.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, params));
+            counts[1] += ready.size();
+        } catch (DataAccessException batchError) {
+            // 묶음 전체가 롤백됨 → 한 행씩 다시 넣어서 실패 행만 골라냄
+            for (int i = 0; i < ready.size(); i++) {
+                PendingRow row = ready.get(i);
+                try {
+                    jdbcTemplate.update(INSERT_SQL, params.get(i));
+                    counts[1]++;
+                } catch (DataAccessException e) {
+                    addError(errors, counts, row.rowNumber(), row.request().getEmployeeCode(),
+                            "저장 실패: " + e.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+
+    private static Object[] toParams(PendingRow row, String encodedPassword, Timestamp createdAt) {
+        UserInfo.CreateRequest request = row.request();
+        LocalDate joinDate = request.getJoinDate() != null ? request.getJoinDate() : LocalDate.now();
+        return new Object[]{
+                request.getEmployeeCode().trim(),
+                request.getUsername().trim(),
+                request.getEmail().trim(),
+                encodedPassword,
+                request.getPhone(),
+                request.getBirthDate() != null ? Date.valueOf(request.getBirthDate()) : null,
+                row.role().name(),
+                request.getDepartmentId() != null ? request.getDepartmentId().intValue() : null,
+                request.getPositionId() != null ? request.getPositionId().intValue() : null,
+                Date.valueOf(joinDate),
+                request.getAddress(),
+                createdAt
+        };
+    }
+
+    private void addError(List<UserImportReport.RowError> errors, int[] counts,
+                          int rowNumber, String employeeCode, String message) {
+        counts[2]++;
+        if (errors.size() < maxReportedErrors) {
+            errors.add(new UserImportReport.RowError(rowNumber, employeeCode, message));
+        }
+    }
+
+    private static UserInfo.CreateRequest toCreateRequest(List<String> header, List<String> values) {
+        if (values.size() > header.size()) {
+            throw new IllegalArgumentException("컬럼 수가 헤더보다 많습니다.");
+        }
+        UserInfo.CreateRequest request = new UserInfo.CreateRequest();
+        for (int i = 0; i < values.size(); i++) {
+            String value = values.get(i).trim();
+            if (value.isEmpty()) {
+                continue;
+            }
+            String column = header.get(i);
+            try {
+                switch (column) {
+                    case "employeecode" -> request.setEmployeeCode(value);
+                    case "username" -> request.setUsername(value);
+                    case "email" -> request.setEmail(value);
+                    case "password" -> request.setPassword(value);
+                    case "phone" -> request.setPhone(value);
+                    case "birthdate" -> request.setBirthDate(LocalDate.parse(value));
+                    case "role" -> request.setRole(value);
+                    case "departmentid" -> request.setDepartmentId(Long.valueOf(value));
+                    case "positionid" -> request.setPositionId(Long.valueOf(value));
+                    case "joindate" -> request.setJoinDate(LocalDate.parse(value));
+                    case "address" -> request.setAddress(value);
+                    default -> {
+                    }
+                }
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException(column + " 값 형식 오류: " + value);
+            }
+        }
+        return request;
+    }
+
+    // 큰따옴표로 감싼 값("a, b") 과 이스케이프된 따옴표("") 지원
+    private static List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    private static String readNonEmptyLine(BufferedReader reader) {
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    return line;
+                }
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static JsonToken nextToken(JsonParser parser) {
+        try {
+            return parser.nextToken();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+}
@@ -2,6 +2,7 @@ package com.example.companycoreserver.service;
 
 import com.example.companycoreserver.entity.User;
 import com.example.companycoreserver.dto.UserInfo;
+import com.example.companycoreserver.util.LikePatternUtil;
 import org.springframework.stereotype.Component;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -337,6 +338,33 @@ public class UserConverter {
         }
     }
 
+    /**
+     * 🆕 DB 에서 바로 목록 DTO 로 조회한 페이지를 PagedResponse 로 변환 (엔티티 변환 없음)
+     */
+    public UserInfo.PagedResponse toPagedResponse(
+            org.springframework.data.domain.Page<UserInfo.ListResponse> page) {
+        return new UserInfo.PagedResponse(
+                page.getContent(),
+                page.getNumber(),
+                page.getTotalPages(),
+                page.getTotalElements(),
+                page.getSize(),
+                page.hasNext(),
+                page.hasPrevious()
+        );
+    }
+
+    /**
+     * 🆕 검색어를 소문자 LIKE 패턴으로 변환 (비어 있으면 null → 조건 미적용)
+     * 검색어의 %, _ 는 이스케이프 (쿼리에 ESCAPE '!' 필요)
+     */
+    public String toLikePattern(String keyword) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return null;
+        }
+        return LikePatternUtil.contains(keyword.trim().toLowerCase());
+    }
+
     // ✅ 주소 검색 조건 처리를 위한 헬퍼 메서드 (선택사항)
     /**
      * 주소 검색 키워드가 있는지 확인
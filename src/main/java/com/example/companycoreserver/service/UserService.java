@@ -1,15 +1,20 @@
 package com.example.companycoreserver.service;
 
 import com.example.companycoreserver.dto.LoginResponse;
+import com.example.companycoreserver.dto.UserInfo;
 import com.example.companycoreserver.entity.Enum.Role;
 import com.example.companycoreserver.entity.User;
 import com.example.companycoreserver.entity.Enum.UserStatus;
 import com.example.companycoreserver.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -21,6 +26,15 @@ public class UserService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private OrgDirectory orgDirectory;
+
+    @Autowired
+    private UserConverter userConverter;
+
+    @Autowired
+    private TokenVersionService tokenVersionService;
+
     public User createUser(User user) {
         try {
             System.out.println("=== UserService.createUser 시작 ===");
@@ -56,6 +70,7 @@ public class UserService {
             System.out.println("저장할 사용자 정보: " + user);
             User savedUser = userRepository.save(user);
             System.out.println("사용자 저장 성공: " + savedUser.getUserId());
+            orgDirectory.refreshUser(savedUser.getUserId()); // 🆕 조직 디렉터리 반영
             return savedUser;
             
         } catch (Exception e) {
@@ -76,6 +91,63 @@ public class UserService {
         }
     }
 
+    // 🆕 사용자 디렉터리 검색 (페이지 단위, 목록 DTO 프로젝션)
+    private static final int MAX_DIRECTORY_PAGE_SIZE = 100;
+    private static final Map<String, String> DIRECTORY_SORT_FIELDS = Map.of(
+            "createdAt", "createdAt",
+            "username", "username",
+            "employeeCode", "employeeCode",
+            "joinDate", "joinDate",
+            "email", "email",
+            "userId", "userId"
+    );
+
+    public UserInfo.PagedResponse searchUsers(UserInfo.SearchCondition condition) {
+        int page = condition.getPage() != null ? Math.max(0, condition.getPage()) : 0;
+        int size = condition.getSize() != null ? condition.getSize() : 10;
+        if (size < 1 || size > MAX_DIRECTORY_PAGE_SIZE) {
+            throw new IllegalArgumentException("size는 1~" + MAX_DIRECTORY_PAGE_SIZE + " 사이여야 합니다.");
+        }
+
+        String sortBy = condition.getSortBy() != null ? condition.getSortBy() : "createdAt";
+        String sortProperty = DIRECTORY_SORT_FIELDS.get(sortBy);
+        if (sortProperty == null) {
+            throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + sortBy);
+        }
+        Sort.Direction direction = "ASC".equalsIgnoreCase(condition.getSortDirection())
+                ? Sort.Direction.ASC : Sort.Direction.DESC;
+        // 동일 값 정렬 시 페이지 간 중복/누락이 없도록 userId 를 보조 정렬로 추가
+        Sort sort = Sort.by(direction, sortProperty).and(Sort.by(direction, "userId"));
+
+        Role role = null;
+        if (condition.getRole() != null && !condition.getRole().trim().isEmpty()) {
+            try {
+                role = Role.valueOf(condition.getRole().trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("유효하지 않은 역할입니다: " + condition.getRole());
+            }
+        }
+
+        Page<UserInfo.ListResponse> result = userRepository.searchDirectory(
+                userConverter.toLikePattern(condition.getKeyword()),
+                condition.getDepartmentId() != null ? condition.getDepartmentId().intValue() : null,
+                condition.getPositionId() != null ? condition.getPositionId().intValue() : null,
+                blankToNull(condition.getDepartmentName()),
+                blankToNull(condition.getPositionName()),
+                role,
+                userConverter.convertSearchActiveCondition(condition.getIsActive()),
+                condition.getStartDate(),
+                condition.getEndDate(),
+                userConverter.toLikePattern(condition.getAddressKeyword()),
+                PageRequest.of(page, size, sort));
+
+        return userConverter.toPagedResponse(result);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.trim().isEmpty() ? null : value.trim();
+    }
+
     // ID로 사용자 조회
     public Optional<User> getUserById(Long userId) {
         try {
@@ -329,6 +401,8 @@ public class UserService {
             String encodedNewPassword = passwordEncoder.encode(newPassword);
             user.setPassword(encodedNewPassword);
             userRepository.save(user);
+            // 🆕 비밀번호 변경 시 기존 토큰(액세스/리프레시) 전부 무효화
+            tokenVersionService.bump(userId);
 
             System.out.println("Password changed successfully for user: " + userId);
             return true;
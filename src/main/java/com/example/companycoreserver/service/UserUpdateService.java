@@ -17,6 +17,7 @@ import org.slf4j.LoggerFactory;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.regex.Pattern;
 
@@ -45,6 +46,12 @@ public class UserUpdateService {
     @Autowired
     private UserConverter userConverter;
 
+    @Autowired
+    private OrgDirectory orgDirectory;
+
+    @Autowired
+    private TokenVersionService tokenVersionService;
+
     /**
      * 사용자 정보 업데이트
      */
@@ -55,11 +62,16 @@ public class UserUpdateService {
             User user = userRepository.findById(userId)
                     .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
+            Integer previousDepartmentId = user.getDepartmentId();
+            Integer previousPositionId = user.getPositionId();
+
             updateBasicInfo(user, request);
             updatePassword(user, request);
             updateFirstLoginStatus(user, request);
 
             User updatedUser = userRepository.save(user);
+            orgDirectory.refreshUser(userId); // 🆕 조직 디렉터리 반영 (커밋 후)
+            revokeTokensIfOrgChanged(updatedUser, previousDepartmentId, previousPositionId);
             logger.info("사용자 정보 업데이트 완료 - userId: {}", userId);
 
             // ✅ 올바른 메서드 호출
@@ -141,6 +153,7 @@ public class UserUpdateService {
 
             user.setIsActive(user.getIsActive() == 1 ? 0 : 1);
             User updatedUser = userRepository.save(user);
+            orgDirectory.refreshUser(userId); // 🆕 조직 디렉터리 반영 (커밋 후)
 
             // ✅ 올바른 메서드 호출
             UserInfo.Response userInfo = userConverter.convertToUserInfo(updatedUser);
@@ -271,6 +284,12 @@ public class UserUpdateService {
         // 새 비밀번호 설정
         user.setPassword(passwordEncoder.encode(newPassword));
         logger.info("비밀번호 업데이트 완료 - userId: {}", user.getUserId());
+
+        // 🆕 비밀번호 변경 시 기존 토큰 전부 무효화
+        // (첫 로그인 시 초기 비밀번호 변경은 제외 - 로그인하면서 이미 이전 토큰이 무효화되었고, 지금 쓰는 토큰을 유지)
+        if (!request.isFirstLogin()) {
+            tokenVersionService.bump(user.getUserId());
+        }
     }
 
     private void validatePasswordStrength(String password) {
@@ -326,13 +345,27 @@ public class UserUpdateService {
         Optional<User> user = userRepository.findById(userId);
         if (user.isPresent()) {
             User userToUpdate = user.get();
+            Integer previousDepartmentId = userToUpdate.getDepartmentId();
+            Integer previousPositionId = userToUpdate.getPositionId();
             userToUpdate.setDepartmentId(departmentId);
             userToUpdate.setPositionId(positionId);
-            return userRepository.save(userToUpdate);
+            User updatedUser = userRepository.save(userToUpdate);
+            orgDirectory.refreshUser(userId); // 🆕 조직 디렉터리 반영 (커밋 후)
+            revokeTokensIfOrgChanged(updatedUser, previousDepartmentId, previousPositionId);
+            return updatedUser;
         }
         throw new RuntimeException("사용자를 찾을 수 없습니다.");
     }
 
+    // 🆕 부서/직급이 바뀌면 토큰 버전 증가 - 이전 부서/직급 claim 이 담긴 토큰으로 권한 확인(인사팀 여부 등)을 하지 못하도록
+    private void revokeTokensIfOrgChanged(User user, Integer previousDepartmentId, Integer previousPositionId) {
+        if (!Objects.equals(previousDepartmentId, user.getDepartmentId())
+                || !Objects.equals(previousPositionId, user.getPositionId())) {
+            tokenVersionService.bump(user.getUserId());
+            logger.info("부서/직급 변경으로 기존 토큰 무효화 - userId: {}", user.getUserId());
+        }
+    }
+
     // ✅ 주소만 별도로 업데이트하는 메서드 (선택사항)
 
     /**
@@ -381,6 +414,7 @@ public class UserUpdateService {
 
             // CASCADE 하드 삭제 - 연관된 모든 데이터가 자동으로 삭제됨
             userRepository.deleteById(userId);
+            orgDirectory.removeUser(userId); // 🆕 조직 디렉터리에서 제거 (커밋 후)
 
             return new UserUpdateResponse(true, "사용자가 성공적으로 삭제되었습니다.");
 
@@ -0,0 +1,32 @@
+package com.example.companycoreserver.storage;
+
+import org.springframework.core.io.Resource;
+
+/**
+ * 다운로드용 첨부파일 (메타데이터 + 스트리밍 Resource)
+ */
+public class AttachmentResource {
+    private final String filename;
+    private final String contentType;
+    private final long size;
+    private final String storageKey; // 저장소에 있는 경우만 (기존 Base64 데이터는 null)
+    private final String contentHash; // 내용 SHA-256 (ETag 용)
+    private final Resource resource;
+
+    public AttachmentResource(String filename, String contentType, long size,
+                              String storageKey, String contentHash, Resource resource) {
+        this.filename = filename;
+        this.contentType = contentType;
+        this.size = size;
+        this.storageKey = storageKey;
+        this.contentHash = contentHash;
+        this.resource = resource;
+    }
+
+    public String getFilename() { return filename; }
+    public String getContentType() { return contentType; }
+    public long getSize() { return size; }
+    public String getStorageKey() { return storageKey; }
+    public String getContentHash() { return contentHash; }
+    public Resource getResource() { return resource; }
+}
@@ -0,0 +1,49 @@
+package com.example.companycoreserver.storage;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 첨부파일 저장소 SPI
+ * - 엔티티에는 메타데이터와 storageKey 만 저장하고 실제 바이트는 저장소에 보관
+ * - 업로드/다운로드 모두 스트림 기반으로 처리하여 파일 전체를 힙에 올리지 않음
+ * - 업로드는 stage → (참조 행 확보) → publish 순서, 참조 카운트는 AttachmentService 에서 관리
+ */
+public interface AttachmentStore {
+
+    /**
+     * 스트림을 끝까지 읽어 임시로 기록 (storageKey 계산, 아직 다른 요청에서 보이지 않음)
+     * @param content 업로드 스트림 (호출자가 닫음)
+     * @return 임시 기록 결과 (storageKey, 크기)
+     */
+    StagedAttachment stage(InputStream content) throws IOException;
+
+    /**
+     * 임시 기록을 storageKey 경로로 공개
+     * @return 이번 호출로 파일이 새로 생겼으면 true, 같은 내용이 이미 있었으면 false
+     */
+    boolean publish(StagedAttachment staged) throws IOException;
+
+    /**
+     * 공개하지 않은 임시 기록 정리 (이미 공개되었으면 아무것도 하지 않음)
+     */
+    void discard(StagedAttachment staged);
+
+    /**
+     * storageKey 로 저장된 파일 조회
+     * @return 스트리밍 가능한 Resource
+     */
+    Resource load(String storageKey);
+
+    /**
+     * 저장된 파일 존재 여부
+     */
+    boolean exists(String storageKey);
+
+    /**
+     * 저장된 파일 삭제
+     */
+    void delete(String storageKey) throws IOException;
+}
@@ -0,0 +1,115 @@
+package com.example.companycoreserver.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.*;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * 로컬 파일시스템 첨부파일 저장소
+ * - 내용 주소 방식: storageKey = SHA-256(파일 내용), 경로 = {root}/ab/cd/{storageKey}
+ * - 임시 파일에 스트리밍으로 기록하면서 해시를 계산(stage)한 뒤 최종 경로로 이동(publish)
+ */
+@Component
+public class LocalFileAttachmentStore implements AttachmentStore {
+
+    private static final Pattern STORAGE_KEY_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path root;
+
+    public LocalFileAttachmentStore(@Value("${attachment.storage.local.root:attachments}") String root) {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public StagedAttachment stage(InputStream content) throws IOException {
+        Path tmpDir = Files.createDirectories(root.resolve("tmp"));
+        Path tmpFile = Files.createTempFile(tmpDir, "upload-", ".part");
+
+        try {
+            MessageDigest digest = newDigest();
+            long size;
+            try (DigestInputStream in = new DigestInputStream(content, digest)) {
+                size = Files.copy(in, tmpFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return new StagedAttachment(HexFormat.of().formatHex(digest.digest()), size, tmpFile);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tmpFile);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean publish(StagedAttachment staged) throws IOException {
+        Path target = resolvePath(staged.getStorageKey());
+        Files.createDirectories(target.getParent());
+
+        if (Files.exists(target)) {
+            // 동일 내용이 이미 저장되어 있음
+            Files.deleteIfExists(staged.getTempFile());
+            return false;
+        }
+        try {
+            Files.move(staged.getTempFile(), target, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (FileAlreadyExistsException e) {
+            // 동시 업로드로 먼저 기록된 경우
+            Files.deleteIfExists(staged.getTempFile());
+            return false;
+        }
+    }
+
+    @Override
+    public void discard(StagedAttachment staged) {
+        try {
+            Files.deleteIfExists(staged.getTempFile());
+        } catch (IOException e) {
+            System.err.println("임시 첨부파일 삭제 실패: " + staged.getTempFile() + " - " + e.getMessage());
+        }
+    }
+
+    @Override
+    public Resource load(String storageKey) {
+        Path path = resolvePath(storageKey);
+        if (!Files.isRegularFile(path)) {
+            throw new RuntimeException("첨부파일을 저장소에서 찾을 수 없습니다: " + storageKey);
+        }
+        return new FileSystemResource(path);
+    }
+
+    @Override
+    public boolean exists(String storageKey) {
+        return Files.isRegularFile(resolvePath(storageKey));
+    }
+
+    @Override
+    public void delete(String storageKey) throws IOException {
+        Files.deleteIfExists(resolvePath(storageKey));
+    }
+
+    private Path resolvePath(String storageKey) {
+        if (storageKey == null || !STORAGE_KEY_PATTERN.matcher(storageKey).matches()) {
+            throw new IllegalArgumentException("잘못된 첨부파일 키입니다: " + storageKey);
+        }
+        return root.resolve(storageKey.substring(0, 2))
+                .resolve(storageKey.substring(2, 4))
+                .resolve(storageKey);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
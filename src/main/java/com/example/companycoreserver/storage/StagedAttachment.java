@@ -0,0 +1,24 @@
+package com.example.companycoreserver.storage;
+
+import java.nio.file.Path;
+
+/**
+ * 저장소에 임시로 기록된 첨부파일 (아직 storageKey 경로로 공개되지 않음)
+ * - stage 로 내용을 기록하면서 storageKey(SHA-256) 를 계산하고,
+ *   참조 행을 확보한 뒤 publish 로 최종 경로에 공개
+ */
+public class StagedAttachment {
+    private final String storageKey;
+    private final long size;
+    private final Path tempFile;
+
+    public StagedAttachment(String storageKey, long size, Path tempFile) {
+        this.storageKey = storageKey;
+        this.size = size;
+        this.tempFile = tempFile;
+    }
+
+    public String getStorageKey() { return storageKey; }
+    public long getSize() { return size; }
+    public Path getTempFile() { return tempFile; }
+}
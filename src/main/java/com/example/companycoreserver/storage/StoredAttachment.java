@@ -0,0 +1,17 @@
+package com.example.companycoreserver.storage;
+
+/**
+ * 저장소에 기록된 첨부파일 정보
+ */
+public class StoredAttachment {
+    private final String storageKey;
+    private final long size;
+
+    public StoredAttachment(String storageKey, long size) {
+        this.storageKey = storageKey;
+        this.size = size;
+    }
+
+    public String getStorageKey() { return storageKey; }
+    public long getSize() { return size; }
+}
@@ -0,0 +1,142 @@
+package com.example.companycoreserver.util;
+
+import com.example.companycoreserver.storage.AttachmentResource;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourceRegion;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 첨부파일 다운로드 응답 생성 유틸리티 클래스
+ * - ETag(내용 SHA-256) / If-None-Match → 304
+ * - Range 요청 → 206 (단일 구간)
+ * - 디스크 파일 + Tomcat sendfile 지원 시 커널 zero-copy 전송 (본문을 JVM 힙에 올리지 않음)
+ */
+public class AttachmentDownloadUtil {
+
+    // Tomcat sendfile 요청 속성 (org.apache.catalina.Globals)
+    private static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_FILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_FILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    /**
+     * 첨부파일 → 바이너리 다운로드 응답
+     * @param attachment 다운로드할 첨부파일
+     * @param request Range / If-None-Match 헤더 확인 및 sendfile 속성 설정용
+     */
+    public static ResponseEntity<?> toResponse(AttachmentResource attachment, HttpServletRequest request) {
+        String eTag = "\"" + attachment.getContentHash() + "\"";
+        long length = attachment.getSize();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(eTag);
+        headers.setCacheControl(CacheControl.noCache().cachePrivate());
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        // 같은 파일 재다운로드 → 본문 없이 304
+        if (matchesETag(request.getHeader(HttpHeaders.IF_NONE_MATCH), eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+        }
+
+        headers.setContentType(MediaType.parseMediaType(attachment.getContentType()));
+        headers.setContentDisposition(ContentDisposition.attachment()
+                .filename(attachment.getFilename(), StandardCharsets.UTF_8)
+                .build());
+
+        List<HttpRange> ranges;
+        try {
+            ranges = HttpRange.parseRanges(request.getHeader(HttpHeaders.RANGE));
+        } catch (IllegalArgumentException e) {
+            headers.set(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE).headers(headers).build();
+        }
+
+        // If-Range 가 현재 ETag 와 다르면 전체 파일 전송
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(eTag)) {
+            ranges = List.of();
+        }
+
+        long start = 0;
+        long end = length - 1;
+        HttpStatus status = HttpStatus.OK;
+
+        if (ranges.size() == 1) {
+            try {
+                start = ranges.get(0).getRangeStart(length);
+                end = ranges.get(0).getRangeEnd(length);
+            } catch (IllegalArgumentException e) {
+                headers.set(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE).headers(headers).build();
+            }
+            status = HttpStatus.PARTIAL_CONTENT;
+            headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        } else if (ranges.size() > 1) {
+            // 다중 구간(multipart/byteranges)은 Spring 의 Resource Range 처리에 위임
+            return ResponseEntity.ok().headers(headers).body(attachment.getResource());
+        }
+
+        headers.setContentLength(end - start + 1);
+
+        if (prepareSendfile(attachment.getResource(), request, start, end)) {
+            // 본문은 컨테이너가 sendfile 로 전송
+            return ResponseEntity.status(status).headers(headers).build();
+        }
+
+        if (status == HttpStatus.PARTIAL_CONTENT) {
+            return ResponseEntity.status(status).headers(headers)
+                    .body(new ResourceRegion(attachment.getResource(), start, end - start + 1));
+        }
+        return ResponseEntity.ok().headers(headers).body(attachment.getResource());
+    }
+
+    private static boolean matchesETag(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tomcat sendfile 사용 가능 시 요청 속성 설정 (응답 커밋 전에 설정해야 함)
+     * @return sendfile 로 전송하게 되면 true
+     */
+    private static boolean prepareSendfile(Resource resource, HttpServletRequest request, long start, long end) {
+        if (!Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))
+                || "HEAD".equals(request.getMethod())
+                || !resource.isFile()) {
+            return false;
+        }
+        try {
+            File file = resource.getFile();
+            request.setAttribute(SENDFILE_FILENAME_ATTR, file.getCanonicalPath());
+            request.setAttribute(SENDFILE_FILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_FILE_END_ATTR, end + 1); // 끝 위치는 exclusive
+            return true;
+        } catch (IOException | IllegalArgumentException e) {
+            request.removeAttribute(SENDFILE_FILENAME_ATTR);
+            return false;
+        }
+    }
+}
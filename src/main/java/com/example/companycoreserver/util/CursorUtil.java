@@ -0,0 +1,68 @@
+package com.example.companycoreserver.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 커서(keyset) 페이지네이션 토큰 유틸리티 클래스
+ * (정렬 키, ID) 쌍을 URL-safe Base64 문자열로 인코딩/디코딩
+ */
+public class CursorUtil {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * 정렬 키와 ID를 커서 토큰으로 인코딩
+     * @param sortKey 정렬 키 (LocalDateTime, LocalDate 등 toString 으로 복원 가능한 값)
+     * @param id 동일 정렬 키 내 순서를 보장하는 ID
+     * @return 커서 토큰
+     */
+    public static String encode(Object sortKey, Number id) {
+        if (sortKey == null || id == null) return null;
+        String raw = sortKey + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 토큰 디코딩
+     * @param cursor 커서 토큰 (null/빈 문자열이면 첫 페이지)
+     * @return 디코딩된 커서, 첫 페이지면 null
+     */
+    public static Cursor decode(String cursor) {
+        if (cursor == null || cursor.trim().isEmpty()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(SEPARATOR);
+            return new Cursor(raw.substring(0, idx), Long.parseLong(raw.substring(idx + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서 값입니다: " + cursor);
+        }
+    }
+
+    /**
+     * 디코딩된 커서 값
+     */
+    public static class Cursor {
+        private final String sortKey;
+        private final Long id;
+
+        public Cursor(String sortKey, Long id) {
+            this.sortKey = sortKey;
+            this.id = id;
+        }
+
+        public String getSortKey() { return sortKey; }
+        public Long getId() { return id; }
+
+        public LocalDateTime getSortKeyAsDateTime() {
+            return LocalDateTime.parse(sortKey);
+        }
+
+        public LocalDate getSortKeyAsDate() {
+            return LocalDate.parse(sortKey);
+        }
+    }
+}
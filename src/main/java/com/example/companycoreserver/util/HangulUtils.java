@@ -0,0 +1,108 @@
+package com.example.companycoreserver.util;
+
+/**
+ * 한글 초성 처리 유틸
+ * - 완성형 음절(가~힣)은 초성/중성/종성 인덱스로 분해: (code - 0xAC00) = (초성 * 21 + 중성) * 28 + 종성
+ * - 검색 키는 음절 → 초성 자모, 그 외 문자 → 소문자로 바꾼 문자열 ("홍길동" → "ㅎㄱㄷ")
+ */
+public final class HangulUtils {
+
+    private static final char SYLLABLE_BEGIN = 0xAC00;
+    private static final char SYLLABLE_END = 0xD7A3;
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private HangulUtils() {
+    }
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    public static boolean isChoseong(char c) {
+        for (char choseong : CHOSEONG) {
+            if (choseong == c) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 음절이면 초성 자모, 아니면 소문자 문자 그대로
+     */
+    public static char toKeyChar(char c) {
+        if (isSyllable(c)) {
+            return CHOSEONG[(c - SYLLABLE_BEGIN) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)];
+        }
+        return Character.toLowerCase(c);
+    }
+
+    /**
+     * 초성 검색 키 ("홍길동" → "ㅎㄱㄷ", "Kim" → "kim")
+     */
+    public static String toChoseongKey(String text) {
+        StringBuilder key = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                key.append(toKeyChar(c));
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * 이름이 검색어로 시작하는지 (초성 / 입력 중인 마지막 음절 포함)
+     * - 검색어의 초성 자모는 해당 위치 음절의 초성과 비교 ("ㅎㄱ" → "홍길동")
+     * - 마지막 글자가 받침 없는 음절이면 초성+중성만 비교 ("홍기" → "홍길동", 입력 중인 상태)
+     * - 공백은 무시
+     */
+    public static boolean matchesPrefix(String text, String query) {
+        String name = stripWhitespace(text);
+        String q = stripWhitespace(query);
+        if (q.length() > name.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < q.length(); i++) {
+            char n = name.charAt(i);
+            char c = q.charAt(i);
+            if (n == c || Character.toLowerCase(n) == Character.toLowerCase(c)) {
+                continue;
+            }
+            if (isChoseong(c) && isSyllable(n) && toKeyChar(n) == c) {
+                continue;
+            }
+            if (i == q.length() - 1 && isSyllable(c) && isSyllable(n)
+                    && (c - SYLLABLE_BEGIN) % JONGSEONG_COUNT == 0
+                    && (c - SYLLABLE_BEGIN) / JONGSEONG_COUNT == (n - SYLLABLE_BEGIN) / JONGSEONG_COUNT) {
+                continue;
+            }
+            return false;
+        }
+        return true;
+    }
+
+    private static String stripWhitespace(String text) {
+        boolean hasWhitespace = false;
+        for (int i = 0; i < text.length() && !hasWhitespace; i++) {
+            hasWhitespace = Character.isWhitespace(text.charAt(i));
+        }
+        if (!hasWhitespace) {
+            return text;
+        }
+        StringBuilder stripped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            if (!Character.isWhitespace(text.charAt(i))) {
+                stripped.append(text.charAt(i));
+            }
+        }
+        return stripped.toString();
+    }
+}
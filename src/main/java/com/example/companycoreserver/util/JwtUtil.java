@@ -1,7 +1,11 @@
 package com.example.companycoreserver.util;
 
+import com.example.companycoreserver.entity.Enum.Role;
+import com.example.companycoreserver.entity.User;
+import com.example.companycoreserver.security.AuthenticatedUser;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
@@ -14,52 +18,52 @@ public class JwtUtil {
 
     // 256비트 이상의 안전한 키 사용
     private final String SECRET_KEY = "mySecretKeyForJWTTokenGenerationThatIsLongEnoughForHS256Algorithm";
-    private final long JWT_EXPIRATION = 86400000; // 24시간
+
+    // 액세스 토큰 유효 시간 (짧게 두고 리프레시 토큰으로 재발급)
+    @Value("${auth.access-token.ttl-minutes:15}")
+    private long accessTokenTtlMinutes = 15;
+    // 검증된 토큰 캐시 설정 (최대 항목 수 / 최대 유지 시간)
+    private static final int VERIFIED_TOKEN_CACHE_SIZE = 10_000;
+    private static final long VERIFIED_TOKEN_CACHE_TTL = 10 * 60 * 1000L; // 10분
+
+    // 서명 키와 파서는 한 번만 생성해서 재사용
+    private final TokenVerifier tokenVerifier = new TokenVerifier(
+            Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8)),
+            VERIFIED_TOKEN_CACHE_SIZE,
+            VERIFIED_TOKEN_CACHE_TTL);
 
     private Key getSigningKey() {
-        byte[] keyBytes = SECRET_KEY.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return tokenVerifier.getSigningKey();
     }
 
-//    // 기존 generateToken 메서드 (employeeCode만)
-//    public String generateToken(String employeeCode) {
-//        System.out.println("=== JWT 토큰 생성 시작 (employeeCode만) ===");
-//        System.out.println("employeeCode: " + employeeCode);
-//
-//        try {
-//            String token = Jwts.builder()
-//                    .setSubject(employeeCode)
-//                    .setIssuedAt(new Date())
-//                    .setExpiration(new Date(System.currentTimeMillis() + JWT_EXPIRATION))
-//                    .signWith(getSigningKey(), SignatureAlgorithm.HS256)
-//                    .compact();
-//
-//            System.out.println("생성된 토큰: " + token);
-//            return token;
-//        } catch (Exception e) {
-//            System.out.println("토큰 생성 실패: " + e.getMessage());
-//            e.printStackTrace();
-//            return null;
-//        }
-//    }
-
-    // 새로운 generateToken 메서드 (employeeCode + userId)
-    public String generateToken(String employeeCode, Long userId) {
-        System.out.println("=== JWT 토큰 생성 시작 (employeeCode + userId) ===");
-        System.out.println("employeeCode: " + employeeCode);
-        System.out.println("userId: " + userId);
+    // 🆕 권한 확인용 claim(역할/부서/직급)과 토큰 버전을 담은 액세스 토큰 생성 - 요청마다 DB 조회 없이 권한 확인
+    public String generateToken(User user, int tokenVersion) {
+        System.out.println("=== JWT 토큰 생성 시작 (사용자 정보 포함) ===");
+        System.out.println("employeeCode: " + user.getEmployeeCode());
+        System.out.println("userId: " + user.getUserId());
 
         try {
-            String token = Jwts.builder()
-                    .setSubject(employeeCode)
-                    .claim("userId", userId) // userId를 클레임으로 추가
+            JwtBuilder builder = Jwts.builder()
+                    .setSubject(user.getEmployeeCode())
+                    .claim("userId", user.getUserId())
+                    .claim("ver", tokenVersion)
                     .setIssuedAt(new Date())
-                    .setExpiration(new Date(System.currentTimeMillis() + JWT_EXPIRATION))
-                    .signWith(getSigningKey(), SignatureAlgorithm.HS256)
-                    .compact();
+                    .setExpiration(new Date(System.currentTimeMillis() + getAccessTokenTtlMillis()));
+
+            if (user.getRole() != null) {
+                builder.claim("role", user.getRole().name());
+            }
+            if (user.getDepartmentId() != null) {
+                builder.claim("departmentId", user.getDepartmentId());
+            }
+            if (user.getPositionId() != null) {
+                builder.claim("positionId", user.getPositionId());
+            }
+            if (user.getDepartment() != null) {
+                builder.claim("departmentName", user.getDepartment().getDepartmentName());
+            }
 
-            System.out.println("생성된 토큰: " + token);
-            return token;
+            return builder.signWith(getSigningKey(), SignatureAlgorithm.HS256).compact();
         } catch (Exception e) {
             System.out.println("토큰 생성 실패: " + e.getMessage());
             e.printStackTrace();
@@ -67,6 +71,50 @@ public class JwtUtil {
         }
     }
 
+    // 🆕 토큰을 한 번 검증해서 요청 사용자 정보 생성 (검증 실패 시 JwtException 발생)
+    public AuthenticatedUser getAuthenticatedUser(String token) {
+        Claims claims = getAllClaimsFromToken(token);
+
+        Role role = null;
+        Object roleObj = claims.get("role");
+        if (roleObj != null) {
+            try {
+                role = Role.valueOf(roleObj.toString());
+            } catch (IllegalArgumentException e) {
+                System.err.println("알 수 없는 역할 claim: " + roleObj);
+            }
+        }
+
+        Long departmentId = toLong(claims.get("departmentId"));
+        Long positionId = toLong(claims.get("positionId"));
+        Long tokenVersion = toLong(claims.get("ver"));
+
+        return new AuthenticatedUser(
+                toLong(claims.get("userId")),
+                claims.getSubject(),
+                role,
+                departmentId != null ? departmentId.intValue() : null,
+                positionId != null ? positionId.intValue() : null,
+                claims.get("departmentName", String.class),
+                tokenVersion != null ? tokenVersion.intValue() : null
+        );
+    }
+
+    // 액세스 토큰 유효 시간
+    public long getAccessTokenTtlMillis() {
+        return accessTokenTtlMinutes * 60 * 1000L;
+    }
+
+    // 숫자 claim 변환 (JSON 파싱 결과가 Integer/Long/String 중 하나)
+    private Long toLong(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        } else if (value instanceof String) {
+            return Long.parseLong((String) value);
+        }
+        return null;
+    }
+
     // 토큰에서 userId 추출 (추가된 메서드)
     public Long getUserIdFromToken(String token) {
         try {
@@ -122,14 +170,10 @@ public class JwtUtil {
         return claimsResolver.apply(claims);
     }
 
-    // 토큰에서 모든 claims 추출
+    // 토큰에서 모든 claims 추출 (같은 토큰은 캐시된 검증 결과 사용)
     private Claims getAllClaimsFromToken(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return tokenVerifier.verify(token);
         } catch (ExpiredJwtException e) {
             System.err.println("토큰이 만료되었습니다: " + e.getMessage());
             throw e;
@@ -0,0 +1,43 @@
+package com.example.companycoreserver.util;
+
+/**
+ * LIKE 검색 패턴 유틸리티 클래스
+ * 사용자가 입력한 검색어의 와일드카드(%, _)를 이스케이프해서 글자 그대로 검색되도록 함
+ * (쿼리에는 ESCAPE '!' 를 함께 지정해야 함)
+ */
+public class LikePatternUtil {
+
+    /**
+     * LIKE ... ESCAPE 에 지정할 이스케이프 문자
+     * (MySQL 은 문자열 리터럴 안의 백슬래시도 이스케이프로 해석하므로 '!' 사용)
+     */
+    public static final char ESCAPE_CHAR = '!';
+
+    /**
+     * 검색어의 %, _, ! 를 이스케이프
+     * @param keyword 검색어
+     * @return 이스케이프된 검색어 (null 이면 null)
+     */
+    public static String escape(String keyword) {
+        if (keyword == null) return null;
+        StringBuilder sb = new StringBuilder(keyword.length() + 8);
+        for (int i = 0; i < keyword.length(); i++) {
+            char c = keyword.charAt(i);
+            if (c == '%' || c == '_' || c == ESCAPE_CHAR) {
+                sb.append(ESCAPE_CHAR);
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * "포함" 검색 패턴 (%검색어%)
+     * @param keyword 검색어
+     * @return LIKE 패턴 (null 이면 null)
+     */
+    public static String contains(String keyword) {
+        if (keyword == null) return null;
+        return "%" + escape(keyword) + "%";
+    }
+}
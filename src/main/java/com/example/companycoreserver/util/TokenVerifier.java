@@ -0,0 +1,173 @@
+package com.example.companycoreserver.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * JWT 서명 검증 전용 컴포넌트
+ * - 서명 키와 파서는 생성 시 한 번만 만들어 재사용 (불변, 스레드 안전)
+ * - 검증에 성공한 토큰의 claims 를 토큰 다이제스트(SHA-256) 기준으로 만료 시각까지 캐시
+ *   → 같은 토큰은 노드당 한 번만 서명 검증 / JSON 파싱
+ * - 검증 실패(만료, 서명 오류 등)는 캐시하지 않고 예외를 그대로 던짐
+ * - 캐시가 가득 차면 요청 스레드는 새 항목을 캐시하지 않고, 정리는 백그라운드에서 한 번만 실행
+ *   (만료 항목 제거 → 그래도 많으면 만료가 가까운 항목부터 제거)
+ */
+public class TokenVerifier {
+
+    private final Key signingKey;
+    private final JwtParser parser;
+    private final int maxEntries;
+    private final long maxTtlMillis;
+    private final Executor sweepExecutor;
+    // 정리 작업이 이미 예약/실행 중인지 (가득 찬 동안 요청마다 정리 작업을 만들지 않도록)
+    private final AtomicBoolean sweepScheduled = new AtomicBoolean();
+
+    // 토큰 다이제스트 -> 검증된 claims
+    private final Map<String, VerifiedClaims> cache = new ConcurrentHashMap<>();
+
+    private record VerifiedClaims(Claims claims, long expiresAt) {
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+
+    /**
+     * @param signingKey   HMAC 서명 키
+     * @param maxEntries   캐시 최대 항목 수 (0 이하면 캐시 사용 안 함)
+     * @param maxTtlMillis 토큰 만료 시각과 별개로 캐시에 머무를 수 있는 최대 시간
+     */
+    public TokenVerifier(Key signingKey, int maxEntries, long maxTtlMillis) {
+        this(signingKey, maxEntries, maxTtlMillis, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param sweepExecutor 캐시가 가득 찼을 때 정리 작업을 실행할 executor
+     */
+    public TokenVerifier(Key signingKey, int maxEntries, long maxTtlMillis, Executor sweepExecutor) {
+        this.signingKey = signingKey;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        this.maxEntries = maxEntries;
+        this.maxTtlMillis = maxTtlMillis;
+        this.sweepExecutor = sweepExecutor;
+    }
+
+    public Key getSigningKey() {
+        return signingKey;
+    }
+
+    /**
+     * 토큰을 검증하고 claims 반환 (캐시에 있으면 재검증하지 않음)
+     */
+    public Claims verify(String token) {
+        if (maxEntries <= 0 || token == null) {
+            return parse(token);
+        }
+
+        String digest = digest(token);
+        long now = System.currentTimeMillis();
+
+        VerifiedClaims cached = cache.get(digest);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return cached.claims();
+            }
+            cache.remove(digest, cached);
+        }
+
+        Claims claims = parse(token);
+
+        long expiresAt = now + maxTtlMillis;
+        Date expiration = claims.getExpiration();
+        if (expiration != null) {
+            expiresAt = Math.min(expiresAt, expiration.getTime());
+        }
+        if (expiresAt > now) {
+            if (cache.size() < maxEntries) {
+                cache.put(digest, new VerifiedClaims(claims, expiresAt));
+            } else {
+                requestSweep();
+            }
+        }
+        return claims;
+    }
+
+    /**
+     * 캐시 없이 서명 검증 + 파싱
+     */
+    public Claims parse(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * 특정 토큰을 캐시에서 제거 (로그아웃 등)
+     */
+    public void invalidate(String token) {
+        if (token != null) {
+            cache.remove(digest(token));
+        }
+    }
+
+    public int cachedCount() {
+        return cache.size();
+    }
+
+    private void requestSweep() {
+        if (!sweepScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sweepExecutor.execute(this::sweep);
+        } catch (RejectedExecutionException e) {
+            sweepScheduled.set(false);
+        }
+    }
+
+    // 만료된 항목을 정리하고, 그래도 3/4 이상 차 있으면 만료가 가까운 항목부터 제거
+    private void sweep() {
+        try {
+            long now = System.currentTimeMillis();
+            cache.values().removeIf(entry -> entry.isExpired(now));
+
+            int target = maxEntries - maxEntries / 4;
+            int excess = cache.size() - target;
+            if (excess > 0) {
+                cache.entrySet().stream()
+                        .sorted(Comparator.comparingLong(entry -> entry.getValue().expiresAt()))
+                        .limit(excess)
+                        .map(Map.Entry::getKey)
+                        .toList()
+                        .forEach(cache::remove);
+            }
+        } finally {
+            sweepScheduled.set(false);
+        }
+    }
+
+    // 토큰 원문 대신 다이제스트를 키로 사용 (메모리에 토큰 원문을 들고 있지 않도록)
+    private static String digest(String token) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] hash = md.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.companycoreserver.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ClientIpResolver - 신뢰 프록시를 거친 요청만 X-Forwarded-For 사용
+ */
+class ClientIpResolverTest {
+
+    private final ClientIpResolver resolver = new ClientIpResolver(List.of("10.0.0.1", "10.0.0.2"));
+
+    @Test
+    void directRequestIgnoresForwardedHeader() {
+        assertEquals("198.51.100.7", resolver.resolve(request("198.51.100.7", "1.2.3.4")));
+    }
+
+    @Test
+    void trustedProxyUsesNearestUntrustedHop() {
+        // 클라이언트가 넣은 가짜 값(1.2.3.4)은 건너뛰고 프록시가 붙인 실제 주소 사용
+        assertEquals("203.0.113.10", resolver.resolve(request("10.0.0.1", "1.2.3.4, 203.0.113.10, 10.0.0.2")));
+    }
+
+    @Test
+    void trustedProxyWithoutHeaderFallsBackToRemoteAddr() {
+        assertEquals("10.0.0.1", resolver.resolve(request("10.0.0.1", null)));
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.companycoreserver.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LoginRateLimiter - 직원코드 버킷은 시도마다, IP 버킷은 실패만 차감
+ * (IP 용량 3, 충전 1시간 → 테스트 중에는 충전되지 않음)
+ */
+class LoginRateLimiterTest {
+
+    private static final String OFFICE_IP = "203.0.113.10";
+
+    private final LoginRateLimiter limiter = new LoginRateLimiter(2, 3600, 3, 3600, 10);
+
+    @Test
+    void successfulLoginsFromSharedIpAreNotLimited() {
+        for (int i = 0; i < 100; i++) {
+            String employeeCode = "E" + i;
+            assertTrue(limiter.tryAcquire(employeeCode, OFFICE_IP).allowed(), "직원 " + i);
+            limiter.onSuccess(employeeCode);
+        }
+    }
+
+    @Test
+    void failedAttemptsUseUpIpQuota() {
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limiter.tryAcquire("E" + i, OFFICE_IP).allowed());
+            limiter.onFailure(OFFICE_IP);
+        }
+
+        LoginRateLimiter.Decision decision = limiter.tryAcquire("E9", OFFICE_IP);
+        assertFalse(decision.allowed());
+        assertTrue(decision.retryAfterSeconds() > 0);
+        assertTrue(limiter.tryAcquire("E9", "198.51.100.7").allowed(), "다른 IP 는 영향 없음");
+    }
+
+    @Test
+    void accountBucketIsChargedPerAttemptAndResetOnSuccess() {
+        assertTrue(limiter.tryAcquire("E1", OFFICE_IP).allowed());
+        assertTrue(limiter.tryAcquire("E1", OFFICE_IP).allowed());
+        assertFalse(limiter.tryAcquire("E1", OFFICE_IP).allowed());
+
+        limiter.onSuccess("E1");
+        assertTrue(limiter.tryAcquire("E1", OFFICE_IP).allowed());
+    }
+}
@@ -0,0 +1,324 @@
+package com.example.companycoreserver.service;
+
+import com.example.companycoreserver.repository.AttachmentBlobRepository;
+import com.example.companycoreserver.storage.LocalFileAttachmentStore;
+import com.example.companycoreserver.storage.StoredAttachment;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * AttachmentService 참조 카운트 / 동시성 테스트
+ * - 저장소는 임시 디렉터리의 실제 LocalFileAttachmentStore 사용
+ * - attachment_blobs 는 메모리 맵으로 흉내내고, 행 잠금은 트랜잭션이 끝날 때까지 유지 (InnoDB 와 같은 방식)
+ */
+class AttachmentServiceTest {
+
+    @TempDir
+    Path root;
+
+    private final Map<String, Integer> refCounts = new ConcurrentHashMap<>();
+    private final Map<String, ReentrantLock> rowLocks = new ConcurrentHashMap<>();
+
+    private RowLockingTransactionManager transactionManager;
+    private TransactionTemplate transaction;
+    private LocalFileAttachmentStore attachmentStore;
+    private AttachmentService attachmentService;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = new RowLockingTransactionManager();
+        transaction = new TransactionTemplate(transactionManager);
+        attachmentStore = new LocalFileAttachmentStore(root.toString());
+        attachmentService = new AttachmentService(attachmentStore, fakeBlobRepository(), transactionManager);
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void releaseToZeroDeletesFileAndRow() {
+        String key = inTransaction(() -> attachmentService.store(content("회의록"))).getStorageKey();
+        inTransaction(() -> attachmentService.store(content("회의록")));
+        assertEquals(2, refCounts.get(key));
+
+        inTransaction(() -> { attachmentService.release(key); return null; });
+        assertEquals(1, refCounts.get(key));
+        assertTrue(attachmentStore.exists(key));
+
+        inTransaction(() -> { attachmentService.release(key); return null; });
+        assertFalse(refCounts.containsKey(key));
+        assertFalse(attachmentStore.exists(key));
+    }
+
+    @Test
+    void rollbackRemovesFileCreatedByTheTransaction() {
+        String key = transaction.execute(status -> {
+            StoredAttachment stored = attachmentService.storeBase64(base64("새 파일"));
+            status.setRollbackOnly();
+            return stored.getStorageKey();
+        });
+
+        assertFalse(refCounts.containsKey(key));
+        assertFalse(attachmentStore.exists(key));
+    }
+
+    @Test
+    void rollbackKeepsDeduplicatedFile() {
+        String key = inTransaction(() -> attachmentService.store(content("공유 파일"))).getStorageKey();
+
+        transaction.executeWithoutResult(status -> {
+            attachmentService.storeBase64(base64("공유 파일"));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(1, refCounts.get(key));
+        assertTrue(attachmentStore.exists(key));
+    }
+
+    @Test
+    void malformedBase64IsRequestErrorAndLeavesNoFiles() throws IOException {
+        assertThrows(IllegalArgumentException.class,
+                () -> inTransaction(() -> attachmentService.storeBase64("이건 Base64 가 아님")));
+
+        assertTrue(refCounts.isEmpty());
+        assertEquals(0, countFiles());
+    }
+
+    @Test
+    void concurrentReleaseAndUploadOfSameContentKeepReferencedFile() throws Exception {
+        String key = inTransaction(() -> attachmentService.store(content("동시 업로드"))).getStorageKey();
+
+        for (int i = 0; i < 200; i++) {
+            CyclicBarrier start = new CyclicBarrier(2);
+            Future<?> release = executor.submit(() -> {
+                await(start);
+                inTransaction(() -> { attachmentService.release(key); return null; });
+            });
+            Future<?> upload = executor.submit(() -> {
+                await(start);
+                inTransaction(() -> attachmentService.store(content("동시 업로드")));
+            });
+            release.get(10, TimeUnit.SECONDS);
+            upload.get(10, TimeUnit.SECONDS);
+
+            assertEquals(1, refCounts.get(key), "반복 " + i);
+            assertTrue(attachmentStore.exists(key), "참조 중인 파일이 삭제됨 (반복 " + i + ")");
+        }
+        assertEquals(1, countFiles(), "임시 파일이 남아 있음");
+    }
+
+    // ===== 헬퍼 =====
+
+    private <T> T inTransaction(Supplier<T> work) {
+        return transaction.execute(status -> work.get());
+    }
+
+    private static ByteArrayInputStream content(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String base64(String text) {
+        return Base64.getEncoder().encodeToString(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long countFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(root)) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+
+    /**
+     * attachment_blobs 흉내 (쓰기/잠금 읽기는 행 잠금을 잡고, 롤백 시 되돌림)
+     */
+    private AttachmentBlobRepository fakeBlobRepository() {
+        AttachmentBlobRepository repository = mock(AttachmentBlobRepository.class);
+
+        when(repository.acquire(anyString(), anyLong())).thenAnswer(invocation -> {
+            String key = invocation.getArgument(0);
+            lockRow(key);
+            Integer count = refCounts.get(key);
+            write(key, count == null ? 1 : count + 1);
+            return 1;
+        });
+        when(repository.release(anyString())).thenAnswer(invocation -> {
+            String key = invocation.getArgument(0);
+            lockRow(key);
+            Integer count = refCounts.get(key);
+            if (count == null || count == 0) {
+                return 0;
+            }
+            write(key, count - 1);
+            return 1;
+        });
+        when(repository.lockForCleanup(anyString())).thenAnswer(invocation -> {
+            String key = invocation.getArgument(0);
+            lockRow(key);
+            if (!refCounts.containsKey(key)) {
+                write(key, 0);
+            }
+            return 1;
+        });
+        when(repository.findRefCountForUpdate(anyString())).thenAnswer(invocation -> {
+            String key = invocation.getArgument(0);
+            lockRow(key);
+            return refCounts.get(key);
+        });
+        when(repository.deleteIfUnreferenced(anyString())).thenAnswer(invocation -> {
+            String key = invocation.getArgument(0);
+            lockRow(key);
+            if (!Integer.valueOf(0).equals(refCounts.get(key))) {
+                return 0;
+            }
+            write(key, null);
+            return 1;
+        });
+        return repository;
+    }
+
+    private void lockRow(String key) {
+        TransactionState state = transactionManager.currentState();
+        assertNotNull(state, "트랜잭션 밖에서 attachment_blobs 접근");
+        ReentrantLock lock = rowLocks.computeIfAbsent(key, k -> new ReentrantLock());
+        if (!lock.isHeldByCurrentThread()) {
+            lock.lock();
+            state.locks.add(lock);
+        }
+    }
+
+    private void write(String key, Integer count) {
+        Integer previous = refCounts.get(key);
+        transactionManager.currentState().undo.push(() -> restore(key, previous));
+        restore(key, count);
+    }
+
+    private void restore(String key, Integer count) {
+        if (count == null) {
+            refCounts.remove(key);
+        } else {
+            refCounts.put(key, count);
+        }
+    }
+
+    private static class TransactionState {
+        private final List<ReentrantLock> locks = new ArrayList<>();
+        private final Deque<Runnable> undo = new ArrayDeque<>();
+
+        void complete(boolean rollback) {
+            if (rollback) {
+                undo.forEach(Runnable::run);
+            }
+            undo.clear();
+            locks.forEach(ReentrantLock::unlock);
+            locks.clear();
+        }
+    }
+
+    private static class TransactionHolder {
+        private TransactionState state;
+
+        TransactionHolder(TransactionState state) {
+            this.state = state;
+        }
+    }
+
+    /**
+     * 커밋/롤백 시점에 행 잠금을 푸는 트랜잭션 매니저 (REQUIRES_NEW 지원)
+     */
+    private static class RowLockingTransactionManager extends AbstractPlatformTransactionManager {
+        private final ThreadLocal<TransactionState> current = new ThreadLocal<>();
+
+        TransactionState currentState() {
+            return current.get();
+        }
+
+        @Override
+        protected Object doGetTransaction() {
+            return new TransactionHolder(current.get());
+        }
+
+        @Override
+        protected boolean isExistingTransaction(Object transaction) {
+            return ((TransactionHolder) transaction).state != null;
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            TransactionHolder holder = (TransactionHolder) transaction;
+            holder.state = new TransactionState();
+            current.set(holder.state);
+        }
+
+        @Override
+        protected Object doSuspend(Object transaction) {
+            ((TransactionHolder) transaction).state = null;
+            TransactionState suspended = current.get();
+            current.remove();
+            return suspended;
+        }
+
+        @Override
+        protected void doResume(Object transaction, Object suspendedResources) {
+            current.set((TransactionState) suspendedResources);
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            ((TransactionHolder) status.getTransaction()).state.complete(false);
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            ((TransactionHolder) status.getTransaction()).state.complete(true);
+        }
+
+        @Override
+        protected void doCleanupAfterCompletion(Object transaction) {
+            current.remove();
+        }
+    }
+}
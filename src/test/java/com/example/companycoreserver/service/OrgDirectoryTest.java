@@ -0,0 +1,92 @@
+package com.example.companycoreserver.service;
+
+import com.example.companycoreserver.dto.UserCard;
+import com.example.companycoreserver.repository.DepartmentRepository;
+import com.example.companycoreserver.repository.PositionRepository;
+import com.example.companycoreserver.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * OrgDirectory 변경분 반영 / 재적재 병합 / 없는 ID 기억 (저장소는 mock, 트랜잭션 밖이라 변경은 바로 반영)
+ */
+class OrgDirectoryTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final OrgDirectory directory = new OrgDirectory(userRepository,
+            mock(DepartmentRepository.class), mock(PositionRepository.class));
+
+    @Test
+    void reloadStartedBeforeRefreshDoesNotOverwriteNewerCard() {
+        UserCard before = card(1L, "김철수");
+        UserCard after = card(1L, "박철수");
+        when(userRepository.findUserCard(1L)).thenReturn(Optional.of(after));
+        when(userRepository.findAllUserCards())
+                .thenReturn(List.of(before))
+                .thenAnswer(invocation -> {
+                    // 재적재가 DB 를 읽는 동안 다른 요청이 이름을 바꾸고 커밋
+                    directory.refreshUser(1L);
+                    return List.of(before);
+                });
+
+        directory.reload();
+        directory.reload();
+
+        assertEquals("박철수", directory.getUser(1L).username());
+    }
+
+    @Test
+    void reloadRemovesUsersDeletedDirectlyInDb() {
+        when(userRepository.findAllUserCards())
+                .thenReturn(List.of(card(1L, "김철수"), card(2L, "이영희")))
+                .thenReturn(List.of(card(1L, "김철수")));
+        when(userRepository.findUserCard(2L)).thenReturn(Optional.empty());
+
+        directory.reload();
+        directory.reload();
+
+        assertNull(directory.getUser(2L));
+        assertEquals(1, directory.getUsers(List.of(1L, 2L)).size());
+    }
+
+    @Test
+    void unknownIdIsLookedUpOnceUntilUserIsAdded() {
+        when(userRepository.findAllUserCards()).thenReturn(List.of(card(1L, "김철수")));
+        when(userRepository.findUserCard(99L)).thenReturn(Optional.empty());
+
+        assertNull(directory.getUser(99L));
+        assertNull(directory.getUser(99L));
+        verify(userRepository, times(1)).findUserCard(99L);
+
+        // 사용자 생성 반영 후에는 조회됨
+        when(userRepository.findUserCard(99L)).thenReturn(Optional.of(card(99L, "신입")));
+        directory.refreshUser(99L);
+        assertEquals("신입", directory.getUser(99L).username());
+    }
+
+    @Test
+    void singleUserChangeNotifiesOnlyThatUser() {
+        when(userRepository.findAllUserCards()).thenReturn(List.of(card(1L, "김철수"), card(2L, "이영희")));
+        when(userRepository.findUserCard(1L)).thenReturn(Optional.of(card(1L, "박철수")));
+        List<String> changes = new ArrayList<>();
+
+        directory.addUserListener((previous, current) -> changes.add(
+                (previous != null ? previous.username() : "-") + "→" + (current != null ? current.username() : "-")));
+        assertEquals(2, changes.size(), "등록 시 기존 사용자 전체");
+
+        directory.refreshUser(1L);
+        directory.removeUser(2L);
+
+        assertEquals(List.of("김철수→박철수", "이영희→-"), changes.subList(2, changes.size()));
+    }
+
+    private static UserCard card(Long userId, String username) {
+        return new UserCard(userId, username, "E" + userId, 1, "개발팀", 1, "사원", true);
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.companycoreserver.service;
+
+import com.example.companycoreserver.entity.Enum.AssignmentRole;
+import com.example.companycoreserver.entity.Enum.AssignmentStatus;
+import com.example.companycoreserver.entity.Enum.TaskStatus;
+import com.example.companycoreserver.entity.Task;
+import com.example.companycoreserver.entity.TaskAssignment;
+import com.example.companycoreserver.repository.TaskAssignmentRepository;
+import com.example.companycoreserver.repository.TaskRepository;
+import com.example.companycoreserver.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * TaskService 대시보드 캐시 / 무효화, 일괄 할당, 할당 상태 일괄 변경
+ * (저장소는 mock, 트랜잭션 매니저는 호출 횟수만 확인)
+ */
+class TaskServiceTest {
+
+    private static final long CREATOR_ID = 1L;
+    private static final long ASSIGNEE_ID = 7L;
+    private static final long OTHER_USER_ID = 9L;
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final TaskAssignmentRepository taskAssignmentRepository = mock(TaskAssignmentRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserBatchResolver userBatchResolver = mock(UserBatchResolver.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    private TaskService taskService;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        taskService = new TaskService(taskRepository, taskAssignmentRepository, userRepository,
+                userBatchResolver, transactionManager, 60);
+    }
+
+    @Test
+    void dashboardIsComputedInOneTransactionAndCached() {
+        taskService.getDashboardData(ASSIGNEE_ID);
+        taskService.getDashboardData(ASSIGNEE_ID);
+
+        verify(taskRepository, times(1)).countUserTasksGroupByStatus(ASSIGNEE_ID);
+        verify(taskRepository, times(1)).findUserOverdueTasks(eq(ASSIGNEE_ID), any());
+        verify(transactionManager, times(1)).getTransaction(any());
+    }
+
+    @Test
+    void taskChangeEvictsDashboardsOfRelatedUsersOnly() {
+        Task task = task(100L);
+        when(taskRepository.findById(100L)).thenReturn(Optional.of(task));
+        when(taskAssignmentRepository.findUserIdsByTaskId(100L)).thenReturn(List.of(ASSIGNEE_ID));
+
+        taskService.getDashboardData(ASSIGNEE_ID);
+        taskService.getDashboardData(OTHER_USER_ID);
+
+        taskService.deleteTask(100L, CREATOR_ID);
+
+        taskService.getDashboardData(ASSIGNEE_ID);
+        taskService.getDashboardData(OTHER_USER_ID);
+        verify(taskRepository, times(2)).countUserTasksGroupByStatus(ASSIGNEE_ID);
+        verify(taskRepository, times(1)).countUserTasksGroupByStatus(OTHER_USER_ID);
+    }
+
+    @Test
+    void dashboardComputedDuringEvictionIsNotCached() {
+        Task task = task(100L);
+        when(taskRepository.findById(100L)).thenReturn(Optional.of(task));
+        when(taskAssignmentRepository.findUserIdsByTaskId(100L)).thenReturn(List.of(ASSIGNEE_ID));
+        // 대시보드 계산 도중 다른 요청이 작업을 삭제 (계산 결과는 이미 오래된 값)
+        when(taskRepository.countUserTasksGroupByStatus(ASSIGNEE_ID)).thenAnswer(invocation -> {
+            taskService.deleteTask(100L, CREATOR_ID);
+            return List.of();
+        }).thenReturn(List.of());
+
+        taskService.getDashboardData(ASSIGNEE_ID);
+        taskService.getDashboardData(ASSIGNEE_ID);
+
+        verify(taskRepository, times(2)).countUserTasksGroupByStatus(ASSIGNEE_ID);
+    }
+
+    @Test
+    void evictionOfOtherUserDuringComputeStillCaches() {
+        Task task = task(100L);
+        when(taskRepository.findById(100L)).thenReturn(Optional.of(task));
+        when(taskAssignmentRepository.findUserIdsByTaskId(100L)).thenReturn(List.of(ASSIGNEE_ID));
+        // 다른 사용자의 대시보드 계산 도중 ASSIGNEE 관련 작업 삭제 - OTHER_USER 결과는 그대로 캐시되어야 함
+        when(taskRepository.countUserTasksGroupByStatus(OTHER_USER_ID)).thenAnswer(invocation -> {
+            taskService.deleteTask(100L, CREATOR_ID);
+            return List.of();
+        }).thenReturn(List.of());
+
+        taskService.getDashboardData(OTHER_USER_ID);
+        taskService.getDashboardData(OTHER_USER_ID);
+
+        verify(taskRepository, times(1)).countUserTasksGroupByStatus(OTHER_USER_ID);
+    }
+
+    @Test
+    void cachedDashboardListsAreUnmodifiable() {
+        TaskService.DashboardDto dashboard = taskService.getDashboardData(ASSIGNEE_ID);
+
+        assertThrows(UnsupportedOperationException.class, () -> dashboard.getRecentTasks().clear());
+        assertThrows(UnsupportedOperationException.class, () -> dashboard.getTodayDeadlines().clear());
+        assertThrows(UnsupportedOperationException.class, () -> dashboard.getOverdueTasks().clear());
+        assertSame(dashboard, taskService.getDashboardData(ASSIGNEE_ID));
+    }
+
+    @Test
+    void expiredDashboardIsRecomputed() {
+        TaskService shortLived = new TaskService(taskRepository, taskAssignmentRepository, userRepository,
+                userBatchResolver, transactionManager, 0);
+
+        shortLived.getDashboardData(ASSIGNEE_ID);
+        shortLived.sweepExpiredDashboards();
+        shortLived.getDashboardData(ASSIGNEE_ID);
+
+        verify(taskRepository, times(2)).countUserTasksGroupByStatus(ASSIGNEE_ID);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void bulkAssignmentSkipsActiveAndDuplicateUsers() {
+        when(taskRepository.findById(100L)).thenReturn(Optional.of(task(100L)));
+        List<Set<Long>> checkedIds = new ArrayList<>();
+        when(userRepository.findExistingUserIds(any())).thenAnswer(invocation -> {
+            checkedIds.add(Set.copyOf(invocation.<Collection<Long>>getArgument(0)));
+            return List.of(2L, 3L, 4L);
+        });
+        when(taskAssignmentRepository.findUserIdsByTaskIdAndUserIdInAndStatus(eq(100L), any(), eq(AssignmentStatus.ACTIVE)))
+                .thenReturn(List.of(3L));
+
+        taskService.assignUsersToTask(100L, List.of(2L, 3L, 2L, 4L), null, CREATOR_ID);
+
+        ArgumentCaptor<List<TaskAssignment>> saved = ArgumentCaptor.forClass(List.class);
+        verify(taskAssignmentRepository).saveAll(saved.capture());
+        assertEquals(List.of(2L, 4L), saved.getValue().stream().map(TaskAssignment::getUserId).toList());
+        assertTrue(saved.getValue().stream().allMatch(assignment -> assignment.getRole() == AssignmentRole.ASSIGNEE));
+        // 존재 확인은 중복을 뺀 ID 로 IN 쿼리 1회
+        assertEquals(List.of(Set.of(2L, 3L, 4L)), checkedIds);
+    }
+
+    @Test
+    void bulkAssignmentRejectsUnknownUserBeforeSaving() {
+        when(taskRepository.findById(100L)).thenReturn(Optional.of(task(100L)));
+        when(userRepository.findExistingUserIds(any())).thenReturn(List.of(2L));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.assignUsersToTask(100L, List.of(2L, 5L), AssignmentRole.REVIEWER, CREATOR_ID));
+        verify(taskAssignmentRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void bulkAssignmentRequiresTaskPermission() {
+        when(taskRepository.findById(100L)).thenReturn(Optional.of(task(100L)));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.assignUsersToTask(100L, List.of(2L), null, OTHER_USER_ID));
+        verify(taskAssignmentRepository).existsByTaskIdAndUserIdAndStatus(100L, OTHER_USER_ID, AssignmentStatus.ACTIVE);
+        verify(userRepository, never()).findExistingUserIds(any());
+        verify(taskAssignmentRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void doneStatusCompletesActiveAssignmentsWithOneUpdate() {
+        when(taskRepository.findById(100L)).thenReturn(Optional.of(task(100L)));
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        taskService.updateTaskStatus(100L, TaskStatus.DONE, CREATOR_ID);
+
+        verify(taskAssignmentRepository).updateStatusByTaskId(eq(100L), eq(AssignmentStatus.ACTIVE),
+                eq(AssignmentStatus.COMPLETED), notNull(), notNull());
+        verify(taskAssignmentRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void cancelledStatusCancelsActiveAssignmentsWithoutCompletedAt() {
+        when(taskRepository.findById(100L)).thenReturn(Optional.of(task(100L)));
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        taskService.updateTaskStatus(100L, TaskStatus.CANCELLED, CREATOR_ID);
+
+        verify(taskAssignmentRepository).updateStatusByTaskId(eq(100L), eq(AssignmentStatus.ACTIVE),
+                eq(AssignmentStatus.CANCELED), isNull(), notNull());
+    }
+
+    // ===== 헬퍼 =====
+
+    private static Task task(Long taskId) {
+        Task task = new Task();
+        task.setTaskId(taskId);
+        task.setCreatedBy(CREATOR_ID);
+        task.setAssignedBy(CREATOR_ID);
+        task.setStatus(TaskStatus.TODO);
+        return task;
+    }
+}
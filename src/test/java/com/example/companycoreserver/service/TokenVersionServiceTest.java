@@ -0,0 +1,85 @@
+package com.example.companycoreserver.service;
+
+import com.example.companycoreserver.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 토큰 버전 폐기 / 서버 간 캐시 재조회 테스트
+ * - users.token_version 은 AtomicInteger 로 흉내 (여러 서버가 같은 DB 를 보는 상황)
+ */
+class TokenVersionServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    private final AtomicInteger storedVersion = new AtomicInteger();
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    TokenVersionServiceTest() {
+        when(userRepository.findTokenVersion(USER_ID)).thenAnswer(invocation -> Optional.of(storedVersion.get()));
+        when(userRepository.incrementTokenVersion(USER_ID)).thenAnswer(invocation -> {
+            storedVersion.incrementAndGet();
+            return 1;
+        });
+    }
+
+    @Test
+    void bumpRevokesPreviouslyIssuedTokens() {
+        TokenVersionService service = new TokenVersionService(userRepository, 30);
+        assertTrue(service.isCurrent(USER_ID, 0));
+
+        int newVersion = service.bump(USER_ID);
+
+        assertEquals(1, newVersion);
+        assertFalse(service.isCurrent(USER_ID, 0));
+        assertTrue(service.isCurrent(USER_ID, 1));
+    }
+
+    @Test
+    void tokenWithoutVersionClaimIsTreatedAsVersionZero() {
+        TokenVersionService service = new TokenVersionService(userRepository, 30);
+
+        assertTrue(service.isCurrent(USER_ID, null));
+        service.bump(USER_ID);
+        assertFalse(service.isCurrent(USER_ID, null));
+    }
+
+    @Test
+    void tokenIssuedAfterBumpOnAnotherNodeIsAcceptedBeforeCacheExpires() {
+        TokenVersionService nodeA = new TokenVersionService(userRepository, 30);
+        TokenVersionService nodeB = new TokenVersionService(userRepository, 30);
+        assertTrue(nodeB.isCurrent(USER_ID, 0)); // 노드 B 캐시에 버전 0
+
+        // 노드 A 에서 재로그인 → 버전 1 토큰 발급
+        int newVersion = nodeA.bump(USER_ID);
+
+        // 노드 B 는 캐시(0)보다 새 토큰이므로 DB 를 다시 읽어 인정하고, 이전 토큰은 거절
+        assertTrue(nodeB.isCurrent(USER_ID, newVersion));
+        assertFalse(nodeB.isCurrent(USER_ID, 0));
+    }
+
+    @Test
+    void staleTokenDoesNotTriggerReload() {
+        TokenVersionService service = new TokenVersionService(userRepository, 30);
+        service.bump(USER_ID);
+        clearInvocations(userRepository);
+
+        assertFalse(service.isCurrent(USER_ID, 0));
+        assertFalse(service.isCurrent(USER_ID, 0));
+
+        verify(userRepository, never()).findTokenVersion(USER_ID);
+    }
+
+    @Test
+    void futureVersionNotInDatabaseIsRejected() {
+        TokenVersionService service = new TokenVersionService(userRepository, 30);
+
+        assertFalse(service.isCurrent(USER_ID, 5));
+        assertTrue(service.isCurrent(USER_ID, 0));
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.companycoreserver.service;
+
+import com.example.companycoreserver.dto.UserCard;
+import com.example.companycoreserver.repository.DepartmentRepository;
+import com.example.companycoreserver.repository.PositionRepository;
+import com.example.companycoreserver.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * UserAutocompleteIndex - 디렉터리 변경분이 인덱스에 바로 반영되는지
+ */
+class UserAutocompleteIndexTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final OrgDirectory directory = new OrgDirectory(userRepository,
+            mock(DepartmentRepository.class), mock(PositionRepository.class));
+    private final UserAutocompleteIndex index = new UserAutocompleteIndex(directory);
+
+    @BeforeEach
+    void setUp() {
+        when(userRepository.findAllUserCards()).thenReturn(List.of(card(1L, "김철수", true), card(2L, "김영희", true)));
+    }
+
+    @Test
+    void searchesByNameChoseongAndGivenName() {
+        assertEquals(List.of(2L, 1L), ids(index.search("김", null, 10))); // 같은 길이면 이름순
+        assertEquals(List.of(1L), ids(index.search("ㄱㅊ", null, 10)));
+        assertEquals(List.of(2L), ids(index.search("영희", null, 10)));
+    }
+
+    @Test
+    void renameAndDeactivationAreReflectedWithoutRebuild() {
+        index.search("김", null, 10);
+
+        when(userRepository.findUserCard(1L)).thenReturn(Optional.of(card(1L, "박철수", true)));
+        directory.refreshUser(1L);
+        when(userRepository.findUserCard(2L)).thenReturn(Optional.of(card(2L, "김영희", false)));
+        directory.refreshUser(2L);
+
+        assertTrue(index.search("김", null, 10).isEmpty());
+        assertEquals(List.of(1L), ids(index.search("박", null, 10)));
+        verify(userRepository, times(1)).findAllUserCards();
+    }
+
+    private static List<Long> ids(List<UserCard> users) {
+        return users.stream().map(UserCard::userId).toList();
+    }
+
+    private static UserCard card(Long userId, String username, boolean active) {
+        return new UserCard(userId, username, "E" + userId, 1, "개발팀", 1, "사원", active);
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.companycoreserver.service;
+
+import com.example.companycoreserver.dto.UserImportReport;
+import com.example.companycoreserver.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * UserBulkImportService 입력 중단 처리 (DB 는 JdbcTemplate mock 으로 대체, 묶음 크기 2)
+ */
+class UserBulkImportServiceTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final PasswordHashService passwordHashService = mock(PasswordHashService.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final OrgDirectory orgDirectory = mock(OrgDirectory.class);
+
+    private UserBulkImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        when(userRepository.findAllEmails()).thenReturn(List.of());
+        when(userRepository.findAllEmployeeCodes()).thenReturn(List.of());
+        when(passwordHashService.encodeAsync(anyString())).thenReturn(CompletableFuture.completedFuture("{bcrypt}hash"));
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        importService = new UserBulkImportService(userRepository, passwordHashService, jdbcTemplate,
+                transactionManager, orgDirectory, objectMapper, 2, 1, 100);
+    }
+
+    @Test
+    void completeCsvIsNotAborted() throws IOException {
+        UserImportReport report = importService.importCsv(text(csv(3)));
+
+        assertFalse(report.aborted());
+        assertEquals(3, report.imported());
+        assertNull(report.abortReason());
+    }
+
+    @Test
+    void csvReadErrorReportsRowsAlreadyImportedAndFailingRow() throws IOException {
+        InputStream input = new SequenceInputStream(text(csv(3)), failing());
+
+        UserImportReport report = importService.importCsv(input);
+
+        assertTrue(report.aborted());
+        assertEquals(4, report.abortedAtRow());
+        assertEquals(3, report.totalRows());
+        assertEquals(3, report.imported());
+        assertTrue(report.abortReason().contains("입력 읽기 오류"), report.abortReason());
+        // 묶음 2개 (2행 + 남은 1행) 모두 INSERT
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void truncatedJsonReportsRowsAlreadyImportedAndPosition() throws IOException {
+        String json = "[" + jsonUser(1) + "," + jsonUser(2) + ",{\"employeeCode\": \"E3\", \"username\"";
+
+        UserImportReport report = importService.importJson(text(json));
+
+        assertTrue(report.aborted());
+        assertEquals(3, report.abortedAtRow());
+        assertEquals(2, report.imported());
+        assertTrue(report.abortReason().startsWith("JSON 파싱 오류 (줄 1,"), report.abortReason());
+        verify(jdbcTemplate).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void headerErrorIsStillRejectedBeforeAnyInsert() {
+        assertThrows(IllegalArgumentException.class, () -> importService.importCsv(text("unknown,column\n")));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    // ===== 헬퍼 =====
+
+    private static String csv(int rows) {
+        StringBuilder sb = new StringBuilder("employeeCode,username,email\n");
+        for (int i = 1; i <= rows; i++) {
+            sb.append("E").append(i).append(",사용자").append(i).append(",user").append(i).append("@example.com\n");
+        }
+        return sb.toString();
+    }
+
+    private static String jsonUser(int i) {
+        return "{\"employeeCode\": \"E" + i + "\", \"username\": \"사용자" + i + "\", \"email\": \"user" + i + "@example.com\"}";
+    }
+
+    private static InputStream text(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 읽으면 바로 IOException (업로드 도중 연결이 끊긴 경우)
+    private static InputStream failing() {
+        return new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("연결이 끊어졌습니다.");
+            }
+        };
+    }
+}
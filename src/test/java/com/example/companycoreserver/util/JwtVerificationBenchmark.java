@@ -0,0 +1,89 @@
+package com.example.companycoreserver.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 1건당 JWT 검증 비용 비교 (JMH)
+ * - 한 요청에서 userId / employeeCode / 만료 여부를 각각 꺼내므로 토큰을 3번 읽는 상황을 가정
+ * - before        : 기존 방식 (호출마다 키 생성 + 파서 생성 + 서명 검증)
+ * - sharedParser  : 키/파서 재사용, 캐시 없음
+ * - cachedVerifier: 키/파서 재사용 + 검증된 claims 캐시 (TokenVerifier)
+ *
+ * 실행: test-compile 후 main 메서드 실행 (IDE 또는 test 클래스패스로 java 실행)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET_KEY = "mySecretKeyForJWTTokenGenerationThatIsLongEnoughForHS256Algorithm";
+    private static final int READS_PER_REQUEST = 3;
+
+    private String token;
+    private TokenVerifier sharedParserVerifier;
+    private TokenVerifier cachedVerifier;
+
+    @Setup
+    public void setUp() {
+        Key key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+        token = Jwts.builder()
+                .setSubject("EMP001")
+                .claim("userId", 1L)
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 86400000))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+
+        sharedParserVerifier = new TokenVerifier(key, 0, 0);
+        cachedVerifier = new TokenVerifier(key, 10_000, 10 * 60 * 1000L);
+    }
+
+    @Benchmark
+    public void before(Blackhole blackhole) {
+        for (int i = 0; i < READS_PER_REQUEST; i++) {
+            Key key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+            Claims claims = Jwts.parserBuilder()
+                    .setSigningKey(key)
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+            blackhole.consume(claims);
+        }
+    }
+
+    @Benchmark
+    public void sharedParser(Blackhole blackhole) {
+        for (int i = 0; i < READS_PER_REQUEST; i++) {
+            blackhole.consume(sharedParserVerifier.verify(token));
+        }
+    }
+
+    @Benchmark
+    public void cachedVerifier(Blackhole blackhole) {
+        for (int i = 0; i < READS_PER_REQUEST; i++) {
+            blackhole.consume(cachedVerifier.verify(token));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}